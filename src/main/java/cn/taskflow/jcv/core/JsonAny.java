@@ -71,7 +71,7 @@ public class JsonAny extends JsonBasicSchema {
      * @return 表示子模式的JsonSchema对象数组
      */
     public JsonSchema[] getChildren() {
-        return children;
+        return childrenView();
     }
 
     /**
@@ -80,6 +80,7 @@ public class JsonAny extends JsonBasicSchema {
      * @param children 要设置为子模式的JsonBasicSchema对象数组
      */
     public void setChildren(JsonBasicSchema[] children) {
+        checkNotFrozen();
         super.children = children;
     }
 }
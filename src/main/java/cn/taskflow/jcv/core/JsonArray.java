@@ -198,7 +198,7 @@ public class JsonArray extends JsonBasicSchema {
      * @return 子模式数组
      */
     public JsonSchema[] getChildren() {
-        return children;
+        return childrenView();
     }
 
     /**
@@ -25,17 +25,18 @@
  */
 package cn.taskflow.jcv.core;
 
-import cn.taskflow.jcv.codegen.CodeGenerationUtils;
 import cn.taskflow.jcv.encode.NodeFactory;
 import cn.taskflow.jcv.exception.ValidationException;
 import cn.taskflow.jcv.utils.JsvUtils;
 import cn.taskflow.jcv.utils.StringUtils;
 import cn.taskflow.jcv.validation.CustomValidationRule;
+import cn.taskflow.jcv.validation.ValueRangeValidation;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import cn.taskflow.jcv.utils.NodeHelper;
-import cn.taskflow.jcv.encode.GsonEncoder;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
@@ -69,6 +70,18 @@ public class JsonBasicSchema implements JsonSchema {
     @JsonIgnore
     transient volatile List<CustomValidationRule> validationRules = new LinkedList<>();
 
+    // 冻结标记，冻结后模式不可再修改，写入顺序保证其余字段对读取该标记的线程可见
+    private transient volatile boolean            frozen;
+
+    // 冻结后缓存的结构指纹
+    private transient volatile SchemaFingerprint  fingerprint;
+
+    // 冻结后由验证计划缓存的编译结果，派生模式共享未修改子树时一并共享
+    private transient volatile Object             compiledForm;
+
+    // 当前节点独占、可原地修改的规则；复制时副本另持一份，冻结后清空，只在未冻结的节点上读写
+    transient CustomValidationRule                ownedRule;
+
     public JsonBasicSchema() {
     }
 
@@ -92,10 +105,24 @@ public class JsonBasicSchema implements JsonSchema {
      * @return 应用验证器的当前模式实例
      */
     public <T extends JsonBasicSchema> T withValidator(CustomValidationRule customValidationRule) {
+        checkNotFrozen();
         this.validationRules.add(Objects.requireNonNull(customValidationRule));
         return (T) this;
     }
 
+    /**
+     * 获取当前模式上注册的自定义验证规则（只读视图）。
+     *
+     * @return 按注册顺序排列的自定义验证规则
+     */
+    @JsonIgnore
+    public List<CustomValidationRule> getValidationRules() {
+        if (frozen) {
+            return validationRules;
+        }
+        return Collections.unmodifiableList(validationRules);
+    }
+
     public String getName() {
         return name;
     }
@@ -113,24 +140,31 @@ public class JsonBasicSchema implements JsonSchema {
     }
 
     public void setName(String name) {
+        checkNotFrozen();
         this.name = name;
     }
 
     public void setRequired(boolean required) {
+        checkNotFrozen();
         this.required = required;
     }
 
     public void setDataType(DataType dataType) {
+        checkNotFrozen();
         this.dataType = dataType;
     }
 
     public JsonBasicSchema setDescription(String description) {
+        checkNotFrozen();
         this.description = description;
         return this;
     }
 
     @Override
     public final void setParentNode(JsonSchema parentNode) {
+        if (frozen && this.parentNode != parentNode) {
+            throw new IllegalStateException("Frozen schema is attached to another parent: `" + getPath() + "`");
+        }
         this.parentNode = parentNode;
     }
 
@@ -197,16 +231,49 @@ public class JsonBasicSchema implements JsonSchema {
     @Override
     public Primitive asPrimitive() {
         if (isPrimitive()) {
-            return new Primitive(name, required, dataType, description, min, max).setExampleValue(exampleValue);
+            Primitive primitive = new Primitive(name, required, dataType, description, min, max);
+            // Copied as is, setExampleValue would turn a missing example into "null"
+            primitive.exampleValue = exampleValue;
+            return primitive;
         }
         throw JsvUtils.newClassCastException(this.getClass(), Primitive.class);
     }
 
+    /**
+     * 计算当前模式（含所有子节点）的 128 位结构指纹。
+     *
+     * @return 结构指纹
+     * @see SchemaFingerprint
+     */
+    public SchemaFingerprint fingerprint() {
+        if (!frozen) {
+            return SchemaFingerprint.of(this);
+        }
+        SchemaFingerprint value = fingerprint;
+        if (value == null) {
+            fingerprint = value = SchemaFingerprint.of(this);
+        }
+        return value;
+    }
+
+    /**
+     * 按结构指纹比较两个模式，不再序列化为 JSON 字符串；指纹相同时再逐字段确认，避免哈希碰撞误判相等。
+     */
     @Override
     public boolean equals(Object obj) {
-        String this_json = GsonEncoder.INSTANCE.encode(this);
-        String input_json = GsonEncoder.INSTANCE.encode(obj);
-        return this_json.equals(input_json);
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof JsonBasicSchema)) {
+            return false;
+        }
+        JsonBasicSchema that = (JsonBasicSchema) obj;
+        return fingerprint().equals(that.fingerprint()) && SchemaFingerprint.sameStructure(this, that);
+    }
+
+    @Override
+    public int hashCode() {
+        return fingerprint().hashCode();
     }
 
     /**
@@ -216,6 +283,7 @@ public class JsonBasicSchema implements JsonSchema {
      * @return 设置了示例值的当前模式实例
      */
     public JsonBasicSchema setExampleValue(Object exampleValue) {
+        checkNotFrozen();
         this.exampleValue = NodeFactory.stringify(exampleValue);
         return this;
     }
@@ -234,8 +302,170 @@ public class JsonBasicSchema implements JsonSchema {
         }
     }
 
+    /**
+     * 冻结当前模式及其所有子节点：规则列表转为数组、子节点数组复制为私有副本并固定父节点引用，
+     * 之后任何修改都会抛出 {@link IllegalStateException}，冻结后的实例无需同步即可在线程间共享。
+     * <p>
+     * 通过反序列化得到的未定型节点会先转换为具体类型（与 {@code JsonSchemaTypeAdjuster} 一致），
+     * 此时返回的是转换后的新实例；已冻结但父节点不同的子树会被复制后再挂到当前节点下。
+     *
+     * @return 冻结后的模式，通常为当前实例
+     */
+    @Override
+    public JsonSchema freeze() {
+        if (frozen) {
+            return this;
+        }
+        JsonBasicSchema target = typed(this);
+        target.freezeTree(parentNode, false);
+        return target;
+    }
+
+    @Override
+    @JsonIgnore
+    public final boolean isFrozen() {
+        return frozen;
+    }
+
+    /**
+     * 冻结后禁止修改
+     *
+     * @throws IllegalStateException 如果当前模式已冻结
+     */
+    protected final void checkNotFrozen() {
+        if (frozen) {
+            throw new IllegalStateException("Frozen schema cannot be modified: `" + getPath() + "`");
+        }
+    }
+
+    /**
+     * 返回子节点数组，冻结后返回副本以免调用方修改内部状态
+     */
+    final JsonBasicSchema[] childrenView() {
+        return frozen && children != null ? children.clone() : children;
+    }
+
+    /**
+     * 获取已冻结模式的编译结果缓存（供验证计划使用）。
+     *
+     * @return 缓存的编译结果，未冻结或尚未编译时为 null
+     */
+    @JsonIgnore
+    public final Object getCompiledForm() {
+        return compiledForm;
+    }
+
+    /**
+     * 缓存已冻结模式的编译结果（供验证计划使用），未冻结的模式不缓存。
+     *
+     * @param compiledForm 编译结果
+     */
+    public final void cacheCompiledForm(Object compiledForm) {
+        if (frozen) {
+            this.compiledForm = compiledForm;
+        }
+    }
+
+    /**
+     * 基于当前模式派生新模式：只复制从根到被修改节点的路径，其余子树（及其编译结果）与当前模式共享。
+     * 当前模式会先被冻结。
+     *
+     * @return 模式派生器
+     * @see SchemaDeriver
+     */
+    @Override
+    public SchemaDeriver derive() {
+        return new SchemaDeriver((JsonBasicSchema) freeze());
+    }
+
+    /**
+     * 冻结以当前节点为根的子树
+     *
+     * @param parent 当前节点的父节点
+     * @param share  为 true 时已冻结的子节点直接共享（派生模式），否则父节点不同的已冻结子树会被复制
+     */
+    final void freezeTree(JsonSchema parent, boolean share) {
+        this.parentNode = parent;
+        JsonBasicSchema[] nodes = children == null ? new JsonBasicSchema[0] : children.clone();
+        for (int i = 0; i < nodes.length; i++) {
+            JsonBasicSchema child = nodes[i];
+            if (child == null) {
+                continue;
+            }
+            if (child.frozen) {
+                if (share || child.parentNode == this) {
+                    continue;
+                }
+                // A frozen subtree keeps its parent link, so it is copied before being attached here
+                child = child.mutableCopy();
+            } else {
+                child = typed(child);
+            }
+            child.freezeTree(this, share);
+            nodes[i] = child;
+        }
+        this.children = nodes;
+        List<CustomValidationRule> rules = validationRules;
+        this.validationRules = rules.isEmpty() ? Collections.<CustomValidationRule> emptyList() : Collections
+            .unmodifiableList(Arrays.asList(rules.toArray(new CustomValidationRule[0])));
+        // A frozen node never changes its rules again
+        this.ownedRule = null;
+        this.frozen = true;
+    }
+
+    /**
+     * 复制当前节点，副本未冻结且拥有自己的子节点数组与规则列表，子节点与规则本身仍与原节点共享
+     */
+    final JsonBasicSchema mutableCopy() {
+        try {
+            JsonBasicSchema copy = (JsonBasicSchema) super.clone();
+            copy.frozen = false;
+            copy.fingerprint = null;
+            copy.compiledForm = null;
+            // The copy shares the rules and copies one before changing it; the source is left untouched
+            copy.ownedRule = null;
+            copy.children = children == null ? new JsonBasicSchema[0] : children.clone();
+            copy.validationRules = new LinkedList<>(validationRules);
+            CustomValidationRule owned = ownedRule;
+            if (owned != null) {
+                // The source may still change its own rule in place, so the copy takes a private one
+                copy.ownedRule = ((ValueRangeValidation) owned).copy();
+                copy.validationRules.set(copy.validationRules.indexOf(owned), copy.ownedRule);
+            }
+            return copy;
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static JsonBasicSchema typed(JsonBasicSchema schema) {
+        if (schema.isArray()) {
+            return schema.asArray();
+        } else if (schema.isObject()) {
+            return schema.asObject();
+        } else if (schema.isPrimitive()) {
+            return schema.asPrimitive();
+        }
+        return schema;
+    }
+
+    /**
+     * 深度复制当前模式：逐节点复制并保留自定义验证规则，复制结果未冻结、父节点引用指向副本，
+     * 根节点的父节点为 null。
+     */
     @Override
     public JsonSchema clone() {
-        return CodeGenerationUtils.deserialization(CodeGenerationUtils.serialization(this));
+        return deepCopy(null);
+    }
+
+    private JsonBasicSchema deepCopy(JsonSchema parent) {
+        JsonBasicSchema copy = mutableCopy();
+        copy.parentNode = parent;
+        for (int i = 0; i < copy.children.length; i++) {
+            if (copy.children[i] != null) {
+                copy.children[i] = copy.children[i].deepCopy(copy);
+            }
+        }
+        return copy;
     }
 }
@@ -158,6 +158,6 @@ public class JsonObject extends JsonBasicSchema {
      * @return An array of child JsonSchema objects.
      */
     public JsonSchema[] getChildren() {
-        return children;
+        return childrenView();
     }
 }
@@ -138,6 +138,43 @@ public interface JsonSchema extends Cloneable {
      */
     void verify(JsonNode jsonNode) throws ValidationException;
 
+    /**
+     * 对给定的JSON节点执行自定义验证，只返回结果。默认基于 {@link #verify(JsonNode)} 实现，
+     * 实现类可覆盖此方法，使 {@code isValid} 等不需要错误信息的调用不再创建异常。
+     *
+     * @param jsonNode 要验证的JSON节点
+     * @return 验证通过返回true，否则返回false
+     */
+    default boolean accepts(JsonNode jsonNode) {
+        try {
+            verify(jsonNode);
+            return true;
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 冻结Schema，冻结后不可修改，可在线程间无同步共享。
+     *
+     * @return 冻结后的Schema
+     */
+    JsonSchema freeze();
+
+    /**
+     * 检查Schema是否已冻结。
+     *
+     * @return 如果已冻结则返回true
+     */
+    boolean isFrozen();
+
+    /**
+     * 基于当前Schema派生新的Schema，未修改的子树与当前Schema共享。
+     *
+     * @return Schema派生器
+     */
+    SchemaDeriver derive();
+
     /**
      * 深度克隆Schema
      * @return
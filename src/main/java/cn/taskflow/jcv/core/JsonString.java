@@ -17,6 +17,7 @@
 package cn.taskflow.jcv.core;
 
 import cn.taskflow.jcv.validation.EnumValidation;
+import cn.taskflow.jcv.validation.PatternValidation;
 
 /**
  * 表示验证框架中的JSON字符串类型。
@@ -102,24 +103,50 @@ public class JsonString extends Primitive {
     }
 
     /**
-     * 指定此JsonString的值必须在给定的枚举范围内。
+     * 指定此JsonString的值必须在给定的枚举范围内（按枚举常量名称匹配）。
      *
      * @param enumClass 要验证的枚举类
      * @param <E>       枚举的类型
      * @return 此JsonString实例，用于方法链
      */
     public <E extends Enum<E>> JsonString inEnum(Class<E> enumClass) {
-        return this.withValidator((schema, node) -> {
-            if (node == null || node.isNull()) {
-                return true; // 支持可选字段，null是有效的
-            }
-            try {
-                Enum.valueOf(enumClass, node.asText());
-                return true;
-            } catch (IllegalArgumentException e) {
-                return false;
-            }
-        });
+        return withValidator(EnumValidation.of(enumClass));
+    }
+
+    /**
+     * 指定此JsonString的值必须在给定的枚举范围内，可忽略大小写或按 {@code @JsonProperty} / {@code @JsonAlias} 名称匹配。
+     *
+     * @param enumClass 要验证的枚举类
+     * @param options   匹配选项
+     * @param <E>       枚举的类型
+     * @return 此JsonString实例，用于方法链
+     */
+    public <E extends Enum<E>> JsonString inEnum(Class<E> enumClass, EnumValidation.Option... options) {
+        return withValidator(EnumValidation.of(enumClass, options));
+    }
+
+    /**
+     * 指定此JsonString的值必须完整匹配给定的正则表达式。表达式只编译一次，默认使用线性时间匹配器，
+     * 需要回溯的语法使用 {@link java.util.regex.Pattern} 并限制匹配预算，详见 {@link PatternValidation}。
+     *
+     * @param regex 正则表达式
+     * @return 此JsonString实例，用于方法链
+     * @throws java.util.regex.PatternSyntaxException 如果表达式语法错误
+     */
+    public JsonString pattern(String regex) {
+        return withValidator(PatternValidation.of(regex));
+    }
+
+    /**
+     * 指定此JsonString的值必须完整匹配给定的正则表达式，并指定回溯匹配可读取的字符次数上限。
+     *
+     * @param regex    正则表达式
+     * @param maxSteps 回溯匹配的预算
+     * @return 此JsonString实例，用于方法链
+     * @throws java.util.regex.PatternSyntaxException 如果表达式语法错误
+     */
+    public JsonString pattern(String regex, int maxSteps) {
+        return withValidator(PatternValidation.of(regex, maxSteps));
     }
 
     /**
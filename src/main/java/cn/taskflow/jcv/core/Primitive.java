@@ -21,6 +21,8 @@ import cn.taskflow.jcv.utils.JsvUtils;
 import cn.taskflow.jcv.validation.CustomValidationRule;
 import cn.taskflow.jcv.validation.ValueRangeValidation;
 
+import java.util.ListIterator;
+
 /**
  * 表示一个基本参数，这是参数的最小单位。
  * 该类扩展了JsonBasicSchema，并提供了处理具有可选范围验证的基本数据类型的附加功能。
@@ -84,6 +86,7 @@ public class Primitive extends JsonBasicSchema {
      * @return 当前的Primitive实例
      */
     public Primitive setMin(Number min) {
+        checkNotFrozen();
         this.min = min;
         this.check();
         return this;
@@ -129,6 +132,7 @@ public class Primitive extends JsonBasicSchema {
      * @return 当前的Primitive实例
      */
     public Primitive setMax(Number max) {
+        checkNotFrozen();
         this.max = max;
         this.check();
         return this;
@@ -197,41 +201,56 @@ public class Primitive extends JsonBasicSchema {
      * @return 当前的Primitive实例
      */
     public Primitive setExampleValue(Object exampleValue) {
+        checkNotFrozen();
         super.exampleValue = String.valueOf(exampleValue);
         return this;
     }
 
     /**
-     * 限定数据范围
+     * 限定数据范围，取值按数据类型保存（数字按数值比较），多次调用合并到同一规则中
      *
      * @param values
      * @return
+     * @throws IllegalArgumentException 如果取值与数据类型不符，例如为数字类型指定非数字取值
      */
     public Primitive withinValues(Object... values) {
-        for (CustomValidationRule validationRule : validationRules) {
-            if (validationRule.getClass() == ValueRangeValidation.class) {
-                ((ValueRangeValidation) validationRules).addWithinValues(values);
-                return this;
-            }
-        }
-        validationRules.add(ValueRangeValidation.fromWithinValues(values));
+        checkNotFrozen();
+        valueRange().addWithinValues(values);
         return this;
     }
 
     /**
-     * 排除数据范围
+     * 排除数据范围，取值按数据类型保存（数字按数值比较），多次调用合并到同一规则中
      *
      * @param values
      * @return
+     * @throws IllegalArgumentException 如果取值与数据类型不符，例如为数字类型指定非数字取值
      */
     public Primitive excludeValues(Object... values) {
-        for (CustomValidationRule validationRule : validationRules) {
+        checkNotFrozen();
+        valueRange().addExcludeValues(values);
+        return this;
+    }
+
+    /**
+     * Gets the value range rule of this node to change in place, creating one for the data type if absent.
+     * A rule shared with a clone or derived schema is copied first.
+     */
+    private ValueRangeValidation valueRange() {
+        ListIterator<CustomValidationRule> iterator = validationRules.listIterator();
+        while (iterator.hasNext()) {
+            CustomValidationRule validationRule = iterator.next();
             if (validationRule.getClass() == ValueRangeValidation.class) {
-                ((ValueRangeValidation) validationRules).addExcludeValues(values);
-                return this;
+                if (validationRule != ownedRule) {
+                    ownedRule = ((ValueRangeValidation) validationRule).copy();
+                    iterator.set(ownedRule);
+                }
+                return (ValueRangeValidation) ownedRule;
             }
         }
-        validationRules.add(ValueRangeValidation.fromExcludeValues(values));
-        return this;
+        ValueRangeValidation valueRange = ValueRangeValidation.of(getDataType());
+        validationRules.add(valueRange);
+        ownedRule = valueRange;
+        return valueRange;
     }
 }
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.core;
+
+import cn.taskflow.jcv.validation.CustomValidationRule;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Derives schema variants from a frozen base schema with structural sharing.
+ * 基于已冻结的基础模式派生变体：每次修改只复制从根到目标节点的路径，其余子树及其编译结果直接与基础模式共享，
+ * 内存与编译开销只与修改量成正比。
+ * <pre>
+ * JsonSchema tenant = base.derive().optional("a.b").remove("c").bounds("d", 1, 10).build();
+ * </pre>
+ * Paths are relative to the root and use the same dotted form as {@link JsonSchema#getPath()} without the root
+ * name; the element of an array is traversed implicitly, e.g. {@code items.id}. Shared subtrees keep their parent
+ * links into the base schema, which yields the same paths since derivation never renames a node.
+ * 路径相对于根节点（不含根节点名称），数组元素自动穿透。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class SchemaDeriver {
+    private JsonBasicSchema            base;
+    // Private copy of the root, null until the first change
+    private JsonBasicSchema            root;
+    // Nodes copied along changed paths, mutable until build
+    private final Set<JsonBasicSchema> copies = Collections.newSetFromMap(new IdentityHashMap<>());
+
+    SchemaDeriver(JsonBasicSchema base) {
+        this.base = Objects.requireNonNull(base);
+    }
+
+    /**
+     * 将指定路径的节点标记为可选
+     *
+     * @param path 节点路径
+     * @return 当前派生器
+     */
+    public SchemaDeriver optional(String path) {
+        resolve(path).setRequired(false);
+        return this;
+    }
+
+    /**
+     * 将指定路径的节点标记为必填
+     *
+     * @param path 节点路径
+     * @return 当前派生器
+     */
+    public SchemaDeriver required(String path) {
+        resolve(path).setRequired(true);
+        return this;
+    }
+
+    /**
+     * 删除指定路径的节点
+     *
+     * @param path 节点路径
+     * @return 当前派生器
+     */
+    public SchemaDeriver remove(String path) {
+        int dot = path.lastIndexOf('.');
+        JsonBasicSchema parent = dot < 0 ? root() : resolve(path.substring(0, dot));
+        parent = element(parent);
+        int index = indexOf(parent, dot < 0 ? path : path.substring(dot + 1), path);
+        JsonBasicSchema[] children = new JsonBasicSchema[parent.children.length - 1];
+        System.arraycopy(parent.children, 0, children, 0, index);
+        System.arraycopy(parent.children, index + 1, children, index, children.length - index);
+        parent.children = children;
+        return this;
+    }
+
+    /**
+     * 修改指定路径上原始类型节点的取值范围
+     *
+     * @param path 节点路径
+     * @param min  最小值，null 表示不限制
+     * @param max  最大值，null 表示不限制
+     * @return 当前派生器
+     * @throws IllegalArgumentException 如果节点不是原始类型
+     */
+    public SchemaDeriver bounds(String path, Number min, Number max) {
+        JsonBasicSchema node = resolve(path);
+        if (!(node instanceof Primitive)) {
+            throw new IllegalArgumentException("Bounds require a primitive schema: `" + path + "`");
+        }
+        // Both bounds change at once, so the range is checked against the new pair only
+        node.min = min;
+        ((Primitive) node).setMax(max);
+        return this;
+    }
+
+    /**
+     * 为指定路径的节点追加自定义验证规则
+     *
+     * @param path 节点路径
+     * @param rule 验证规则
+     * @return 当前派生器
+     */
+    public SchemaDeriver withValidator(String path, CustomValidationRule rule) {
+        resolve(path).withValidator(rule);
+        return this;
+    }
+
+    /**
+     * 冻结并返回派生结果，之后的修改基于该结果继续派生
+     *
+     * @return 派生出的已冻结模式，未做任何修改时返回基础模式
+     */
+    public JsonSchema build() {
+        if (root == null) {
+            return base;
+        }
+        root.freezeTree(base.getParentNode(), true);
+        base = root;
+        root = null;
+        copies.clear();
+        return base;
+    }
+
+    private JsonBasicSchema root() {
+        if (root == null) {
+            root = base.mutableCopy();
+            copies.add(root);
+        }
+        return root;
+    }
+
+    /**
+     * Resolves a path, copying every node from the root to the target
+     */
+    private JsonBasicSchema resolve(String path) {
+        JsonBasicSchema node = root();
+        for (String name : path.split("\\.", -1)) {
+            node = element(node);
+            node = copy(node, indexOf(node, name, path));
+        }
+        return node;
+    }
+
+    /**
+     * Steps into the element of an array, which has no name of its own
+     */
+    private JsonBasicSchema element(JsonBasicSchema node) {
+        if (node.isArray() && node.children.length > 0) {
+            return copy(node, 0);
+        }
+        return node;
+    }
+
+    private JsonBasicSchema copy(JsonBasicSchema parent, int index) {
+        JsonBasicSchema child = parent.children[index];
+        if (!copies.contains(child)) {
+            child = child.mutableCopy();
+            parent.children[index] = child;
+            copies.add(child);
+        }
+        return child;
+    }
+
+    private static int indexOf(JsonBasicSchema parent, String name, String path) {
+        for (int i = 0; i < parent.children.length; i++) {
+            JsonBasicSchema child = parent.children[i];
+            if (child != null && name.equals(child.getName())) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Undefined schema path: `" + path + "`");
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.core;
+
+import cn.taskflow.jcv.validation.CustomValidationRule;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Iterator;
+import java.util.Objects;
+
+/**
+ * 128-bit structural fingerprint of a schema tree.
+ * 模式树的 128 位结构指纹：按声明顺序覆盖名称、类型、必填标记、描述、示例值、取值范围及自定义规则的标识，
+ * 由两条相互独立的 64 位通道计算，可直接作为去重、缓存与注册表查找的键。
+ * <p>
+ * Bounds are compared by numeric value, so {@code 1}, {@code 1L} and {@code 1.0} hash alike. A custom rule
+ * contributes its class name and its {@code hashCode}: rules which define value equality (such as
+ * {@link cn.taskflow.jcv.validation.EnumValidation} and {@link cn.taskflow.jcv.validation.ValueRangeValidation})
+ * match across instances, lambdas only match themselves.
+ * The parent link is not part of the fingerprint. Equal fingerprints are confirmed by {@link #sameStructure}
+ * before two schemas are treated as equal, so a hash collision never makes distinct schemas equal.
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class SchemaFingerprint {
+    private static final long SEED_HIGH = 0x9E3779B97F4A7C15L;
+    private static final long SEED_LOW  = 0xC2B2AE3D27D4EB4FL;
+    // Markers keeping absent values and sibling boundaries apart
+    private static final long NULL      = 0x5BD1E9955BD1E995L;
+    private static final long END       = 0x27BB2EE687B0B0FDL;
+
+    private final long        high;
+    private final long        low;
+
+    private SchemaFingerprint(long high, long low) {
+        this.high = high;
+        this.low = low;
+    }
+
+    /**
+     * Computes the fingerprint of a schema and all of its descendants
+     *
+     * @param schema the schema
+     * @return the fingerprint
+     */
+    public static SchemaFingerprint of(JsonBasicSchema schema) {
+        Hasher hasher = new Hasher();
+        hasher.schema(schema);
+        return new SchemaFingerprint(fmix(hasher.high), fmix(hasher.low ^ hasher.count));
+    }
+
+    public long getHigh() {
+        return high;
+    }
+
+    public long getLow() {
+        return low;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof SchemaFingerprint)) {
+            return false;
+        }
+        SchemaFingerprint that = (SchemaFingerprint) obj;
+        return high == that.high && low == that.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return (int) (high ^ (high >>> 32));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%016x%016x", high, low);
+    }
+
+    /**
+     * Compares two schema trees field by field, with the same rules as the fingerprint: bounds by numeric value,
+     * custom rules by {@code equals}.
+     * 逐字段比较两个模式树，用于在指纹相同时确认结构确实相同
+     *
+     * @param a a schema, may be null
+     * @param b another schema, may be null
+     * @return whether the fingerprints of both trees are equal by construction
+     */
+    static boolean sameStructure(JsonBasicSchema a, JsonBasicSchema b) {
+        if (a == b) {
+            return true;
+        }
+        if (a == null || b == null) {
+            return false;
+        }
+        if (a.getDataType() != b.getDataType() || a.isRequired() != b.isRequired()
+            || !Objects.equals(a.getName(), b.getName()) || !Objects.equals(a.getDescription(), b.getDescription())
+            || !Objects.equals(a.exampleValue, b.exampleValue) || !Objects.equals(canonical(a.min), canonical(b.min))
+            || !Objects.equals(canonical(a.max), canonical(b.max))) {
+            return false;
+        }
+        if (a.validationRules.size() != b.validationRules.size()) {
+            return false;
+        }
+        Iterator<CustomValidationRule> rules = b.validationRules.iterator();
+        for (CustomValidationRule rule : a.validationRules) {
+            CustomValidationRule other = rules.next();
+            if (rule.getClass() != other.getClass() || !rule.equals(other)) {
+                return false;
+            }
+        }
+        JsonBasicSchema[] children = a.children;
+        JsonBasicSchema[] others = b.children;
+        if (children == null || others == null) {
+            return children == others;
+        }
+        if (children.length != others.length) {
+            return false;
+        }
+        for (int i = 0; i < children.length; i++) {
+            if (!sameStructure(children[i], others[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The numeric identity of a bound: a {@code Long} for integral values, a {@code Double} for NaN and the
+     * infinities, the plain decimal string otherwise
+     */
+    private static Object canonical(Number value) {
+        if (value == null) {
+            return null;
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return value.longValue();
+        } else if (value instanceof BigDecimal || value instanceof BigInteger) {
+            BigDecimal decimal = value instanceof BigDecimal ? (BigDecimal) value : new BigDecimal((BigInteger) value);
+            try {
+                return decimal.longValueExact();
+            } catch (ArithmeticException e) {
+                return decimal.stripTrailingZeros().toString();
+            }
+        }
+        double d = value.doubleValue();
+        long l = (long) d;
+        if (l == d && l != Long.MAX_VALUE && l != Long.MIN_VALUE) {
+            return l;
+        } else if (Double.isNaN(d) || Double.isInfinite(d)) {
+            return d;
+        }
+        // Same form as an equal BigDecimal bound
+        return BigDecimal.valueOf(d).stripTrailingZeros().toString();
+    }
+
+    private static long fmix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    /**
+     * Streaming state of the two lanes, walking the tree depth first without allocating
+     */
+    private static final class Hasher {
+        private long high = SEED_HIGH;
+        private long low  = SEED_LOW;
+        private long count;
+
+        void schema(JsonBasicSchema schema) {
+            if (schema == null) {
+                add(NULL);
+                return;
+            }
+            add(schema.getDataType() == null ? NULL : schema.getDataType().ordinal());
+            add(schema.isRequired() ? 1 : 0);
+            add(schema.getName());
+            add(schema.getDescription());
+            add(schema.exampleValue);
+            add(schema.min);
+            add(schema.max);
+            for (CustomValidationRule rule : schema.validationRules) {
+                add(rule.getClass().getName());
+                add(rule.hashCode());
+            }
+            add(END);
+            if (schema.children != null) {
+                for (JsonBasicSchema child : schema.children) {
+                    schema(child);
+                }
+            }
+            add(END);
+        }
+
+        void add(String value) {
+            if (value == null) {
+                add(NULL);
+                return;
+            }
+            add(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                add(value.charAt(i));
+            }
+        }
+
+        void add(Number value) {
+            Object key = canonical(value);
+            if (key == null) {
+                add(NULL);
+            } else if (key instanceof Long) {
+                add(((Long) key).longValue());
+            } else if (key instanceof Double) {
+                add(Double.doubleToLongBits((Double) key));
+            } else {
+                add((String) key);
+            }
+        }
+
+        void add(long value) {
+            count++;
+            high = Long.rotateLeft(high ^ (value * 0x87C37B91114253D5L), 31) * 5 + 0x52DCE729;
+            low = Long.rotateLeft(low + (value * 0x4CF5AD432745937FL), 27) * 9 + 0x38495AB5;
+        }
+    }
+}
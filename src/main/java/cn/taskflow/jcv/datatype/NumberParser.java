@@ -42,7 +42,7 @@ public class NumberParser {
     }
 
     /**
-     * 将给定的字符串解析为NumberParser对象。根据小数点的存在确定数字是Double还是Long。
+     * 将给定的字符串解析为NumberParser对象。根据小数点或指数（如1e5）的存在确定数字是Double还是Long。
      * 
      * @param value   要解析的数字的字符串表示。
      * @param require 一个布尔标志，指示该值是否为必需。
@@ -51,7 +51,7 @@ public class NumberParser {
     public static NumberParser parse(String value, boolean require) {
         NumberParser numberParser = new NumberParser();
         if (value != null) {
-            if (value.indexOf(".") != -1) {
+            if (value.indexOf('.') != -1 || value.indexOf('e') != -1 || value.indexOf('E') != -1) {
                 numberParser.value = Double.parseDouble(value);
                 numberParser.isDouble = true;
             } else {
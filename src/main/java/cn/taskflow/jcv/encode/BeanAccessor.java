@@ -0,0 +1,296 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.encode;
+
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+
+import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 按类缓存的 Java Bean 属性访问器，用于在不序列化为 JSON 的情况下直接读取对象图。
+ * 属性发现规则与 Jackson 默认规则保持一致：public getter（getXxx/isXxx）、public 字段以及 record 组件，
+ * 属性名经命名策略（驼峰/下划线）转换后作为 JSON 字段名。
+ * <p>
+ * 带有 Jackson 注解、实现 {@link JsonSerializable} 或属于 JDK 的类型由 Jackson 自定义序列化，
+ * 这些类型标记为不支持（{@link #isSupported()} 返回 false），调用方应回退到 {@link JsonNodeConverter#convert}。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class BeanAccessor {
+    /**
+     * 属性不存在时 {@link #get(Object, String)} 的返回值
+     */
+    public static final Object                                 ABSENT    = new Object();
+    private static final MethodType                            GETTER    = MethodType.methodType(Object.class,
+                                                                             Object.class);
+    private static final Map<Object, ClassValue<BeanAccessor>> CACHES    = new ConcurrentHashMap<>();
+    private static final Object                                NO_NAMING = new Object();
+    private static final ClassValue<Boolean>                   ANNOTATED = new ClassValue<Boolean>() {
+                                                                             @Override
+                                                                             protected Boolean computeValue(Class<?> type) {
+                                                                                 try {
+                                                                                     return scanJacksonAnnotations(type);
+                                                                                 } catch (LinkageError e) {
+                                                                                     return Boolean.TRUE;
+                                                                                 }
+                                                                             }
+                                                                         };
+
+    private final boolean                                      supported;
+    private final Map<String, MethodHandle>                    properties;
+
+    private BeanAccessor(Class<?> type, PropertyNamingStrategy naming) {
+        Map<String, MethodHandle> map = null;
+        if (isIntrospectable(type, naming)) {
+            try {
+                map = introspect(type, (PropertyNamingStrategies.NamingBase) naming);
+            } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+                map = null;
+            }
+        }
+        this.supported = map != null;
+        this.properties = map == null ? Collections.emptyMap() : map;
+    }
+
+    /**
+     * 获取指定类型在给定命名策略下的缓存访问器。
+     *
+     * @param type   Bean 类型
+     * @param naming 属性命名策略，null 表示不转换
+     * @return 缓存的访问器
+     */
+    public static BeanAccessor of(Class<?> type, PropertyNamingStrategy naming) {
+        ClassValue<BeanAccessor> cache = CACHES.computeIfAbsent(naming == null ? NO_NAMING : naming,
+            (key) -> new ClassValue<BeanAccessor>() {
+                @Override
+                protected BeanAccessor computeValue(Class<?> type) {
+                    return new BeanAccessor(type, naming);
+                }
+            });
+        return cache.get(type);
+    }
+
+    /**
+     * 当前类型是否可以直接按属性访问；不支持时需回退到 Jackson 序列化。
+     *
+     * @return 可直接访问时返回 true
+     */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * 获取全部 JSON 属性名
+     *
+     * @return 只读的属性名集合
+     */
+    public Set<String> getPropertyNames() {
+        return Collections.unmodifiableSet(properties.keySet());
+    }
+
+    /**
+     * 读取 Bean 的属性值。
+     *
+     * @param bean Bean 实例
+     * @param name JSON 属性名（已按命名策略转换）
+     * @return 属性值；属性不存在时返回 {@link #ABSENT}
+     */
+    public Object get(Object bean, String name) {
+        MethodHandle handle = properties.get(name);
+        if (handle == null) {
+            return ABSENT;
+        }
+        try {
+            return (Object) handle.invokeExact(bean);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to read property '" + name + "' of " + bean.getClass(), e);
+        }
+    }
+
+    private static boolean isIntrospectable(Class<?> type, PropertyNamingStrategy naming) {
+        if (naming != null && !(naming instanceof PropertyNamingStrategies.NamingBase)) {
+            return false;
+        }
+        if (type.isPrimitive() || type.isArray() || type.isInterface() || type.isEnum() || type.isAnonymousClass()) {
+            return false;
+        }
+        String name = type.getName();
+        if (name.startsWith("java.") || name.startsWith("javax.") || name.startsWith("jdk.") || name.startsWith("sun.")
+            || name.startsWith("com.fasterxml.jackson.")) {
+            return false;
+        }
+        if (JsonSerializable.class.isAssignableFrom(type) || Map.class.isAssignableFrom(type)
+            || Iterable.class.isAssignableFrom(type) || Number.class.isAssignableFrom(type)
+            || CharSequence.class.isAssignableFrom(type)) {
+            return false;
+        }
+        return !hasJacksonAnnotations(type);
+    }
+
+    /**
+     * 类型或其父类型、成员上是否存在 Jackson 注解（结果按类缓存）。
+     * 存在时 Jackson 可能改变属性名或序列化形式，调用方应回退到 Jackson 序列化。
+     *
+     * @param type 要检查的类型
+     * @return 存在 Jackson 注解时返回 true
+     */
+    public static boolean hasJacksonAnnotations(Class<?> type) {
+        return ANNOTATED.get(type);
+    }
+
+    private static boolean scanJacksonAnnotations(Class<?> type) {
+        Deque<Class<?>> queue = new ArrayDeque<>();
+        Set<Class<?>> visited = new HashSet<>();
+        queue.add(type);
+        while (!queue.isEmpty()) {
+            Class<?> current = queue.poll();
+            if (current == Object.class || !visited.add(current)) {
+                continue;
+            }
+            if (isJackson(current.getDeclaredAnnotations())) {
+                return true;
+            }
+            for (Method method : current.getDeclaredMethods()) {
+                if (isJackson(method.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+            for (Field field : current.getDeclaredFields()) {
+                if (isJackson(field.getDeclaredAnnotations())) {
+                    return true;
+                }
+            }
+            if (current.getSuperclass() != null) {
+                queue.add(current.getSuperclass());
+            }
+            queue.addAll(Arrays.asList(current.getInterfaces()));
+        }
+        return false;
+    }
+
+    private static boolean isJackson(Annotation[] annotations) {
+        for (Annotation annotation : annotations) {
+            if (annotation.annotationType().getName().startsWith("com.fasterxml.jackson.")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Map<String, MethodHandle> introspect(Class<?> type, PropertyNamingStrategies.NamingBase naming)
+                                                                                                                throws ReflectiveOperationException {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        // 内部属性名 -> 访问器，getter 优先于同名字段
+        Map<String, MethodHandle> internal = new LinkedHashMap<>();
+        for (Field field : type.getFields()) {
+            int modifiers = field.getModifiers();
+            if (!Modifier.isStatic(modifiers) && !Modifier.isTransient(modifiers)) {
+                internal.put(field.getName(), lookup.unreflectGetter(accessible(field)).asType(GETTER));
+            }
+        }
+        for (String component : recordComponents(type)) {
+            internal.put(component, lookup.unreflect(accessible(type.getMethod(component))).asType(GETTER));
+        }
+        for (Method method : type.getMethods()) {
+            String property = getterProperty(method);
+            if (property != null) {
+                internal.put(property, lookup.unreflect(accessible(method)).asType(GETTER));
+            }
+        }
+        Map<String, MethodHandle> properties = new HashMap<>(internal.size() * 2);
+        internal.forEach((name, handle) -> properties.put(naming == null ? name : naming.translate(name), handle));
+        return properties;
+    }
+
+    private static <T extends AccessibleObject> T accessible(T member) {
+        if (!member.isAccessible()) {
+            member.setAccessible(true);
+        }
+        return member;
+    }
+
+    /**
+     * 按 Jackson 默认规则解析 getter 对应的内部属性名：getXxx、返回 boolean 或 Boolean 的 isXxx，
+     * 前导大写字母整体转为小写（getURL → url）。
+     */
+    private static String getterProperty(Method method) {
+        if (Modifier.isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.isSynthetic()
+            || method.isBridge() || method.getReturnType() == void.class) {
+            return null;
+        }
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            if ("getClass".equals(name)) {
+                return null;
+            }
+            return mangle(name.substring(3));
+        } else if (name.startsWith("is") && name.length() > 2
+                   && (method.getReturnType() == boolean.class || method.getReturnType() == Boolean.class)) {
+            return mangle(name.substring(2));
+        }
+        return null;
+    }
+
+    private static String mangle(String name) {
+        StringBuilder sb = null;
+        for (int i = 0; i < name.length(); i++) {
+            char upper = name.charAt(i);
+            char lower = Character.toLowerCase(upper);
+            if (upper == lower) {
+                break;
+            }
+            if (sb == null) {
+                sb = new StringBuilder(name);
+            }
+            sb.setCharAt(i, lower);
+        }
+        return sb == null ? name : sb.toString();
+    }
+
+    /**
+     * 通过反射读取 record 组件名（Java 16+），低版本 JDK 返回空列表。
+     */
+    private static List<String> recordComponents(Class<?> type) {
+        try {
+            if (!(Boolean) Class.class.getMethod("isRecord").invoke(type)) {
+                return Collections.emptyList();
+            }
+            Object[] components = (Object[]) Class.class.getMethod("getRecordComponents").invoke(type);
+            List<String> names = new ArrayList<>(components.length);
+            for (Object component : components) {
+                names.add((String) component.getClass().getMethod("getName").invoke(component));
+            }
+            return names;
+        } catch (ReflectiveOperationException e) {
+            return Collections.emptyList();
+        }
+    }
+}
@@ -16,12 +16,17 @@
  */
 package cn.taskflow.jcv.encode;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -34,7 +39,11 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class NodeFactory {
     // 用于 JSON 操作的静态 JsonNodeConverter 实例
-    private static JsonNodeConverter jsonNodeConverter = new DefaultJsonNodeConverter(new CamelCaseObjectMapper());
+    private static JsonNodeConverter  jsonNodeConverter = new DefaultJsonNodeConverter(new CamelCaseObjectMapper());
+    // 用于创建流式解析器的共享 JsonFactory（线程安全）
+    private static final JsonFactory  jsonFactory       = new JsonFactory();
+    // 用于把字节与输入流直接解析为 JsonNode 树（线程安全）
+    private static final ObjectMapper treeMapper        = new ObjectMapper(jsonFactory);
 
     /**
      * 设置自定义的 JsonNodeConverter。
@@ -115,6 +124,87 @@ public class NodeFactory {
         return jsonNodeConverter.parser(json);
     }
 
+    /**
+     * 将 JSON 字节解析为 JsonNode，不先解码为字符串。
+     *
+     * @param json JSON 字节内容（UTF-8/UTF-16/UTF-32 自动识别）
+     * @return 生成的 JsonNode
+     */
+    public static JsonNode parser(byte[] json) {
+        try {
+            return treeMapper.readTree(json);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 将 JSON 输入流解析为 JsonNode，解析结束后关闭输入流。
+     *
+     * @param in JSON 输入流
+     * @return 生成的 JsonNode
+     */
+    public static JsonNode parser(InputStream in) {
+        try (InputStream input = in) {
+            return treeMapper.readTree(input);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * 获取用于创建流式解析器的共享 JsonFactory。
+     *
+     * @return 共享的 JsonFactory
+     */
+    public static JsonFactory getJsonFactory() {
+        return jsonFactory;
+    }
+
+    /**
+     * 为输入流创建流式 JsonParser，解析结束后由解析器关闭输入流。
+     *
+     * @param in JSON 输入流
+     * @return 流式解析器
+     * @throws IOException 创建解析器失败时抛出
+     */
+    public static JsonParser createParser(InputStream in) throws IOException {
+        return jsonFactory.createParser(in);
+    }
+
+    /**
+     * 为字节数组创建流式 JsonParser。
+     *
+     * @param data JSON 字节内容（UTF-8/UTF-16/UTF-32 自动识别）
+     * @return 流式解析器
+     * @throws IOException 创建解析器失败时抛出
+     */
+    public static JsonParser createParser(byte[] data) throws IOException {
+        return jsonFactory.createParser(data);
+    }
+
+    /**
+     * 为 JSON 字符串创建流式 JsonParser。
+     *
+     * @param json JSON 字符串
+     * @return 流式解析器
+     * @throws IOException 创建解析器失败时抛出
+     */
+    public static JsonParser createParser(String json) throws IOException {
+        return jsonFactory.createParser(json);
+    }
+
+    /**
+     * 为字符流创建流式 JsonParser，解析结束后由解析器关闭字符流。
+     *
+     * @param reader JSON 字符流
+     * @return 流式解析器
+     * @throws IOException 创建解析器失败时抛出
+     */
+    public static JsonParser createParser(Reader reader) throws IOException {
+        return jsonFactory.createParser(reader);
+    }
+
     /**
      * 将 Java 对象转换为 JsonNode。
      *
@@ -0,0 +1,466 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.encode;
+
+import cn.taskflow.jcv.core.DataType;
+import cn.taskflow.jcv.core.JsonAny;
+import cn.taskflow.jcv.core.JsonArray;
+import cn.taskflow.jcv.core.JsonBasicSchema;
+import cn.taskflow.jcv.core.JsonBoolean;
+import cn.taskflow.jcv.core.JsonNumber;
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.core.JsonString;
+import cn.taskflow.jcv.core.Primitive;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Versioned binary snapshot of named schemas, read back through a memory-mapped file.
+ * 模式的二进制快照：带版本号、字符串表去重、节点带具体类型，读取时通过内存映射按需解码，
+ * 启动时只需映射文件，不再解析 JSON，也不需要 {@code JsonSchemaTypeAdjuster} 重新包装节点。
+ * <p>
+ * Layout, big-endian:
+ * <pre>
+ * header    magic 'JCVS', u16 version, u16 reserved, i32 stringCount, i32 schemaCount,
+ *           i32 stringsOffset, i32 directoryOffset, i32 nodesOffset
+ * strings   i32 offset per string, then per string: i32 byteLength, UTF-8 bytes
+ * directory per schema: i32 name, i32 node offset
+ * nodes     per node: u8 type, u8 flags, i32 name, i32 description, i32 example, min, max,
+ *           i32 childCount, i32 offset per child (children are written before their parent)
+ * </pre>
+ * String references are indexes into the string table, -1 for null; node offsets are relative to the node
+ * section. Strings are decoded on first use and a schema is materialized, typed and frozen, on its first
+ * {@link #get(String)}; the following lookups return the same instance. Custom validation rules are code and are
+ * not part of the snapshot, add them with {@code derive().withValidator(path, rule)}.
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class SchemaSnapshot {
+    static final int                               MAGIC         = 0x4A435653;
+    static final short                             VERSION       = 1;
+    private static final int                       HEADER_SIZE   = 28;
+
+    private static final byte                      TYPE_OBJECT   = 1;
+    private static final byte                      TYPE_ARRAY    = 2;
+    private static final byte                      TYPE_STRING   = 3;
+    private static final byte                      TYPE_NUMBER   = 4;
+    private static final byte                      TYPE_BOOLEAN  = 5;
+    private static final byte                      TYPE_ANY      = 6;
+
+    private static final byte                      FLAG_REQUIRED = 1;
+
+    private static final byte                      NUM_NULL      = 0;
+    private static final byte                      NUM_INT       = 1;
+    private static final byte                      NUM_LONG      = 2;
+    private static final byte                      NUM_DOUBLE    = 3;
+    private static final byte                      NUM_DECIMAL   = 4;
+    private static final byte                      NUM_INTEGER   = 5;
+
+    private final ByteBuffer                       buffer;
+    private final int                              stringsOffset;
+    private final int                              directoryOffset;
+    private final int                              nodesOffset;
+    private final String[]                         strings;
+    private final Map<String, Integer>             directory;
+    private final AtomicReferenceArray<JsonSchema> schemas;
+
+    private SchemaSnapshot(ByteBuffer buffer) {
+        this.buffer = buffer;
+        if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalArgumentException("Not a schema snapshot");
+        }
+        int version = buffer.getShort(4);
+        if (version != VERSION) {
+            throw new IllegalArgumentException("Unsupported schema snapshot version: " + version);
+        }
+        int stringCount = buffer.getInt(8);
+        int schemaCount = buffer.getInt(12);
+        this.stringsOffset = buffer.getInt(16);
+        this.directoryOffset = buffer.getInt(20);
+        this.nodesOffset = buffer.getInt(24);
+        this.strings = new String[stringCount];
+        this.schemas = new AtomicReferenceArray<>(schemaCount);
+        Map<String, Integer> entries = new LinkedHashMap<>(schemaCount * 2);
+        for (int i = 0; i < schemaCount; i++) {
+            entries.put(string(buffer.getInt(directoryOffset + i * 8)), i);
+        }
+        this.directory = Collections.unmodifiableMap(entries);
+    }
+
+    /**
+     * Maps a snapshot file into memory
+     *
+     * @param file the snapshot file
+     * @return the snapshot, schemas are decoded on first access
+     * @throws IOException if the file cannot be mapped
+     */
+    public static SchemaSnapshot open(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            // The mapping stays valid after the channel is closed
+            return new SchemaSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    /**
+     * Reads a snapshot held in memory
+     *
+     * @param buffer the snapshot bytes, from position 0
+     * @return the snapshot
+     */
+    public static SchemaSnapshot wrap(ByteBuffer buffer) {
+        return new SchemaSnapshot(buffer.duplicate());
+    }
+
+    /**
+     * Gets the names of all schemas in the snapshot
+     *
+     * @return the names
+     */
+    public Set<String> names() {
+        return directory.keySet();
+    }
+
+    public int size() {
+        return directory.size();
+    }
+
+    public boolean contains(String name) {
+        return directory.containsKey(name);
+    }
+
+    /**
+     * Gets a schema, materializing it on first access
+     *
+     * @param name the schema name
+     * @return the frozen schema, or null when the snapshot has no such schema
+     */
+    public JsonSchema get(String name) {
+        Integer index = directory.get(name);
+        if (index == null) {
+            return null;
+        }
+        JsonSchema schema = schemas.get(index);
+        if (schema == null) {
+            JsonBasicSchema root = node(nodesOffset + buffer.getInt(directoryOffset + index * 8 + 4));
+            schemas.compareAndSet(index, null, root.freeze());
+            schema = schemas.get(index);
+        }
+        return schema;
+    }
+
+    private JsonBasicSchema node(int offset) {
+        byte type = buffer.get(offset);
+        boolean required = (buffer.get(offset + 1) & FLAG_REQUIRED) != 0;
+        String name = string(buffer.getInt(offset + 2));
+        String description = string(buffer.getInt(offset + 6));
+        String example = string(buffer.getInt(offset + 10));
+        int position = offset + 14;
+        Number min = number(position);
+        position += numberSize(position);
+        Number max = number(position);
+        position += numberSize(position);
+        int childCount = buffer.getInt(position);
+        position += 4;
+        JsonBasicSchema[] children = new JsonBasicSchema[childCount];
+        for (int i = 0; i < childCount; i++) {
+            children[i] = node(nodesOffset + buffer.getInt(position + i * 4));
+        }
+        JsonBasicSchema schema;
+        switch (type) {
+            case TYPE_OBJECT:
+                return new JsonObject(name, required, description, children);
+            case TYPE_ARRAY:
+                return new JsonArray(name, required, description, childCount > 0 ? children[0] : null);
+            case TYPE_ANY:
+                JsonAny any = new JsonAny(name, required, description);
+                any.setChildren(children);
+                return any;
+            case TYPE_STRING:
+                schema = new JsonString(name, required, DataType.String, description, min, max);
+                break;
+            case TYPE_NUMBER:
+                schema = new JsonNumber(name, required, DataType.Number, description, min, max);
+                break;
+            case TYPE_BOOLEAN:
+                schema = new JsonBoolean(name, required, DataType.Boolean, description, min, max);
+                break;
+            default:
+                throw new IllegalArgumentException("Corrupt schema snapshot, node type: " + type);
+        }
+        if (example != null) {
+            ((Primitive) schema).setExampleValue(example);
+        }
+        return schema;
+    }
+
+    private String string(int index) {
+        if (index < 0) {
+            return null;
+        }
+        String value = strings[index];
+        if (value == null) {
+            int offset = stringsOffset + buffer.getInt(HEADER_SIZE + index * 4);
+            byte[] bytes = new byte[buffer.getInt(offset)];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = buffer.get(offset + 4 + i);
+            }
+            // Racing threads decode equal strings, either one may be kept
+            strings[index] = value = new String(bytes, StandardCharsets.UTF_8);
+        }
+        return value;
+    }
+
+    private Number number(int offset) {
+        switch (buffer.get(offset)) {
+            case NUM_NULL:
+                return null;
+            case NUM_INT:
+                return (int) buffer.getLong(offset + 1);
+            case NUM_LONG:
+                return buffer.getLong(offset + 1);
+            case NUM_DOUBLE:
+                return buffer.getDouble(offset + 1);
+            case NUM_DECIMAL:
+                return new BigDecimal(string(buffer.getInt(offset + 1)));
+            case NUM_INTEGER:
+                return new BigInteger(string(buffer.getInt(offset + 1)));
+            default:
+                throw new IllegalArgumentException("Corrupt schema snapshot, number kind: " + buffer.get(offset));
+        }
+    }
+
+    private int numberSize(int offset) {
+        byte kind = buffer.get(offset);
+        if (kind == NUM_NULL) {
+            return 1;
+        }
+        return kind == NUM_DECIMAL || kind == NUM_INTEGER ? 5 : 9;
+    }
+
+    /**
+     * Writes a snapshot file, replacing an existing one atomically
+     *
+     * @param schemas schemas by name, in the order they are written
+     * @param file    the snapshot file
+     * @throws IOException if the file cannot be written
+     */
+    public static void write(Map<String, ? extends JsonSchema> schemas, Path file) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                write(schemas, out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    /**
+     * Writes a snapshot to a stream, which is left open
+     *
+     * @param schemas schemas by name, in the order they are written
+     * @param out     the target stream
+     * @throws IOException if the stream cannot be written
+     */
+    public static void write(Map<String, ? extends JsonSchema> schemas, OutputStream out) throws IOException {
+        new Writer().write(schemas, out);
+    }
+
+    /**
+     * Encodes the schema trees, interning every string into one table
+     */
+    private static final class Writer {
+        private final Map<String, Integer>  indexes = new HashMap<>();
+        private final List<byte[]>          strings = new ArrayList<>();
+        private final ByteArrayOutputStream nodes   = new ByteArrayOutputStream();
+        private final DataOutputStream      data    = new DataOutputStream(nodes);
+
+        void write(Map<String, ? extends JsonSchema> schemas, OutputStream out) throws IOException {
+            int[] names = new int[schemas.size()];
+            int[] roots = new int[schemas.size()];
+            int i = 0;
+            for (Map.Entry<String, ? extends JsonSchema> entry : schemas.entrySet()) {
+                names[i] = intern(entry.getKey());
+                roots[i] = node(entry.getValue());
+                i++;
+            }
+            int stringsOffset = HEADER_SIZE + strings.size() * 4;
+            int stringBytes = 0;
+            for (byte[] bytes : strings) {
+                stringBytes += 4 + bytes.length;
+            }
+            int directoryOffset = stringsOffset + stringBytes;
+            int nodesOffset = directoryOffset + names.length * 8;
+
+            DataOutputStream output = new DataOutputStream(out);
+            output.writeInt(MAGIC);
+            output.writeShort(VERSION);
+            output.writeShort(0);
+            output.writeInt(strings.size());
+            output.writeInt(names.length);
+            output.writeInt(stringsOffset);
+            output.writeInt(directoryOffset);
+            output.writeInt(nodesOffset);
+            int offset = 0;
+            for (byte[] bytes : strings) {
+                output.writeInt(offset);
+                offset += 4 + bytes.length;
+            }
+            for (byte[] bytes : strings) {
+                output.writeInt(bytes.length);
+                output.write(bytes);
+            }
+            for (int j = 0; j < names.length; j++) {
+                output.writeInt(names[j]);
+                output.writeInt(roots[j]);
+            }
+            nodes.writeTo(output);
+            output.flush();
+        }
+
+        /**
+         * Writes the children of a node, then the node itself
+         *
+         * @return offset of the node in the node section
+         */
+        private int node(JsonSchema schema) throws IOException {
+            JsonSchema[] children = childrenOf(schema);
+            int[] offsets = new int[children.length];
+            for (int i = 0; i < children.length; i++) {
+                offsets[i] = node(children[i]);
+            }
+            int offset = data.size();
+            data.writeByte(typeOf(schema));
+            data.writeByte(schema.isRequired() ? FLAG_REQUIRED : 0);
+            data.writeInt(intern(schema.getName()));
+            data.writeInt(intern(schema instanceof JsonBasicSchema ? ((JsonBasicSchema) schema).getDescription() : null));
+            Primitive primitive = schema.isPrimitive() ? schema.asPrimitive() : null;
+            data.writeInt(intern(primitive == null ? null : primitive.getExampleValue()));
+            number(primitive == null ? null : primitive.getMin());
+            number(primitive == null ? null : primitive.getMax());
+            data.writeInt(offsets.length);
+            for (int childOffset : offsets) {
+                data.writeInt(childOffset);
+            }
+            return offset;
+        }
+
+        private void number(Number value) throws IOException {
+            if (value == null) {
+                data.writeByte(NUM_NULL);
+            } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+                data.writeByte(NUM_INT);
+                data.writeLong(value.longValue());
+            } else if (value instanceof Long) {
+                data.writeByte(NUM_LONG);
+                data.writeLong(value.longValue());
+            } else if (value instanceof BigDecimal) {
+                data.writeByte(NUM_DECIMAL);
+                data.writeInt(intern(value.toString()));
+            } else if (value instanceof BigInteger) {
+                data.writeByte(NUM_INTEGER);
+                data.writeInt(intern(value.toString()));
+            } else if (value instanceof Double || value instanceof Float) {
+                data.writeByte(NUM_DOUBLE);
+                data.writeDouble(value.doubleValue());
+            } else {
+                // Lazily parsed numbers, as decoded by Gson, keep their exact text
+                data.writeByte(NUM_DECIMAL);
+                data.writeInt(intern(new BigDecimal(value.toString()).toString()));
+            }
+        }
+
+        private int intern(String value) {
+            if (value == null) {
+                return -1;
+            }
+            Integer index = indexes.get(value);
+            if (index == null) {
+                index = strings.size();
+                indexes.put(value, index);
+                strings.add(value.getBytes(StandardCharsets.UTF_8));
+            }
+            return index;
+        }
+
+        private static JsonSchema[] childrenOf(JsonSchema schema) {
+            JsonSchema[] children = null;
+            if (schema.isObject()) {
+                children = schema.asObject().getChildren();
+            } else if (schema.isArray()) {
+                children = schema.asArray().getChildren();
+            } else if (schema instanceof JsonAny) {
+                children = ((JsonAny) schema).getChildren();
+            }
+            if (children == null) {
+                return new JsonSchema[0];
+            }
+            List<JsonSchema> list = new ArrayList<>(children.length);
+            for (JsonSchema child : children) {
+                if (child != null) {
+                    list.add(child);
+                }
+            }
+            return list.toArray(new JsonSchema[0]);
+        }
+
+        private static byte typeOf(JsonSchema schema) {
+            DataType dataType = schema.getDataType();
+            if (dataType == null) {
+                throw new IllegalArgumentException("Schema without data type: `" + schema.getPath() + "`");
+            }
+            switch (dataType) {
+                case Object:
+                    return TYPE_OBJECT;
+                case Array:
+                    return TYPE_ARRAY;
+                case String:
+                    return TYPE_STRING;
+                case Number:
+                    return TYPE_NUMBER;
+                case Boolean:
+                    return TYPE_BOOLEAN;
+                default:
+                    return TYPE_ANY;
+            }
+        }
+    }
+}
@@ -29,7 +29,8 @@ import org.slf4j.LoggerFactory;
  * This class is responsible for setting parent node references for JSON schema objects.
  * It provides methods to refresh parent references for both lists and arrays of JSON schemas.
  * 
- * 对象父级节点引用设置
+ * 对象父级节点引用设置，已冻结的子树在冻结时已固定父节点引用，不再修改：未冻结的父节点下可以直接共享已冻结的子树，
+ * 该子树沿用冻结时的父节点引用与路径。
  *
  * @author KEVIN LUAN
  */
@@ -79,6 +80,9 @@ public class JsonSchemaParentRefresher {
      * @param parent The parent JSON schema to be set as the parent node.
      */
     private static void arrayParam(JsonArray array, JsonSchema parent) {
+        if (array.isFrozen()) {
+            return;
+        }
         array.setParentNode(parent);
         if (array.existsChildren()) {
             Optional<JsonSchema> optional = array.getSchemaForFirstChildren();
@@ -87,7 +91,7 @@ public class JsonSchemaParentRefresher {
                 if (jsonSchema.isObject()) {
                     objectParam(jsonSchema.asObject(), array);
                 } else if (jsonSchema.isPrimitive()) {
-                    jsonSchema.setParentNode(array);
+                    primitiveParam(jsonSchema, array);
                 } else if (jsonSchema.isArray()) {
                     arrayParam(jsonSchema.asArray(), array);
                 } else {
@@ -105,13 +109,16 @@ public class JsonSchemaParentRefresher {
      * @param parent The parent JSON schema to be set as the parent node.
      */
     private static void objectParam(JsonObject object, JsonSchema parent) {
+        if (object.isFrozen()) {
+            return;
+        }
         object.setParentNode(parent);
         if (object.existsChildren()) {
             for (JsonSchema pm : object.getChildren()) {
                 if (pm.isObject()) {
                     objectParam(pm.asObject(), object);
                 } else if (pm.isPrimitive()) {
-                    pm.setParentNode(object);
+                    primitiveParam(pm, object);
                 } else if (pm.isArray()) {
                     arrayParam(pm.asArray(), object);
                 } else {
@@ -120,4 +127,10 @@ public class JsonSchemaParentRefresher {
             }
         }
     }
+
+    private static void primitiveParam(JsonSchema primitive, JsonSchema parent) {
+        if (!primitive.isFrozen()) {
+            primitive.setParentNode(parent);
+        }
+    }
 }
@@ -44,6 +44,10 @@ public class JsonSchemaTypeAdjuster {
     public static void adjust(List<JsonSchema> jsonSchemaList) {
         for (int i = 0; i < jsonSchemaList.size(); i++) {
             JsonSchema jsonSchema = jsonSchemaList.get(i);
+            if (jsonSchema.isFrozen()) {
+                // Frozen schemas are typed when they are frozen
+                continue;
+            }
             if (jsonSchema.isArray()) {
                 jsonSchemaList.set(i, jsonSchema.asArray());
                 jsonSchema = jsonSchemaList.get(i);
@@ -70,6 +74,9 @@ public class JsonSchemaTypeAdjuster {
      */
     public static JsonSchema adjust(JsonSchema jsonSchema) {
         JsonSchema refJsonSchema = jsonSchema;
+        if (jsonSchema.isFrozen()) {
+            return refJsonSchema;
+        }
         if (jsonSchema.isArray()) {
             refJsonSchema = jsonSchema.asArray();
             refreshChildrens(jsonSchema.asArray().getChildren());
@@ -91,6 +98,9 @@ public class JsonSchemaTypeAdjuster {
      * @param children the JsonSchema object whose children need to be refreshed
      */
     private static void refreshChildrens(JsonSchema children) {
+        if (children.isFrozen()) {
+            return;
+        }
         if (children.isArray()) {
             JsonArray array = children.asArray();
             refreshChildrens(array.getChildren());
@@ -110,6 +120,9 @@ public class JsonSchemaTypeAdjuster {
     private static void refreshChildrens(JsonSchema[] childrens) {
         if (childrens != null) {
             for (int i = 0; i < childrens.length; i++) {
+                if (childrens[i].isFrozen()) {
+                    continue;
+                }
                 if (childrens[i].isArray()) {
                     childrens[i] = childrens[i].asArray();
                     refreshChildrens(childrens[i]);
@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.registry;
+
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.utils.Encoder;
+import cn.taskflow.jcv.utils.JsonParser;
+import cn.taskflow.jcv.validation.Validator;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Loads schemas from the JSON files of a directory into a {@link SchemaRegistry} and reloads them on change.
+ * 从目录加载模式文件并监听变更：文件变化后仅在后台线程重新编译发生变化的模式，再以原子交换发布新版本，
+ * 无需重新部署，也不会在请求线程上产生编译延迟。
+ * <p>
+ * {@code name.schema.json} files hold the schema DSL, decoded with {@link Encoder#decode(String)};
+ * other {@code name.json} files hold sample data, turned into a schema with
+ * {@link JsonParser#parseJsonSchema(String)}. The schema is registered as {@code name} and frozen. When both
+ * {@code name.schema.json} and {@code name.json} exist, the DSL file defines the schema and the sample file is
+ * ignored until the DSL file is deleted. A file which fails to load is logged and the previous version of its
+ * schema stays published.
+ * {@code *.schema.json} 为模式定义 DSL，其余 {@code *.json} 为示例数据；同名时 DSL 文件优先。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class SchemaDirectoryWatcher implements Closeable {
+    private static final Logger   LOG          = LoggerFactory.getLogger(SchemaDirectoryWatcher.class);
+    static final String           DSL_SUFFIX   = ".schema.json";
+    static final String           JSON_SUFFIX  = ".json";
+    // Editors write a file in several steps, events are collected for this long before reloading
+    private static final long     QUIET_MILLIS = 100;
+
+    private final SchemaRegistry  registry;
+    private final Path            directory;
+    // Names registered from files of this directory
+    private final Set<String>     loaded       = ConcurrentHashMap.newKeySet();
+    private volatile WatchService watchService;
+    private volatile Thread       thread;
+
+    public SchemaDirectoryWatcher(SchemaRegistry registry, Path directory) {
+        this.registry = registry;
+        this.directory = directory;
+    }
+
+    /**
+     * 加载目录中的全部模式文件并一次性发布
+     *
+     * @return 发布后的版本
+     * @throws IOException           如果目录无法读取
+     * @throws IllegalStateException 如果某个模式文件无法加载
+     */
+    public SchemaRegistry.Version loadAll() throws IOException {
+        Set<String> names = new TreeSet<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + JSON_SUFFIX)) {
+            for (Path file : files) {
+                names.add(nameOf(file));
+            }
+        }
+        Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+        for (String name : names) {
+            Path file = sourceOf(name);
+            if (file.getFileName().toString().endsWith(DSL_SUFFIX)
+                && Files.exists(directory.resolve(name + JSON_SUFFIX))) {
+                LOG.warn("Both {}{} and {}{} define schema '{}', the DSL file is used", name, DSL_SUFFIX, name,
+                    JSON_SUFFIX, name);
+            }
+            try {
+                schemas.put(name, load(file));
+            } catch (IOException | RuntimeException e) {
+                throw new IllegalStateException("Invalid schema file: " + file, e);
+            }
+        }
+        SchemaRegistry.Version version = registry.registerAll(schemas);
+        loaded.addAll(schemas.keySet());
+        return version;
+    }
+
+    /**
+     * 启动后台监听线程
+     *
+     * @return 当前实例
+     * @throws IOException 如果无法注册目录监听
+     */
+    public synchronized SchemaDirectoryWatcher start() throws IOException {
+        if (thread != null) {
+            return this;
+        }
+        WatchService service = directory.getFileSystem().newWatchService();
+        directory.register(service, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY,
+            StandardWatchEventKinds.ENTRY_DELETE);
+        this.watchService = service;
+        Thread watcher = new Thread(this::watch, "jcv-schema-watcher");
+        watcher.setDaemon(true);
+        this.thread = watcher;
+        watcher.start();
+        return this;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        Thread watcher = thread;
+        thread = null;
+        if (watchService != null) {
+            watchService.close();
+        }
+        if (watcher != null) {
+            watcher.interrupt();
+        }
+    }
+
+    private void watch() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                WatchKey key = watchService.take();
+                Set<Path> changed = new LinkedHashSet<>();
+                do {
+                    collect(key, changed);
+                } while ((key = watchService.poll(QUIET_MILLIS, TimeUnit.MILLISECONDS)) != null);
+                reload(changed);
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // closed
+        }
+    }
+
+    private void collect(WatchKey key, Set<Path> changed) {
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                // Events were lost, every file is checked again
+                try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "*" + JSON_SUFFIX)) {
+                    files.forEach(changed::add);
+                } catch (IOException e) {
+                    LOG.warn("Failed to list schema directory: {}", directory, e);
+                }
+                for (String name : loaded) {
+                    changed.add(directory.resolve(name + JSON_SUFFIX));
+                }
+                continue;
+            }
+            Path file = directory.resolve((Path) event.context());
+            if (file.getFileName().toString().endsWith(JSON_SUFFIX)) {
+                changed.add(file);
+            }
+        }
+        key.reset();
+    }
+
+    /**
+     * Compiles the changed files and publishes them as one version
+     */
+    void reload(Set<Path> changed) {
+        Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+        Set<String> removed = new LinkedHashSet<>();
+        for (Path changedFile : changed) {
+            String name = nameOf(changedFile);
+            if (schemas.containsKey(name) || removed.contains(name)) {
+                continue;
+            }
+            // A name may be backed by both forms, it stays while one exists and the DSL file takes precedence
+            Path file = sourceOf(name);
+            if (!Files.exists(file)) {
+                if (loaded.contains(name)) {
+                    removed.add(name);
+                }
+                continue;
+            }
+            try {
+                schemas.put(name, load(file));
+            } catch (IOException | RuntimeException e) {
+                LOG.error("Failed to load schema file, the previous version is kept: {}", file, e);
+            }
+        }
+        Map<String, Validator> validators = new LinkedHashMap<>();
+        Map<String, Long> compileNanos = new LinkedHashMap<>();
+        Map<String, JsonSchema> published = registry.current().getSchemas();
+        for (Map.Entry<String, JsonSchema> entry : schemas.entrySet()) {
+            if (entry.getValue().equals(published.get(entry.getKey()))) {
+                // Touched but structurally unchanged
+                continue;
+            }
+            try {
+                long start = System.nanoTime();
+                validators.put(entry.getKey(), SchemaRegistry.compile(entry.getKey(), entry.getValue()));
+                compileNanos.put(entry.getKey(), System.nanoTime() - start);
+            } catch (IllegalStateException e) {
+                LOG.error("Failed to compile schema '{}', the previous version is kept", entry.getKey(), e);
+            }
+        }
+        schemas.keySet().retainAll(validators.keySet());
+        if (schemas.isEmpty() && removed.isEmpty()) {
+            return;
+        }
+        SchemaRegistry.Version version = registry.update(schemas, validators, compileNanos, removed);
+        loaded.addAll(schemas.keySet());
+        loaded.removeAll(removed);
+        LOG.info("Published schema registry version {}, reloaded {}, removed {}", version.getNumber(),
+            schemas.keySet(), removed);
+    }
+
+    /**
+     * Reads a schema file
+     *
+     * @param file a {@code .schema.json} DSL file or a {@code .json} sample file
+     * @return the frozen schema
+     * @throws IOException if the file cannot be read
+     */
+    public static JsonSchema load(Path file) throws IOException {
+        String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8);
+        JsonSchema schema;
+        if (file.getFileName().toString().endsWith(DSL_SUFFIX)) {
+            schema = Encoder.decode(content);
+        } else {
+            schema = JsonParser.parseJsonSchema(content);
+        }
+        if (schema == null) {
+            throw new IllegalArgumentException("Empty schema file: " + file);
+        }
+        return schema.freeze();
+    }
+
+    /**
+     * The file defining a schema: {@code name.schema.json} when it exists, {@code name.json} otherwise
+     */
+    private Path sourceOf(String name) {
+        Path dsl = directory.resolve(name + DSL_SUFFIX);
+        return Files.exists(dsl) ? dsl : directory.resolve(name + JSON_SUFFIX);
+    }
+
+    static String nameOf(Path file) {
+        String fileName = file.getFileName().toString();
+        if (fileName.endsWith(DSL_SUFFIX)) {
+            return fileName.substring(0, fileName.length() - DSL_SUFFIX.length());
+        }
+        return fileName.substring(0, fileName.length() - JSON_SUFFIX.length());
+    }
+
+    public Set<String> getLoadedNames() {
+        return Collections.unmodifiableSet(loaded);
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.registry;
+
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.validation.Validator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+
+import static cn.taskflow.jcv.utils.JsvUtils.f;
+
+/**
+ * Named schemas with their compiled validators, published as immutable versions.
+ * 命名模式及其预编译验证器的注册表：每次变更先在调用线程上（多个模式时并行）编译，再通过原子引用交换发布新的不可变版本。
+ * <p>
+ * Readers never lock: a request takes {@link #current()} (or a validator) once and keeps using that version, even
+ * when a newer one is published meanwhile. Writers compile outside the swap, so a slow compile never blocks
+ * lookups; concurrent writers retry the swap on top of each other's results.
+ * 读取无锁，进行中的请求始终使用其开始时的版本。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class SchemaRegistry {
+    private final AtomicReference<Version> current = new AtomicReference<>(Version.EMPTY);
+
+    public SchemaRegistry() {
+    }
+
+    /**
+     * 使用初始模式创建注册表
+     *
+     * @param schemas 模式名称到模式定义的映射
+     * @throws IllegalStateException 如果某个模式定义无法编译
+     */
+    public SchemaRegistry(Map<String, ? extends JsonSchema> schemas) {
+        registerAll(schemas);
+    }
+
+    /**
+     * 获取当前发布的版本
+     *
+     * @return 不可变的当前版本
+     */
+    public Version current() {
+        return current.get();
+    }
+
+    public Optional<JsonSchema> getSchema(String name) {
+        return Optional.ofNullable(current.get().schemas.get(name));
+    }
+
+    public Optional<Validator> getValidator(String name) {
+        return Optional.ofNullable(current.get().validators.get(name));
+    }
+
+    /**
+     * 编译并发布单个模式，同名模式被替换
+     *
+     * @param name   模式名称
+     * @param schema 模式定义
+     * @return 发布后的版本
+     * @throws IllegalStateException 如果模式定义无法编译，此时当前版本不变
+     */
+    public Version register(String name, JsonSchema schema) {
+        return registerAll(Collections.singletonMap(name, schema));
+    }
+
+    /**
+     * 编译并一次性发布多个模式，全部模式并行编译：未冻结的模式先深度复制再冻结后编译，
+     * 原模式及其可能与其它模式共享的子树不会被修改；发布的仍是传入的模式
+     *
+     * @param schemas 模式名称到模式定义的映射
+     * @return 发布后的版本
+     * @throws IllegalStateException 如果某个模式定义无法编译，此时当前版本不变
+     */
+    public Version registerAll(Map<String, ? extends JsonSchema> schemas) {
+        List<Map.Entry<String, ? extends JsonSchema>> entries = new ArrayList<>(schemas.entrySet());
+        Validator[] compiled = new Validator[entries.size()];
+        long[] nanos = new long[entries.size()];
+        IntConsumer compileAt = i -> {
+            long start = System.nanoTime();
+            compiled[i] = compile(entries.get(i).getKey(), entries.get(i).getValue());
+            nanos[i] = System.nanoTime() - start;
+        };
+        // Compiling only reads the given trees, so every schema compiles on the common pool;
+        // results keep the input order
+        IntStream all = IntStream.range(0, compiled.length);
+        (compiled.length > 1 ? all.parallel() : all).forEach(compileAt);
+        Map<String, Validator> validators = new LinkedHashMap<>(compiled.length);
+        Map<String, Long> compileNanos = new LinkedHashMap<>(compiled.length);
+        for (int i = 0; i < compiled.length; i++) {
+            validators.put(entries.get(i).getKey(), compiled[i]);
+            compileNanos.put(entries.get(i).getKey(), nanos[i]);
+        }
+        return update(schemas, validators, compileNanos, Collections.emptySet());
+    }
+
+    /**
+     * 移除模式并发布新版本
+     *
+     * @param names 要移除的模式名称
+     * @return 发布后的版本
+     */
+    public Version unregister(Collection<String> names) {
+        return update(Collections.emptyMap(), Collections.emptyMap(), Collections.emptyMap(), names);
+    }
+
+    /**
+     * 编译一个模式；未冻结的模式先深度复制再冻结，编译时对类型与父节点引用的调整只作用于私有副本
+     */
+    static Validator compile(String name, JsonSchema schema) {
+        try {
+            JsonSchema compiled = schema.isFrozen() ? schema : schema.clone().freeze();
+            // Shared by every caller of the registry, so its settings are fixed
+            return Validator.fromSchema(compiled).readOnly();
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(f("Invalid definition for JsonSchema: '%s'", name), e);
+        }
+    }
+
+    Version update(Map<String, ? extends JsonSchema> schemas, Map<String, Validator> validators,
+                   Map<String, Long> compileNanos, Collection<String> removed) {
+        while (true) {
+            Version base = current.get();
+            Map<String, JsonSchema> nextSchemas = new LinkedHashMap<>(base.schemas);
+            Map<String, Validator> nextValidators = new LinkedHashMap<>(base.validators);
+            Map<String, Long> nextNanos = new LinkedHashMap<>(base.compileNanos);
+            nextSchemas.keySet().removeAll(removed);
+            nextValidators.keySet().removeAll(removed);
+            nextNanos.keySet().removeAll(removed);
+            nextSchemas.putAll(schemas);
+            nextValidators.putAll(validators);
+            nextNanos.putAll(compileNanos);
+            Version next = new Version(base.number + 1, nextSchemas, nextValidators, nextNanos);
+            if (current.compareAndSet(base, next)) {
+                return next;
+            }
+        }
+    }
+
+    /**
+     * An immutable published state of the registry
+     * 注册表某一时刻发布的不可变版本
+     */
+    public static final class Version {
+        static final Version                  EMPTY = new Version(0, Collections.emptyMap(), Collections.emptyMap(),
+                                                        Collections.emptyMap());
+
+        private final long                    number;
+        private final Map<String, JsonSchema> schemas;
+        private final Map<String, Validator>  validators;
+        private final Map<String, Long>       compileNanos;
+
+        Version(long number, Map<String, JsonSchema> schemas, Map<String, Validator> validators,
+                Map<String, Long> compileNanos) {
+            this.number = number;
+            this.schemas = Collections.unmodifiableMap(schemas);
+            this.validators = Collections.unmodifiableMap(validators);
+            this.compileNanos = Collections.unmodifiableMap(compileNanos);
+        }
+
+        /**
+         * 版本号，每次发布递增
+         *
+         * @return 版本号
+         */
+        public long getNumber() {
+            return number;
+        }
+
+        public Map<String, JsonSchema> getSchemas() {
+            return schemas;
+        }
+
+        public Map<String, Validator> getValidators() {
+            return validators;
+        }
+
+        public Optional<JsonSchema> getSchema(String name) {
+            return Optional.ofNullable(schemas.get(name));
+        }
+
+        public Optional<Validator> getValidator(String name) {
+            return Optional.ofNullable(validators.get(name));
+        }
+
+        /**
+         * 模式的编译耗时
+         *
+         * @param name 模式名称
+         * @return 编译耗时（纳秒），模式不存在时为 -1
+         */
+        public long getCompileNanos(String name) {
+            Long nanos = compileNanos.get(name);
+            return nanos == null ? -1 : nanos;
+        }
+    }
+}
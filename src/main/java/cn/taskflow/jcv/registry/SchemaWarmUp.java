@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.registry;
+
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.encode.NodeFactory;
+import cn.taskflow.jcv.utils.JsonSchemaCodec;
+import cn.taskflow.jcv.validation.Validator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Runs synthetic payloads through compiled validators before a service takes traffic.
+ * 启动预热：为每个模式按 {@link JsonSchemaCodec#toJsonDataExample(JsonSchema)} 生成示例数据，在公共 ForkJoinPool 上
+ * 并行地反复执行解析与验证，使验证热路径在首批请求到达前完成 JIT 编译，并记录每个模式的编译与预热耗时。
+ * <p>
+ * The example payload exercises both the tree validators used by {@code Validator.validate(String)} and the
+ * token validators, whether it satisfies the schema or not; the throwing paths are only driven by valid examples.
+ * The validation code is shared by all schemas, so {@link #run(SchemaRegistry, Collection)} spreads a fixed total
+ * number of iterations over them instead of repeating a large count for every schema. A schema whose example cannot be generated is reported and
+ * skipped, warm-up never fails startup.
+ * 预热失败只记录日志，不影响启动。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class SchemaWarmUp {
+    private static final Logger LOG                      = LoggerFactory.getLogger(SchemaWarmUp.class);
+    // Total validations of a default run, and the bounds of the share of each schema
+    public static final int     DEFAULT_TOTAL_ITERATIONS = 2_000;
+    static final int            MIN_ITERATIONS           = 5;
+    static final int            MAX_ITERATIONS           = 200;
+
+    private SchemaWarmUp() {
+    }
+
+    /**
+     * 并行预热注册表中的指定模式，总验证次数约为 {@link #DEFAULT_TOTAL_ITERATIONS}，由各模式均分
+     *
+     * @param registry 模式注册表
+     * @param names    模式名称，重复及不存在的名称被忽略
+     * @return 预热报告
+     */
+    public static Report run(SchemaRegistry registry, Collection<String> names) {
+        return run(registry, names, defaultIterations(new LinkedHashSet<>(names).size()));
+    }
+
+    /**
+     * 默认情况下每个模式的验证次数
+     *
+     * @param schemas 预热的模式数量
+     * @return 每个模式的验证次数
+     */
+    static int defaultIterations(int schemas) {
+        int share = DEFAULT_TOTAL_ITERATIONS / Math.max(schemas, 1);
+        return Math.max(MIN_ITERATIONS, Math.min(MAX_ITERATIONS, share));
+    }
+
+    /**
+     * 并行预热注册表中的指定模式
+     *
+     * @param registry   模式注册表
+     * @param names      模式名称，重复及不存在的名称被忽略
+     * @param iterations 每个模式的示例数据验证次数
+     * @return 预热报告
+     */
+    public static Report run(SchemaRegistry registry, Collection<String> names, int iterations) {
+        long start = System.nanoTime();
+        SchemaRegistry.Version version = registry.current();
+        List<String> distinct = new ArrayList<>(new LinkedHashSet<>(names));
+        Entry[] entries = new Entry[distinct.size()];
+        IntStream range = IntStream.range(0, entries.length);
+        (entries.length > 1 ? range.parallel() : range).forEach(i -> {
+            entries[i] = warmUp(version, distinct.get(i), iterations);
+        });
+        List<Entry> report = new ArrayList<>(entries.length);
+        for (Entry entry : entries) {
+            if (entry != null) {
+                report.add(entry);
+                LOG.info("Warmed up schema '{}': compile {} ms, warm-up {} ms, {} iterations{}", entry.name,
+                    millis(entry.compileNanos), millis(entry.warmUpNanos), entry.iterations,
+                    entry.error == null ? "" : ", " + entry.error);
+            }
+        }
+        Report result = new Report(report, System.nanoTime() - start);
+        LOG.info("Schema warm-up finished: {} schemas in {} ms", report.size(), millis(result.totalNanos));
+        return result;
+    }
+
+    private static Entry warmUp(SchemaRegistry.Version version, String name, int iterations) {
+        Optional<JsonSchema> schema = version.getSchema(name);
+        Optional<Validator> validator = version.getValidator(name);
+        if (!schema.isPresent() || !validator.isPresent()) {
+            return null;
+        }
+        long compileNanos = version.getCompileNanos(name);
+        long start = System.nanoTime();
+        String json;
+        byte[] payload;
+        JsonNode tree;
+        try {
+            json = JsonSchemaCodec.toJsonDataExample(schema.get());
+            payload = json.getBytes(StandardCharsets.UTF_8);
+            tree = NodeFactory.parser(json);
+        } catch (RuntimeException e) {
+            return new Entry(name, compileNanos, System.nanoTime() - start, 0, "example unavailable: " + e.getMessage());
+        }
+        try {
+            boolean valid = validator.get().check(payload).isValid();
+            for (int i = 0; i < iterations; i++) {
+                // Tree validators, the default path of a request body
+                validator.get().isValid(tree);
+                validator.get().check(tree);
+                // Token validators
+                validator.get().isValid(payload);
+                validator.get().check(payload);
+                if (valid) {
+                    validator.get().validate(json);
+                    try (JsonParser parser = NodeFactory.createParser(payload)) {
+                        validator.get().validate(parser);
+                    }
+                }
+            }
+            return new Entry(name, compileNanos, System.nanoTime() - start, iterations, valid ? null
+                : "example does not satisfy the schema");
+        } catch (Exception e) {
+            LOG.warn("Failed to warm up schema '{}'", name, e);
+            return new Entry(name, compileNanos, System.nanoTime() - start, 0, "failed: " + e.getMessage());
+        }
+    }
+
+    private static long millis(long nanos) {
+        return nanos < 0 ? -1 : TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * Outcome of a warm-up run
+     * 预热结果
+     */
+    public static final class Report {
+        private final List<Entry> entries;
+        private final long        totalNanos;
+
+        Report(List<Entry> entries, long totalNanos) {
+            this.entries = Collections.unmodifiableList(entries);
+            this.totalNanos = totalNanos;
+        }
+
+        public List<Entry> getEntries() {
+            return entries;
+        }
+
+        /**
+         * 预热总耗时（纳秒），多个模式并行预热
+         *
+         * @return 总耗时
+         */
+        public long getTotalNanos() {
+            return totalNanos;
+        }
+    }
+
+    /**
+     * Warm-up outcome of a single schema
+     * 单个模式的预热结果
+     */
+    public static final class Entry {
+        private final String name;
+        private final long   compileNanos;
+        private final long   warmUpNanos;
+        private final int    iterations;
+        private final String error;
+
+        Entry(String name, long compileNanos, long warmUpNanos, int iterations, String error) {
+            this.name = name;
+            this.compileNanos = compileNanos;
+            this.warmUpNanos = warmUpNanos;
+            this.iterations = iterations;
+            this.error = error;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 模式编译耗时（纳秒），未知时为 -1
+         *
+         * @return 编译耗时
+         */
+        public long getCompileNanos() {
+            return compileNanos;
+        }
+
+        public long getWarmUpNanos() {
+            return warmUpNanos;
+        }
+
+        /**
+         * 完成的验证次数，示例数据无法生成或预热失败时为 0
+         *
+         * @return 验证次数
+         */
+        public int getIterations() {
+            return iterations;
+        }
+
+        /**
+         * 预热问题说明，例如示例数据不满足模式；正常时为 null
+         *
+         * @return 问题说明
+         */
+        public String getError() {
+            return error;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+
+/**
+ * 已验证的请求体：保存一次读取的原始字节以及验证时记录的 Token。
+ * {@link BufferedJackson2HttpMessageConverter} 直接使用记录的 Token 绑定对象，
+ * 其他转换器仍可通过 {@link #getBody()} 读取原始字节（不再经过字符串解码与重新编码）。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class BufferedHttpInputMessage implements HttpInputMessage {
+    private final HttpHeaders headers;
+    private final byte[]      body;
+    private final TokenBuffer tokens;
+
+    BufferedHttpInputMessage(HttpHeaders headers, byte[] body, TokenBuffer tokens) {
+        this.headers = headers;
+        this.body = body;
+        this.tokens = tokens;
+    }
+
+    @Override
+    public HttpHeaders getHeaders() {
+        return headers;
+    }
+
+    @Override
+    public InputStream getBody() {
+        return new ByteArrayInputStream(body);
+    }
+
+    /**
+     * 获取验证时记录的 Token
+     *
+     * @return 请求体的 Token 缓冲
+     */
+    TokenBuffer getTokens() {
+        return tokens;
+    }
+}
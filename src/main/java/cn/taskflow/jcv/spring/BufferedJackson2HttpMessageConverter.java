@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+import java.util.List;
+
+/**
+ * 单次解析模式下的 Jackson 消息转换器。
+ * 当请求体已由 {@link JsonSchemaRequestBodyValidator} 验证并记录为 Token 时，直接从 Token 缓冲绑定对象，
+ * 每个请求体只解析一次；其他请求与 {@link MappingJackson2HttpMessageConverter} 行为一致。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+class BufferedJackson2HttpMessageConverter extends MappingJackson2HttpMessageConverter {
+
+    public BufferedJackson2HttpMessageConverter(ObjectMapper objectMapper) {
+        super(objectMapper);
+    }
+
+    /**
+     * 在第一个 MappingJackson2HttpMessageConverter 之前注册，并沿用其 ObjectMapper。
+     *
+     * @param converters Spring MVC 的消息转换器列表
+     */
+    static void register(List<HttpMessageConverter<?>> converters) {
+        for (int i = 0; i < converters.size(); i++) {
+            HttpMessageConverter<?> converter = converters.get(i);
+            if (converter instanceof BufferedJackson2HttpMessageConverter) {
+                return;
+            }
+            if (converter instanceof MappingJackson2HttpMessageConverter) {
+                ObjectMapper objectMapper = ((MappingJackson2HttpMessageConverter) converter).getObjectMapper();
+                converters.add(i, new BufferedJackson2HttpMessageConverter(objectMapper));
+                return;
+            }
+        }
+    }
+
+    @Override
+    public Object read(Type type, Class<?> contextClass, HttpInputMessage inputMessage) throws IOException,
+                                                                                       HttpMessageNotReadableException {
+        if (inputMessage instanceof BufferedHttpInputMessage) {
+            return readBuffered(getJavaType(type, contextClass), (BufferedHttpInputMessage) inputMessage);
+        }
+        return super.read(type, contextClass, inputMessage);
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException,
+                                                                                HttpMessageNotReadableException {
+        if (inputMessage instanceof BufferedHttpInputMessage) {
+            return readBuffered(getJavaType(clazz, null), (BufferedHttpInputMessage) inputMessage);
+        }
+        return super.readInternal(clazz, inputMessage);
+    }
+
+    private Object readBuffered(JavaType javaType, BufferedHttpInputMessage inputMessage) throws IOException {
+        ObjectMapper objectMapper = getObjectMapper();
+        try (JsonParser parser = inputMessage.getTokens().asParser(objectMapper)) {
+            return objectMapper.readValue(parser, javaType);
+        } catch (JsonProcessingException e) {
+            throw new HttpMessageNotReadableException("JSON parse error: " + e.getOriginalMessage(), e, inputMessage);
+        }
+    }
+}
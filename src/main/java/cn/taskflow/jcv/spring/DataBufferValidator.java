@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import cn.taskflow.jcv.encode.NodeFactory;
+import cn.taskflow.jcv.validation.StreamingValidator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.function.Supplier;
+
+/**
+ * 使用Jackson非阻塞解析器增量验证 {@code Flux<DataBuffer>} 请求体。
+ * <p>
+ * 每个数据块到达时只解析该块内已完整的Token并推送给 {@link StreamingValidator}，
+ * 不足一个Token的尾部由解析器保留到下一块，数据块原样向下游传递，不会把整个请求体聚合为字符串。
+ * 单个数据块的处理时间只与块大小相关，因此可以直接在事件循环线程上执行。
+ * 实例保存解析状态，每个请求体使用一个实例。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class DataBufferValidator {
+    private final StreamingValidator validator;
+    private final JsonParser         parser;
+    private final ByteArrayFeeder    feeder;
+    // Copy target for direct buffers, reused because the parser consumes each chunk before the next one
+    private byte[]                   scratch;
+
+    DataBufferValidator(StreamingValidator validator) throws IOException {
+        this.validator = validator;
+        this.parser = NodeFactory.getJsonFactory().createNonBlockingByteArrayParser();
+        this.feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+    }
+
+    /**
+     * 在请求体经过时验证，违规或JSON格式错误时以 IllegalArgumentException 结束数据流
+     *
+     * @param body      请求体数据流
+     * @param validator 为每次订阅创建单文档流式验证器
+     * @return 内容不变的请求体数据流
+     */
+    static Flux<DataBuffer> validate(Flux<DataBuffer> body, Supplier<StreamingValidator> validator) {
+        return Flux.defer(() -> {
+            DataBufferValidator bodyValidator;
+            try {
+                bodyValidator = new DataBufferValidator(validator.get());
+            } catch (Exception e) {
+                return Flux.error(JsonSchemaFactory.toValidationError(e));
+            }
+            return body.<DataBuffer>handle((buffer, sink) -> {
+                try {
+                    bodyValidator.feed(buffer);
+                    sink.next(buffer);
+                } catch (Exception e) {
+                    DataBufferUtils.release(buffer);
+                    sink.error(JsonSchemaFactory.toValidationError(e));
+                }
+            }).concatWith(Mono.defer(() -> {
+                try {
+                    bodyValidator.finish();
+                    return Mono.empty();
+                } catch (Exception e) {
+                    return Mono.error(JsonSchemaFactory.toValidationError(e));
+                }
+            }));
+        });
+    }
+
+    /**
+     * 解析一个数据块，不改变数据块的读取位置
+     *
+     * @param buffer 请求体数据块
+     * @throws IOException 如果JSON格式错误
+     */
+    void feed(DataBuffer buffer) throws IOException {
+        if (validator.isComplete()) {
+            return;
+        }
+        ByteBuffer bytes = buffer.asByteBuffer();
+        int length = bytes.remaining();
+        if (length == 0) {
+            return;
+        }
+        if (bytes.hasArray()) {
+            int start = bytes.arrayOffset() + bytes.position();
+            feeder.feedInput(bytes.array(), start, start + length);
+        } else {
+            if (scratch == null || scratch.length < length) {
+                scratch = new byte[Math.max(length, 1024)];
+            }
+            bytes.get(scratch, 0, length);
+            feeder.feedInput(scratch, 0, length);
+        }
+        drain();
+    }
+
+    /**
+     * 请求体结束，报告缺失或被截断的文档
+     *
+     * @throws IOException 如果文档在某个值内部结束
+     */
+    void finish() throws IOException {
+        try {
+            if (!validator.isComplete()) {
+                feeder.endOfInput();
+                drain();
+            }
+            validator.finish(parser);
+        } finally {
+            parser.close();
+        }
+    }
+
+    private void drain() throws IOException {
+        JsonToken token;
+        while (!validator.isComplete() && (token = parser.nextToken()) != null && token != JsonToken.NOT_AVAILABLE) {
+            validator.accept(token, parser);
+        }
+    }
+}
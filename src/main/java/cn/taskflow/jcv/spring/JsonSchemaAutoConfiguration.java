@@ -18,28 +18,29 @@ package cn.taskflow.jcv.spring;
 
 import cn.taskflow.jcv.core.*;
 import cn.taskflow.jcv.encode.*;
+import cn.taskflow.jcv.registry.SchemaDirectoryWatcher;
+import cn.taskflow.jcv.registry.SchemaRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.ApplicationContext;
-import org.springframework.context.ApplicationListener;
 import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Condition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.context.annotation.Conditional;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.context.event.ContextRefreshedEvent;
 import org.springframework.core.env.Environment;
-import org.springframework.web.method.HandlerMethod;
-import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
-import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.core.type.AnnotatedTypeMetadata;
 
-import java.util.Map;
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.util.Optional;
 
-import static cn.taskflow.jcv.utils.JsvUtils.f;
-
 /**
  * 该类负责在Spring应用程序上下文中自动配置JSON Schema验证组件。
- * 它定义了用于JSON Schema验证的bean，并确保在应用程序启动时定义所有必需的JSON Schema。
+ * 它定义了与Web栈无关的模式、转换器及工厂bean；请求体验证及启动时的模式定义检查由
+ * {@link JsonSchemaWebMvcAutoConfiguration}（Servlet应用）与 {@link JsonSchemaWebFluxAutoConfiguration}（响应式应用）配置。
  *
  * @author SHOUSHEN.LUAN
  * @since 2024-09-28
@@ -83,23 +84,6 @@ public class JsonSchemaAutoConfiguration {
         return jsonNodeConverter;
     }
 
-    @Bean("jcvCustomRequestBodyAdvice")
-    public CustomRequestBodyAdvice customRequestBodyAdvice(JsonSchemaRequestBodyValidator validator,
-                                                           JsonSchemaFactory jsonSchemaFactory) {
-        return new CustomRequestBodyAdvice(validator, jsonSchemaFactory);
-    }
-
-    /**
-     * 定义一个用于JsonSchemaRequestBodyValidator的bean，该bean负责根据JSON Schema验证请求体。
-     *
-     * @param jsonSchemaFactory 用于创建JSON Schema实例的工厂。
-     * @return 一个JsonSchemaRequestBodyValidator实例。
-     */
-    @Bean
-    public JsonSchemaRequestBodyValidator jsonSchemaRequestBodyValidator(JsonSchemaFactory jsonSchemaFactory) {
-        return new JsonSchemaRequestBodyValidator(jsonSchemaFactory);
-    }
-
     /**
      * 定义一个用于JsonSchemaFactory的bean，该bean负责在应用程序上下文中创建和管理JSON Schema实例。
      *
@@ -112,28 +96,30 @@ public class JsonSchemaAutoConfiguration {
     }
 
     /**
-     * 定义一个应用程序监听器，当应用程序上下文刷新时，验证所有请求映射的JSON Schema定义的存在。
-     * 如果缺少任何必需的JSON Schema，它会记录错误并抛出异常。
+     * 配置了 jsv.schema.dir 时，从该目录加载模式文件到 {@link JsonSchemaFactory} 的注册表，
+     * 并在 jsv.schema.watch（默认 true）开启时监听目录变更热更新。
      *
-     * @param requestBodyValidator 用于查找JSON Schema验证的验证器。
-     * @param jsonSchemaFactory    用于检索JSON Schema实例的工厂。
-     * @return 一个用于ContextRefreshedEvent的ApplicationListener。
+     * @param jsonSchemaFactory 保存模式注册表的工厂。
+     * @return 目录监听器，上下文关闭时停止监听。
+     * @throws IOException 如果目录无法读取或监听
      */
-    @Bean
-    public ApplicationListener<ContextRefreshedEvent> verifySchemaDefinition(JsonSchemaRequestBodyValidator requestBodyValidator, JsonSchemaFactory jsonSchemaFactory) {
-        return (event) -> {
-            RequestMappingHandlerMapping handlerMapping = event.getApplicationContext().getBean("requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
-            Map<RequestMappingInfo, HandlerMethod> map = handlerMapping.getHandlerMethods();
-            map.forEach((key, value) -> {
-                Optional<JsonSchemaValidate> optional = requestBodyValidator.findJsonSchemaValidate(value);
-                optional.ifPresent((jsv) -> {
-                    if (!jsonSchemaFactory.getSchema(jsv.value()).isPresent()) {
-                        log.error("URL:{},Controller:{},Method:{},schema:{}", key, value.getBeanType().getSimpleName()
-                                , value.getMethod().getName(), jsv);
-                        throw new IllegalStateException(f("No definition for JsonSchema: '%s' was found", jsv.value()));
-                    }
-                });
-            });
-        };
+    @Bean(destroyMethod = "close")
+    @Conditional(OnSchemaDirectoryCondition.class)
+    public SchemaDirectoryWatcher schemaDirectoryWatcher(JsonSchemaFactory jsonSchemaFactory) throws IOException {
+        SchemaDirectoryWatcher watcher = new SchemaDirectoryWatcher(jsonSchemaFactory.getRegistry(),
+            Paths.get(environment.getProperty("jsv.schema.dir")));
+        SchemaRegistry.Version version = watcher.loadAll();
+        log.info("Loaded {} schema files, registry version {}", watcher.getLoadedNames().size(), version.getNumber());
+        if (environment.getProperty("jsv.schema.watch", Boolean.class, Boolean.TRUE)) {
+            watcher.start();
+        }
+        return watcher;
+    }
+
+    static class OnSchemaDirectoryCondition implements Condition {
+        @Override
+        public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+            return context.getEnvironment().containsProperty("jsv.schema.dir");
+        }
     }
 }
@@ -17,32 +17,63 @@
 package cn.taskflow.jcv.spring;
 
 import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.registry.SchemaRegistry;
+import cn.taskflow.jcv.validation.StreamingValidator;
 import cn.taskflow.jcv.validation.Validator;
+import com.fasterxml.jackson.core.JsonParser;
 import org.springframework.context.ApplicationContext;
 
-import java.util.Collections;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
+
+import static cn.taskflow.jcv.utils.JsvUtils.f;
 
 /**
  * JsonSchemaFactory 负责管理和提供对 JSON 模式定义的访问。
  * 它从 Spring 应用程序上下文中检索 JSON 模式 bean，并提供方法来
  * 验证 JSON 数据是否符合这些模式。
+ * <p>
+ * 每个命名模式在上下文刷新创建工厂时预编译为线程安全的 {@link Validator}，
+ * 请求处理阶段只做一次映射查找，不再重复调整类型、刷新父节点引用（避免并发修改共享的模式 bean）。
+ * <p>
+ * 模式保存在 {@link SchemaRegistry} 中，可通过 {@link #getRegistry()} 追加或热更新（例如
+ * {@link cn.taskflow.jcv.registry.SchemaDirectoryWatcher}）；每次验证只取一次验证器，进行中的请求不受新版本发布影响。
  *
  * @author SHOUSHEN.LUAN
  * @since 2024-09-28
  */
 public class JsonSchemaFactory {
-    private final Map<String, JsonSchema> schemaMap;
+    private final SchemaRegistry registry;
 
     /**
      * 使用从给定应用程序上下文中检索到的模式构造 JsonSchemaFactory。
-     * 模式存储在不可修改的映射中以确保不可变性。
+     * 模式存储在不可修改的映射中以确保不可变性，并为每个模式预编译验证器。
      *
      * @param context 从中检索 JSON 模式 bean 的 Spring 应用程序上下文
+     * @throws IllegalStateException 如果某个模式定义无法编译
      */
     public JsonSchemaFactory(ApplicationContext context) {
-        schemaMap = Collections.unmodifiableMap(context.getBeansOfType(JsonSchema.class));
+        this(context.getBeansOfType(JsonSchema.class));
+    }
+
+    /**
+     * 使用给定的命名模式构造 JsonSchemaFactory，并为每个模式预编译验证器。
+     *
+     * @param schemas 模式名称到模式定义的映射
+     * @throws IllegalStateException 如果某个模式定义无法编译
+     */
+    public JsonSchemaFactory(Map<String, JsonSchema> schemas) {
+        this.registry = new SchemaRegistry(schemas);
+    }
+
+    /**
+     * 获取保存模式及验证器的注册表
+     *
+     * @return 模式注册表
+     */
+    public SchemaRegistry getRegistry() {
+        return registry;
     }
 
     /**
@@ -53,7 +84,19 @@ public class JsonSchemaFactory {
      * @return 如果找到则包含 JsonSchema 的 Optional，否则为空的 Optional
      */
     public Optional<JsonSchema> getSchema(String schemaName) {
-        return Optional.ofNullable(schemaMap.get(schemaName));
+        return registry.getSchema(schemaName);
+    }
+
+    /**
+     * 检索与给定模式名称关联的预编译验证器。
+     * 返回的验证器是线程安全的，可在多个请求之间共享；它是只读的，设置方法会抛出 IllegalStateException，
+     * 需要其他设置时请基于 {@link #getSchema(String)} 另行创建验证器。
+     *
+     * @param schemaName 模式名称
+     * @return 如果找到则包含 Validator 的 Optional，否则为空的 Optional
+     */
+    public Optional<Validator> getValidator(String schemaName) {
+        return registry.getValidator(schemaName);
     }
 
     /**
@@ -65,37 +108,64 @@ public class JsonSchemaFactory {
      * @throws IllegalArgumentException 如果未找到模式或验证失败
      */
     public void validate(JsonSchemaValidate schemaValidate, String json) {
-        Optional<JsonSchema> optional = getSchema(schemaValidate.value());
-        if (optional.isPresent()) {
-            try {
-                Validator.fromSchema(optional.get()).validate(json);
-            } catch (Exception e) {
-                if (IllegalArgumentException.class.isAssignableFrom(e.getClass())) {
-                    throw (IllegalArgumentException) e;
-                } else {
-                    throw new IllegalArgumentException(e.getMessage(), e);
-                }
-            }
-        } else {
-            throw new IllegalArgumentException(
-                String.format("schema:'%s' definition not found", schemaValidate.value()));
-        }
+        validate(schemaValidate, (validator) -> validator.validate(json));
     }
 
     public void validate(JsonSchemaValidate jsv, Object body) {
-        Optional<JsonSchema> optional = getSchema(jsv.value());
-        if (optional.isPresent()) {
-            try {
-                Validator.fromSchema(optional.get()).validate(body);
-            } catch (Exception e) {
-                if (IllegalArgumentException.class.isAssignableFrom(e.getClass())) {
-                    throw (IllegalArgumentException) e;
-                } else {
-                    throw new IllegalArgumentException(e.getMessage(), e);
-                }
-            }
-        } else {
-            throw new IllegalArgumentException(String.format("schema:'%s' definition not found", jsv.value()));
+        validate(jsv, (validator) -> validator.validate(body));
+    }
+
+    /**
+     * 直接基于 Token 流验证解析器中的 JSON 数据，不构建 JsonNode 树。
+     *
+     * @param jsv    包含要验证的模式名称的注解
+     * @param parser 定位在文档之前的解析器
+     * @throws IllegalArgumentException 如果未找到模式或验证失败
+     */
+    public void validate(JsonSchemaValidate jsv, JsonParser parser) {
+        validate(jsv, (validator) -> validator.validate(parser));
+    }
+
+    /**
+     * 为注解指定的模式创建逐Token推送的流式验证器，用于非阻塞地增量验证请求体。
+     *
+     * @param jsv 包含要验证的模式名称的注解
+     * @return 新的单文档流式验证器
+     * @throws IllegalArgumentException 如果未找到模式
+     */
+    public StreamingValidator newStreamingValidator(JsonSchemaValidate jsv) {
+        Validator validator = registry.getValidator(jsv.value()).orElseThrow(
+            () -> new IllegalArgumentException(f("schema:'%s' definition not found", jsv.value())));
+        return validator.newStreamingValidator();
+    }
+
+    /**
+     * 将验证异常统一转换为 IllegalArgumentException。
+     *
+     * @param e 验证或解析过程中抛出的异常
+     * @return 原始的 IllegalArgumentException，或包装后的异常
+     */
+    static IllegalArgumentException toValidationError(Exception e) {
+        if (IllegalArgumentException.class.isAssignableFrom(e.getClass())) {
+            return (IllegalArgumentException) e;
+        }
+        return new IllegalArgumentException(e.getMessage(), e);
+    }
+
+    /**
+     * 使用注解指定模式的预编译验证器执行验证，并将异常统一转换为 IllegalArgumentException。
+     *
+     * @param jsv    包含要验证的模式名称的注解
+     * @param action 验证动作
+     * @throws IllegalArgumentException 如果未找到模式或验证失败
+     */
+    private void validate(JsonSchemaValidate jsv, Consumer<Validator> action) {
+        Validator validator = registry.getValidator(jsv.value()).orElseThrow(
+            () -> new IllegalArgumentException(f("schema:'%s' definition not found", jsv.value())));
+        try {
+            action.accept(validator);
+        } catch (Exception e) {
+            throw toValidationError(e);
         }
     }
 }
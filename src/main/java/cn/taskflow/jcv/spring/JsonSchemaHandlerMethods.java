@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import cn.taskflow.jcv.registry.SchemaWarmUp;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.MethodParameter;
+import org.springframework.core.env.Environment;
+import org.springframework.web.method.HandlerMethod;
+
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import static cn.taskflow.jcv.utils.JsvUtils.f;
+
+/**
+ * Servlet与WebFlux处理方法共用的 {@link JsonSchemaValidate} 查找及启动检查，不依赖任一Web栈的类型。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class JsonSchemaHandlerMethods {
+    private static final Logger log = LoggerFactory.getLogger(JsonSchemaValidate.class);
+
+    private JsonSchemaHandlerMethods() {
+    }
+
+    /**
+     * 查找处理方法或其参数上的JsonSchemaValidate注解。
+     *
+     * @param handlerMethod 要检查JsonSchemaValidate注解的处理方法。
+     * @return 如果存在，返回包含JsonSchemaValidate注解的Optional。
+     */
+    static Optional<JsonSchemaValidate> lookup(HandlerMethod handlerMethod) {
+        if (handlerMethod.hasMethodAnnotation(JsonSchemaValidate.class)) {
+            return Optional.of(handlerMethod.getMethodAnnotation(JsonSchemaValidate.class));
+        }
+        for (MethodParameter methodParameter : handlerMethod.getMethodParameters()) {
+            if (methodParameter.hasParameterAnnotation(JsonSchemaValidate.class)) {
+                return Optional.ofNullable(methodParameter.getParameterAnnotation(JsonSchemaValidate.class));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 检查所有请求映射引用的JSON Schema均已定义，缺少时记录错误并抛出异常。
+     * jsv.warmup.enabled（默认 true）开启时，随后并行预热所有被引用的模式（见 {@link SchemaWarmUp}），
+     * 每个模式的示例数据验证次数由 jsv.warmup.iterations 指定，未指定时由所有模式均分固定的总次数。
+     *
+     * @param handlerMethods    请求映射到处理方法的映射
+     * @param jsonSchemaFactory 用于检索JSON Schema实例的工厂
+     * @param environment       读取预热配置的环境
+     * @throws IllegalStateException 如果缺少被引用的模式定义
+     */
+    static void verifySchemaDefinition(Map<?, HandlerMethod> handlerMethods, JsonSchemaFactory jsonSchemaFactory,
+                                       Environment environment) {
+        Set<String> referenced = new LinkedHashSet<>();
+        handlerMethods.forEach((key, value) -> {
+            Optional<JsonSchemaValidate> optional = lookup(value);
+            optional.ifPresent((jsv) -> {
+                if (!jsonSchemaFactory.getSchema(jsv.value()).isPresent()) {
+                    log.error("URL:{},Controller:{},Method:{},schema:{}", key, value.getBeanType().getSimpleName()
+                            , value.getMethod().getName(), jsv);
+                    throw new IllegalStateException(f("No definition for JsonSchema: '%s' was found", jsv.value()));
+                }
+                referenced.add(jsv.value());
+            });
+        });
+        if (environment.getProperty("jsv.warmup.enabled", Boolean.class, Boolean.TRUE)) {
+            Integer iterations = environment.getProperty("jsv.warmup.iterations", Integer.class);
+            if (iterations == null) {
+                SchemaWarmUp.run(jsonSchemaFactory.getRegistry(), referenced);
+            } else {
+                SchemaWarmUp.run(jsonSchemaFactory.getRegistry(), referenced, iterations);
+            }
+        }
+    }
+}
@@ -16,9 +16,13 @@
  */
 package cn.taskflow.jcv.spring;
 
+import cn.taskflow.jcv.encode.NodeFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpInputMessage;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import org.springframework.web.method.HandlerMethod;
@@ -41,6 +45,8 @@ import static org.springframework.web.servlet.HandlerMapping.BEST_MATCHING_HANDL
  */
 final class JsonSchemaRequestBodyValidator {
     private final JsonSchemaFactory jsonSchemaFactory;
+    // 单次解析模式：缓冲原始字节，验证时记录Token并交给消息转换器，不再解码为字符串后重复解析
+    private final boolean           singleParse;
 
     /**
      * JsonSchemaRequestBodyValidator的构造函数。
@@ -48,7 +54,18 @@ final class JsonSchemaRequestBodyValidator {
      * @param jsonSchemaFactory 用于创建JsonSchema实例以进行验证的工厂。
      */
     public JsonSchemaRequestBodyValidator(JsonSchemaFactory jsonSchemaFactory) {
+        this(jsonSchemaFactory, false);
+    }
+
+    /**
+     * JsonSchemaRequestBodyValidator的构造函数。
+     *
+     * @param jsonSchemaFactory 用于创建JsonSchema实例以进行验证的工厂。
+     * @param singleParse       是否启用单次解析模式
+     */
+    public JsonSchemaRequestBodyValidator(JsonSchemaFactory jsonSchemaFactory, boolean singleParse) {
         this.jsonSchemaFactory = jsonSchemaFactory;
+        this.singleParse = singleParse;
     }
 
     /**
@@ -80,15 +97,7 @@ final class JsonSchemaRequestBodyValidator {
      * @return 如果存在，返回包含JsonSchemaValidate注解的Optional。
      */
     public Optional<JsonSchemaValidate> findJsonSchemaValidate(HandlerMethod handlerMethod) {
-        if (handlerMethod.hasMethodAnnotation(JsonSchemaValidate.class)) {
-            return Optional.of(handlerMethod.getMethodAnnotation(JsonSchemaValidate.class));
-        }
-        for (MethodParameter methodParameter : handlerMethod.getMethodParameters()) {
-            if (methodParameter.hasParameterAnnotation(JsonSchemaValidate.class)) {
-                return Optional.ofNullable(methodParameter.getParameterAnnotation(JsonSchemaValidate.class));
-            }
-        }
-        return Optional.empty();
+        return JsonSchemaHandlerMethods.lookup(handlerMethod);
     }
 
     /**
@@ -112,11 +121,33 @@ final class JsonSchemaRequestBodyValidator {
     }
 
     public HttpInputMessage process(JsonSchemaValidate jsv, HttpInputMessage inputMessage) throws IOException {
+        if (singleParse) {
+            return processSingleParse(jsv, inputMessage);
+        }
         String json = readInputMessage(inputMessage);
         jsonSchemaFactory.validate(jsv, json);
         return createHttpInputMessage(inputMessage, json);
     }
 
+    /**
+     * 单次解析模式：原始字节只读取一次，验证器逐个读取Token的同时将其记录到TokenBuffer，
+     * 返回的消息由 {@link BufferedJackson2HttpMessageConverter} 直接从TokenBuffer绑定对象。
+     *
+     * @param jsv          验证注解
+     * @param inputMessage 包含请求体的HTTP输入消息。
+     * @return 携带原始字节与已记录Token的输入消息
+     * @throws IOException 如果在读取过程中发生I/O错误。
+     */
+    private HttpInputMessage processSingleParse(JsonSchemaValidate jsv, HttpInputMessage inputMessage)
+                                                                                                      throws IOException {
+        byte[] body = StreamUtils.copyToByteArray(inputMessage.getBody());
+        try (JsonParser parser = NodeFactory.createParser(body)) {
+            TokenBuffer tokens = new TokenBuffer(parser);
+            jsonSchemaFactory.validate(jsv, new TokenBufferingParser(parser, tokens));
+            return new BufferedHttpInputMessage(inputMessage.getHeaders(), body, tokens);
+        }
+    }
+
     public void process(JsonSchemaValidate jsv, Object body) {
         jsonSchemaFactory.validate(jsv, body);
     }
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.http.server.reactive.ServerHttpRequestDecorator;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.reactive.HandlerMapping;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+/**
+ * WebFlux请求体验证过滤器。
+ * <p>
+ * 包装请求体，读取时按 DispatcherHandler 已匹配的处理方法（{@link HandlerMapping#BEST_MATCHING_HANDLER_ATTRIBUTE}）
+ * 查找 {@link JsonSchemaValidate} 注解，不再重复查找处理方法。找到注解时，数据块到达时由 {@link DataBufferValidator}
+ * 使用Jackson非阻塞解析器增量验证，数据块原样传递给消息解码器，违规时请求体以 IllegalArgumentException 结束。
+ * 请求体绑定为普通对象时，解码在验证结束前不会完成，违规时处理方法不会被调用；以 {@code Mono<T>}/{@code Flux<T>}
+ * 接收请求体的处理方法会先被调用，违规以错误信号出现在该 Mono/Flux 中，Flux 在此之前可能已发出部分元素。
+ * 响应式请求体只能读取一次，{@link ValidationStrategy} 两种策略均按原始请求体验证。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class JsonSchemaWebFilter implements WebFilter {
+    private final JsonSchemaFactory jsonSchemaFactory;
+
+    /**
+     * @param jsonSchemaFactory 用于创建验证器的工厂
+     */
+    public JsonSchemaWebFilter(JsonSchemaFactory jsonSchemaFactory) {
+        this.jsonSchemaFactory = jsonSchemaFactory;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        ServerHttpRequest request = new ServerHttpRequestDecorator(exchange.getRequest()) {
+            @Override
+            public Flux<DataBuffer> getBody() {
+                // The body is read by the handler adapter, after DispatcherHandler recorded the matched handler
+                Optional<JsonSchemaValidate> optional = findJsonSchemaValidate(exchange
+                    .getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE));
+                if (!optional.isPresent()) {
+                    return super.getBody();
+                }
+                JsonSchemaValidate jsv = optional.get();
+                return DataBufferValidator.validate(super.getBody(), () -> jsonSchemaFactory.newStreamingValidator(jsv));
+            }
+        };
+        return chain.filter(exchange.mutate().request(request).build());
+    }
+
+    private Optional<JsonSchemaValidate> findJsonSchemaValidate(Object handler) {
+        if (handler instanceof HandlerMethod) {
+            return JsonSchemaHandlerMethods.lookup((HandlerMethod) handler);
+        }
+        return Optional.empty();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.Environment;
+import org.springframework.web.reactive.DispatcherHandler;
+import org.springframework.web.reactive.result.method.annotation.RequestMappingHandlerMapping;
+
+/**
+ * 响应式（WebFlux）应用中的请求体验证配置：注册 {@link JsonSchemaWebFilter}，使用非阻塞解析器增量验证请求体，
+ * 并在启动时检查所有请求映射引用的JSON Schema均已定义。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@ConditionalOnClass(DispatcherHandler.class)
+@AutoConfigureAfter(JsonSchemaAutoConfiguration.class)
+public class JsonSchemaWebFluxAutoConfiguration {
+    @Autowired
+    private Environment environment;
+
+    @Bean
+    public JsonSchemaWebFilter jsonSchemaWebFilter(JsonSchemaFactory jsonSchemaFactory) {
+        return new JsonSchemaWebFilter(jsonSchemaFactory);
+    }
+
+    /**
+     * 定义一个应用程序监听器，当应用程序上下文刷新时，验证所有请求映射的JSON Schema定义的存在，
+     * 随后按配置预热被引用的模式，见 {@link JsonSchemaHandlerMethods#verifySchemaDefinition}。
+     *
+     * @param jsonSchemaFactory 用于检索JSON Schema实例的工厂。
+     * @return 一个用于ContextRefreshedEvent的ApplicationListener。
+     */
+    @Bean
+    public ApplicationListener<ContextRefreshedEvent> verifyReactiveSchemaDefinition(JsonSchemaFactory jsonSchemaFactory) {
+        return (event) -> {
+            if (!event.getApplicationContext().containsBean("requestMappingHandlerMapping")
+                || !event.getApplicationContext().isTypeMatch("requestMappingHandlerMapping",
+                    RequestMappingHandlerMapping.class)) {
+                return;
+            }
+            RequestMappingHandlerMapping handlerMapping = event.getApplicationContext().getBean(
+                "requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+            JsonSchemaHandlerMethods.verifySchemaDefinition(handlerMapping.getHandlerMethods(), jsonSchemaFactory,
+                environment);
+        };
+    }
+}
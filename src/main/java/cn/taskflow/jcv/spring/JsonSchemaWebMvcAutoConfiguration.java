@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.AutoConfigureAfter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.env.Environment;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.web.servlet.DispatcherServlet;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.util.List;
+
+/**
+ * Servlet（Spring MVC）应用中的请求体验证配置：通过 {@link CustomRequestBodyAdvice} 在绑定请求体前按模式验证，
+ * 并在启动时检查所有请求映射引用的JSON Schema均已定义。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@ConditionalOnClass(DispatcherServlet.class)
+@AutoConfigureAfter(JsonSchemaAutoConfiguration.class)
+public class JsonSchemaWebMvcAutoConfiguration {
+    @Autowired
+    private Environment environment;
+
+    @Bean("jcvCustomRequestBodyAdvice")
+    public CustomRequestBodyAdvice customRequestBodyAdvice(JsonSchemaRequestBodyValidator validator,
+                                                           JsonSchemaFactory jsonSchemaFactory) {
+        return new CustomRequestBodyAdvice(validator, jsonSchemaFactory);
+    }
+
+    /**
+     * 定义一个用于JsonSchemaRequestBodyValidator的bean，该bean负责根据JSON Schema验证请求体。
+     *
+     * @param jsonSchemaFactory 用于创建JSON Schema实例的工厂。
+     * @return 一个JsonSchemaRequestBodyValidator实例。
+     */
+    @Bean
+    public JsonSchemaRequestBodyValidator jsonSchemaRequestBodyValidator(JsonSchemaFactory jsonSchemaFactory) {
+        return new JsonSchemaRequestBodyValidator(jsonSchemaFactory, isSingleParse());
+    }
+
+    /**
+     * 单次解析模式（jsv.body.single-parse=true）下，在Jackson消息转换器之前注册
+     * {@link BufferedJackson2HttpMessageConverter}，直接使用验证时记录的Token绑定请求体。
+     *
+     * @return 一个WebMvcConfigurer实例。
+     */
+    @Bean
+    public WebMvcConfigurer jcvSingleParseConfigurer() {
+        return new WebMvcConfigurer() {
+            @Override
+            public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+                if (isSingleParse()) {
+                    BufferedJackson2HttpMessageConverter.register(converters);
+                }
+            }
+        };
+    }
+
+    private boolean isSingleParse() {
+        return environment.getProperty("jsv.body.single-parse", Boolean.class, Boolean.FALSE);
+    }
+
+    /**
+     * 定义一个应用程序监听器，当应用程序上下文刷新时，验证所有请求映射的JSON Schema定义的存在，
+     * 随后按配置预热被引用的模式，见 {@link JsonSchemaHandlerMethods#verifySchemaDefinition}。
+     *
+     * @param jsonSchemaFactory 用于检索JSON Schema实例的工厂。
+     * @return 一个用于ContextRefreshedEvent的ApplicationListener。
+     */
+    @Bean
+    public ApplicationListener<ContextRefreshedEvent> verifySchemaDefinition(JsonSchemaFactory jsonSchemaFactory) {
+        return (event) -> {
+            if (!event.getApplicationContext().containsBean("requestMappingHandlerMapping")
+                || !event.getApplicationContext().isTypeMatch("requestMappingHandlerMapping",
+                    RequestMappingHandlerMapping.class)) {
+                return;
+            }
+            RequestMappingHandlerMapping handlerMapping = event.getApplicationContext().getBean(
+                "requestMappingHandlerMapping", RequestMappingHandlerMapping.class);
+            JsonSchemaHandlerMethods.verifySchemaDefinition(handlerMapping.getHandlerMethods(), jsonSchemaFactory,
+                environment);
+        };
+    }
+}
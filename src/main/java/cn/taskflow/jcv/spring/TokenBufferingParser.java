@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+
+import java.io.IOException;
+
+/**
+ * 在读取过程中把每个 Token 记录到 {@link TokenBuffer} 的解析器包装。
+ * 验证器通过 {@link #nextToken()}/{@link #skipChildren()} 读取一次原始字节，
+ * 记录下的 Token 随后可直接交给 ObjectMapper 绑定，无需再次解析。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class TokenBufferingParser extends JsonParserDelegate {
+    private final TokenBuffer tokens;
+
+    TokenBufferingParser(JsonParser parser, TokenBuffer tokens) {
+        super(parser);
+        this.tokens = tokens;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = delegate.nextToken();
+        if (token != null) {
+            tokens.copyCurrentEvent(delegate);
+        }
+        return token;
+    }
+
+    /**
+     * 跳过子节点时逐个读取 Token，保证被跳过的内容同样被记录。
+     */
+    @Override
+    public JsonParser skipChildren() throws IOException {
+        JsonToken token = delegate.getCurrentToken();
+        if (token == null || !token.isStructStart()) {
+            return this;
+        }
+        int open = 1;
+        while ((token = nextToken()) != null) {
+            if (token.isStructStart()) {
+                open++;
+            } else if (token.isStructEnd() && --open == 0) {
+                break;
+            }
+        }
+        return this;
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.utils;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 异步验证使用的执行器工具。
+ * <p>
+ * 默认执行器在 Java 21+ 上为每个任务创建一个虚拟线程（通过反射调用
+ * {@code Executors.newVirtualThreadPerTaskExecutor()}，低版本 JDK 上回退到 {@link ForkJoinPool#commonPool()}）。
+ * {@link #bounded(Executor, int)} 限制同时运行的任务数，超出的任务排队等待而不阻塞提交线程。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class AsyncExecutors {
+    private static final Executor DEFAULT = createDefault();
+
+    /**
+     * 获取默认执行器：Java 21+ 使用虚拟线程，否则使用 ForkJoinPool.commonPool()
+     *
+     * @return 共享的默认执行器
+     */
+    public static Executor defaultExecutor() {
+        return DEFAULT;
+    }
+
+    /**
+     * 当前 JDK 是否支持虚拟线程
+     *
+     * @return 默认执行器使用虚拟线程时返回 true
+     */
+    public static boolean isVirtualThreadSupported() {
+        return DEFAULT != ForkJoinPool.commonPool();
+    }
+
+    private static Executor createDefault() {
+        try {
+            return (Executor) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException | RuntimeException | LinkageError e) {
+            return ForkJoinPool.commonPool();
+        }
+    }
+
+    /**
+     * 包装执行器，使同时运行的任务数不超过 maxConcurrency；超出的任务进入队列，在前序任务完成后依次提交。
+     *
+     * @param executor       实际运行任务的执行器
+     * @param maxConcurrency 最大并发任务数
+     * @return 有并发上限的执行器
+     */
+    public static Executor bounded(Executor executor, int maxConcurrency) {
+        return new BoundedExecutor(executor, maxConcurrency);
+    }
+
+    /**
+     * 并发受限的执行器，提交任务从不阻塞
+     */
+    public static final class BoundedExecutor implements Executor {
+        private final Executor        delegate;
+        private final int             maxConcurrency;
+        private final AtomicInteger   running = new AtomicInteger();
+        private final Deque<Runnable> queue   = new ConcurrentLinkedDeque<>();
+
+        BoundedExecutor(Executor delegate, int maxConcurrency) {
+            if (delegate == null) {
+                throw new IllegalArgumentException("executor must be not null");
+            }
+            if (maxConcurrency < 1) {
+                throw new IllegalArgumentException("maxConcurrency must be greater than 0");
+            }
+            this.delegate = delegate;
+            this.maxConcurrency = maxConcurrency;
+        }
+
+        @Override
+        public void execute(Runnable command) {
+            queue.add(command);
+            RejectedExecutionException rejected = drain();
+            // Only the submitting thread hears of a rejection, and only while its own task is still queued
+            if (rejected != null && queue.remove(command)) {
+                throw rejected;
+            }
+        }
+
+        /**
+         * 在有空闲并发额度时提交排队的任务；被拒绝的任务放回队首，在下一次提交或有任务完成时重试
+         *
+         * @return 使提交中止的拒绝异常，没有被拒绝时为 null
+         */
+        private RejectedExecutionException drain() {
+            while (!queue.isEmpty()) {
+                int current = running.get();
+                if (current >= maxConcurrency) {
+                    return null;
+                }
+                if (!running.compareAndSet(current, current + 1)) {
+                    continue;
+                }
+                Runnable task = queue.poll();
+                if (task == null) {
+                    running.decrementAndGet();
+                    continue;
+                }
+                try {
+                    delegate.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            running.decrementAndGet();
+                            drain();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    running.decrementAndGet();
+                    queue.offerFirst(task);
+                    return e;
+                }
+            }
+            return null;
+        }
+
+        public int getMaxConcurrency() {
+            return maxConcurrency;
+        }
+
+        /**
+         * 当前正在运行的任务数
+         *
+         * @return 运行中的任务数
+         */
+        public int getRunning() {
+            return running.get();
+        }
+
+        /**
+         * 等待并发额度的任务数
+         *
+         * @return 排队中的任务数
+         */
+        public int getQueued() {
+            return queue.size();
+        }
+    }
+}
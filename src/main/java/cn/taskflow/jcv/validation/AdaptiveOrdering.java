@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.IntFunction;
+
+/**
+ * Profile-guided ordering of the checks run by the fail-fast methods.
+ * 基于运行时统计的检查排序：为计划中的每个对象字段和自定义规则记录失败率与耗时，平均每 interval 次验证由
+ * 一个调用线程重新排序并发布新的计划，廉价且经常失败的检查排在前面，使无效数据尽早被拒绝。
+ * <p>
+ * Only the fail-fast methods use the reordered plan. They report nothing but whether the value is valid, which
+ * does not depend on the order of the checks; the throwing and collecting methods always check in declaration
+ * order, so their errors stay exactly the same. Field failures are counted on JsonNode trees; rule failures on
+ * every input. Token streams still meet the fields in document order.
+ * 抛出异常与收集错误的方法始终按声明顺序检查，错误语义不变。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class AdaptiveOrdering {
+    private final ValidationPlan              source;
+    private final int                         interval;
+    // Counters of every declared node and of its rules, shared by all republished plans
+    private final Map<PlanNode, CheckStats>   stats        = new IdentityHashMap<>();
+    private final Map<PlanNode, CheckStats[]> ruleStats    = new IdentityHashMap<>();
+    private final AtomicBoolean               republishing = new AtomicBoolean();
+    private volatile ValidationPlan           plan;
+
+    /**
+     * @param source   the plan in declaration order
+     * @param interval average number of validations between two republished orders
+     */
+    AdaptiveOrdering(ValidationPlan source, int interval) {
+        if (interval < 1) {
+            throw new IllegalArgumentException("interval must be greater than 0");
+        }
+        this.source = source;
+        this.interval = interval;
+        for (PlanNode node : source.getNodes()) {
+            stats.put(node, new CheckStats());
+            if (node.rules != null && node.rules.length > 1) {
+                CheckStats[] counters = new CheckStats[node.rules.length];
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] = new CheckStats();
+                }
+                ruleStats.put(node, counters);
+            }
+        }
+        this.plan = reorder();
+    }
+
+    /**
+     * Gets the plan for the next fail-fast validation, republishing the order about once every interval calls
+     *
+     * @return the current plan
+     */
+    ValidationPlan next() {
+        if (ThreadLocalRandom.current().nextInt(interval) == 0 && republishing.compareAndSet(false, true)) {
+            try {
+                stats.values().forEach(CheckStats::drain);
+                ruleStats.values().forEach(counters -> Arrays.stream(counters).forEach(CheckStats::drain));
+                plan = reorder();
+            } finally {
+                republishing.set(false);
+            }
+        }
+        return plan;
+    }
+
+    int getInterval() {
+        return interval;
+    }
+
+    /**
+     * Gets the current plan without counting a validation
+     *
+     * @return the current plan
+     */
+    ValidationPlan getPlan() {
+        return plan;
+    }
+
+    private ValidationPlan reorder() {
+        List<PlanNode> nodes = new ArrayList<>(stats.size());
+        PlanNode[] roots = new PlanNode[source.getRootCount()];
+        for (int i = 0; i < roots.length; i++) {
+            roots[i] = reorder(source.getRoot(i), nodes);
+        }
+        return source.withRoots(roots, nodes.toArray(new PlanNode[0]));
+    }
+
+    private PlanNode reorder(PlanNode node, List<PlanNode> nodes) {
+        int index = nodes.size();
+        nodes.add(null);
+        PlanNode[] children = new PlanNode[node.children.length];
+        Integer[] order = node.kind == PlanNode.Kind.OBJECT ? rank(node.children.length, i -> stats.get(
+            node.children[i])) : identity(node.children.length);
+        for (int i = 0; i < children.length; i++) {
+            children[i] = reorder(node.children[order[i]], nodes);
+        }
+        CustomValidationRule[] rules = node.rules;
+        CheckStats[] counters = ruleStats.get(node);
+        CheckStats[] ordered = null;
+        if (counters != null) {
+            Integer[] ruleOrder = rank(counters.length, i -> counters[i]);
+            rules = new CustomValidationRule[counters.length];
+            ordered = new CheckStats[counters.length];
+            for (int i = 0; i < rules.length; i++) {
+                rules[i] = node.rules[ruleOrder[i]];
+                ordered[i] = counters[ruleOrder[i]];
+            }
+        }
+        PlanNode copy = node.reordered(children, rules, stats.get(node), ordered);
+        nodes.set(index, copy);
+        return copy;
+    }
+
+    /**
+     * Sorts positions by descending score; the sort is stable, so unranked checks keep declaration order
+     */
+    private static Integer[] rank(int length, IntFunction<CheckStats> counters) {
+        Integer[] order = identity(length);
+        double[] scores = new double[length];
+        for (int i = 0; i < length; i++) {
+            scores[i] = counters.apply(i).score();
+        }
+        Arrays.sort(order, (a, b) -> Double.compare(scores[b], scores[a]));
+        return order;
+    }
+
+    private static Integer[] identity(int length) {
+        Integer[] order = new Integer[length];
+        for (int i = 0; i < length; i++) {
+            order[i] = i;
+        }
+        return order;
+    }
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Per-record results of one batch call, in input order, together with its throughput counters.
+ * 一次批量验证的结果：按输入顺序排列的单条记录结果以及吞吐量统计。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class BatchResult {
+    private final List<RecordResult> records;
+    private final BatchStats         stats;
+
+    BatchResult(List<RecordResult> records, BatchStats stats) {
+        this.records = Collections.unmodifiableList(records);
+        this.stats = stats;
+    }
+
+    /**
+     * Gets the result of every record in input order
+     *
+     * @return read-only record results
+     */
+    public List<RecordResult> getRecords() {
+        return records;
+    }
+
+    /**
+     * Gets the results of the invalid records only
+     *
+     * @return invalid record results in input order
+     */
+    public List<RecordResult> getInvalidRecords() {
+        List<RecordResult> invalid = new ArrayList<>();
+        for (RecordResult record : records) {
+            if (!record.isValid()) {
+                invalid.add(record);
+            }
+        }
+        return invalid;
+    }
+
+    public boolean isAllValid() {
+        return stats.getInvalidRecords() == 0;
+    }
+
+    public BatchStats getStats() {
+        return stats;
+    }
+}
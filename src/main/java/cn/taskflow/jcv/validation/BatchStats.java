@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throughput counters of batch validation.
+ * 批量验证吞吐量统计：记录数、有效/无效记录数、读取字节数与耗时。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class BatchStats {
+    private final long records;
+    private final long invalidRecords;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    BatchStats(long records, long invalidRecords, long bytes, long elapsedNanos) {
+        this.records = records;
+        this.invalidRecords = invalidRecords;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public long getValidRecords() {
+        return records - invalidRecords;
+    }
+
+    public long getInvalidRecords() {
+        return invalidRecords;
+    }
+
+    /**
+     * Gets the number of bytes read from NDJSON input, String records are not counted
+     *
+     * @return bytes read
+     */
+    public long getBytes() {
+        return bytes;
+    }
+
+    /**
+     * Gets the wall clock time spent in batch calls
+     *
+     * @return elapsed nanoseconds
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRecordsPerSecond() {
+        return perSecond(records);
+    }
+
+    public double getBytesPerSecond() {
+        return perSecond(bytes);
+    }
+
+    private double perSecond(long count) {
+        return elapsedNanos == 0 ? 0 : count * (double) TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "records=" + records + ", invalid=" + invalidRecords + ", bytes=" + bytes + ", elapsed="
+               + TimeUnit.NANOSECONDS.toMillis(elapsedNanos) + "ms, records/s=" + (long) getRecordsPerSecond();
+    }
+}
@@ -0,0 +1,438 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.encode.NodeFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Validates many documents against one compiled schema, for offline jobs and imports.
+ * <p>
+ * Records are grouped into chunks which run on a worker pool, at most {@code workers} chunks are in flight so
+ * memory stays bounded for unbounded inputs. Results are delivered in input order, every record gets a
+ * {@link RecordResult} and nothing is thrown for invalid or malformed records. Each worker thread keeps its own
+ * streaming validator state, and parsers are created from the shared JsonFactory whose buffers are recycled per
+ * thread. NDJSON lines are validated straight from the read buffer without being decoded to Strings.
+ * <p>
+ * 批量验证：按块并发验证大量文档，按输入顺序返回每条记录的结果（不抛出异常），并统计吞吐量。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class BatchValidator {
+    /**
+     * Default number of records per chunk
+     */
+    public static final int                       DEFAULT_CHUNK_SIZE = 256;
+    private static final int                      READ_BUFFER_SIZE   = 64 * 1024;
+    private final ValidationPlan                  plan;
+    private final VerifyHandler                   handler;
+    private final int                             maxErrors;
+    private final Executor                        executor;
+    private final int                             workers;
+    private final int                             chunkSize;
+    private final ThreadLocal<StreamingValidator> validators;
+    // Cumulative counters of every call
+    private final LongAdder                       totalRecords       = new LongAdder();
+    private final LongAdder                       totalInvalid       = new LongAdder();
+    private final LongAdder                       totalBytes         = new LongAdder();
+    private final LongAdder                       totalNanos         = new LongAdder();
+
+    BatchValidator(Validator.AbstractDataValidator dataValidator, Executor executor, int workers, int chunkSize) {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must be not null");
+        }
+        if (workers < 1 || chunkSize < 1) {
+            throw new IllegalArgumentException("workers and chunkSize must be greater than 0");
+        }
+        this.plan = dataValidator.getPlan();
+        this.handler = dataValidator.getVerifyHandler();
+        this.maxErrors = dataValidator.getMaxErrors();
+        this.executor = executor;
+        this.workers = workers;
+        this.chunkSize = chunkSize;
+        this.validators = ThreadLocal.withInitial(() -> new StreamingValidator(plan, ErrorReporter.FAIL_FAST));
+    }
+
+    /**
+     * Validates a list of JSON documents; a null element is validated as a missing document
+     *
+     * @param records the documents
+     * @return the per-record results in list order
+     */
+    public BatchResult validate(List<String> records) {
+        return validate(records.iterator());
+    }
+
+    /**
+     * Validates a stream of JSON documents
+     *
+     * @param records the documents, consumed but not closed
+     * @return the per-record results in stream order
+     */
+    public BatchResult validate(Stream<String> records) {
+        return validate(records.iterator());
+    }
+
+    /**
+     * Validates the JSON documents of an iterator
+     *
+     * @param records the documents
+     * @return the per-record results in iteration order
+     */
+    public BatchResult validate(Iterator<String> records) {
+        List<RecordResult> results = new ArrayList<>();
+        BatchStats stats = validate(records, results::add);
+        return new BatchResult(results, stats);
+    }
+
+    /**
+     * Validates the JSON documents of an iterator and hands every result to a consumer, so results need not be
+     * kept in memory
+     *
+     * @param records the documents
+     * @param sink    receives the results in iteration order, on the calling thread
+     * @return the counters of this call
+     */
+    public BatchStats validate(Iterator<String> records, Consumer<RecordResult> sink) {
+        return run(new StringChunks(records), sink);
+    }
+
+    /**
+     * Validates newline delimited JSON, one document per line; blank lines are skipped
+     *
+     * @param in the NDJSON input, closed once all lines are read
+     * @return the per-record results in line order
+     */
+    public BatchResult validateNdjson(InputStream in) {
+        List<RecordResult> results = new ArrayList<>();
+        BatchStats stats = validateNdjson(in, results::add);
+        return new BatchResult(results, stats);
+    }
+
+    /**
+     * Validates newline delimited JSON and hands every result to a consumer
+     *
+     * @param in   the NDJSON input, closed once all lines are read
+     * @param sink receives the results in line order, on the calling thread
+     * @return the counters of this call
+     */
+    public BatchStats validateNdjson(InputStream in, Consumer<RecordResult> sink) {
+        try (NdjsonChunks chunks = new NdjsonChunks(in)) {
+            return run(chunks, sink);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Gets the counters accumulated over every call of this batch validator
+     *
+     * @return a snapshot of the counters
+     */
+    public BatchStats getStats() {
+        return new BatchStats(totalRecords.sum(), totalInvalid.sum(), totalBytes.sum(), totalNanos.sum());
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    private BatchStats run(Chunks chunks, Consumer<RecordResult> sink) {
+        long start = System.nanoTime();
+        long[] counts = new long[2];
+        Deque<CompletableFuture<RecordResult[]>> inFlight = new ArrayDeque<>();
+        try {
+            Chunk chunk;
+            while ((chunk = chunks.next()) != null) {
+                if (workers == 1) {
+                    deliver(process(chunk), sink, counts);
+                    continue;
+                }
+                inFlight.add(submit(chunk));
+                if (inFlight.size() >= workers) {
+                    deliver(join(inFlight.poll()), sink, counts);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                deliver(join(inFlight.poll()), sink, counts);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            for (CompletableFuture<RecordResult[]> future : inFlight) {
+                future.cancel(false);
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+        totalRecords.add(counts[0]);
+        totalInvalid.add(counts[1]);
+        totalBytes.add(chunks.bytes());
+        totalNanos.add(elapsed);
+        return new BatchStats(counts[0], counts[1], chunks.bytes(), elapsed);
+    }
+
+    private CompletableFuture<RecordResult[]> submit(Chunk chunk) {
+        try {
+            return CompletableFuture.supplyAsync(() -> process(chunk), executor);
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(process(chunk));
+        }
+    }
+
+    private static RecordResult[] join(CompletableFuture<RecordResult[]> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            } else if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static void deliver(RecordResult[] results, Consumer<RecordResult> sink, long[] counts) {
+        for (RecordResult result : results) {
+            counts[0]++;
+            if (!result.isValid()) {
+                counts[1]++;
+            }
+            sink.accept(result);
+        }
+    }
+
+    private RecordResult[] process(Chunk chunk) {
+        StreamingValidator validator = validators.get();
+        RecordResult[] results = new RecordResult[chunk.count];
+        for (int i = 0; i < chunk.count; i++) {
+            ValidationResult result = new ValidationResult(maxErrors);
+            validator.reset(ErrorReporter.collecting(handler, result));
+            try (JsonParser parser = chunk.parser(i)) {
+                // A record with violations may have stopped inside its root value
+                if (ValidationPlan.validate(validator, parser) && result.isValid()) {
+                    ValidationPlan.requireEnd(parser);
+                }
+            } catch (JsonProcessingException e) {
+                result.add(ValidationError.malformed(plan.getRoot(), e));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            results[i] = new RecordResult(chunk.firstIndex + i, result);
+        }
+        return results;
+    }
+
+    /**
+     * A group of consecutive records validated by one worker
+     */
+    private abstract static class Chunk {
+        final long firstIndex;
+        int        count;
+
+        Chunk(long firstIndex) {
+            this.firstIndex = firstIndex;
+        }
+
+        abstract JsonParser parser(int i) throws IOException;
+    }
+
+    private interface Chunks {
+        Chunk next() throws IOException;
+
+        long bytes();
+    }
+
+    private final class StringChunks implements Chunks {
+        private final Iterator<String> records;
+        private long                   index;
+
+        StringChunks(Iterator<String> records) {
+            this.records = records;
+        }
+
+        @Override
+        public Chunk next() {
+            if (!records.hasNext()) {
+                return null;
+            }
+            String[] texts = new String[chunkSize];
+            Chunk chunk = new Chunk(index) {
+                @Override
+                JsonParser parser(int i) throws IOException {
+                    return NodeFactory.createParser(texts[i] == null ? "" : texts[i]);
+                }
+            };
+            while (chunk.count < chunkSize && records.hasNext()) {
+                texts[chunk.count++] = records.next();
+            }
+            index += chunk.count;
+            return chunk;
+        }
+
+        @Override
+        public long bytes() {
+            return 0;
+        }
+    }
+
+    /**
+     * Splits an NDJSON stream into chunks of lines; the lines of a chunk share one byte array
+     */
+    private final class NdjsonChunks implements Chunks, AutoCloseable {
+        private final InputStream in;
+        private final byte[]      buffer = new byte[READ_BUFFER_SIZE];
+        private int               position;
+        private int               limit;
+        private boolean           eof;
+        private long              index;
+        private long              bytes;
+
+        NdjsonChunks(InputStream in) {
+            this.in = in;
+        }
+
+        @Override
+        public Chunk next() throws IOException {
+            LineChunk chunk = new LineChunk(index);
+            while (chunk.count < chunkSize && readLine(chunk)) {
+                // keep filling the chunk
+            }
+            index += chunk.count;
+            return chunk.count == 0 ? null : chunk;
+        }
+
+        /**
+         * Appends the next non-blank line to the chunk
+         *
+         * @return false at the end of the input
+         */
+        private boolean readLine(LineChunk chunk) throws IOException {
+            while (true) {
+                int start = chunk.length;
+                boolean blank = true;
+                boolean ended = false;
+                while (!ended) {
+                    if (position == limit && !fill()) {
+                        if (chunk.length == start) {
+                            return false;
+                        }
+                        break;
+                    }
+                    int from = position;
+                    while (position < limit && buffer[position] != '\n') {
+                        byte b = buffer[position++];
+                        if (blank && b != ' ' && b != '\t' && b != '\r') {
+                            blank = false;
+                        }
+                    }
+                    chunk.append(buffer, from, position - from);
+                    if (position < limit) {
+                        position++;
+                        ended = true;
+                    }
+                }
+                if (blank) {
+                    chunk.length = start;
+                    if (!ended) {
+                        return false;
+                    }
+                    continue;
+                }
+                chunk.add(start);
+                return true;
+            }
+        }
+
+        private boolean fill() throws IOException {
+            if (eof) {
+                return false;
+            }
+            int n = in.read(buffer);
+            if (n <= 0) {
+                eof = n < 0;
+                return !eof && fill();
+            }
+            position = 0;
+            limit = n;
+            bytes += n;
+            return true;
+        }
+
+        @Override
+        public long bytes() {
+            return bytes;
+        }
+
+        @Override
+        public void close() throws IOException {
+            in.close();
+        }
+    }
+
+    private static final class LineChunk extends Chunk {
+        byte[] data   = new byte[1024];
+        int    length;
+        int[]  starts = new int[16];
+        int[]  ends   = new int[16];
+
+        LineChunk(long firstIndex) {
+            super(firstIndex);
+        }
+
+        void append(byte[] bytes, int offset, int len) {
+            if (length + len > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length << 1, length + len));
+            }
+            System.arraycopy(bytes, offset, data, length, len);
+            length += len;
+        }
+
+        void add(int start) {
+            if (count == starts.length) {
+                starts = Arrays.copyOf(starts, count << 1);
+                ends = Arrays.copyOf(ends, count << 1);
+            }
+            starts[count] = start;
+            ends[count] = length;
+            count++;
+        }
+
+        @Override
+        JsonParser parser(int i) throws IOException {
+            return NodeFactory.getJsonFactory().createParser(data, starts[i], ends[i] - starts[i]);
+        }
+    }
+}
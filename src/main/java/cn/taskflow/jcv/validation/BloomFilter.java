@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+/**
+ * On-heap Bloom filter over 64-bit key hashes.
+ * 基于 64 位键哈希的堆内布隆过滤器：不存在的键大多在此直接被拒绝，不必访问映射文件的页面。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class BloomFilter {
+    private final long[] words;
+    private final long   bits;
+    private final int    hashes;
+
+    /**
+     * @param expected          the number of keys
+     * @param falsePositiveRate the wanted false positive rate, between 0 and 1 exclusive
+     */
+    BloomFilter(long expected, double falsePositiveRate) {
+        if (!(falsePositiveRate > 0 && falsePositiveRate < 1)) {
+            throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+        }
+        long n = Math.max(expected, 1);
+        long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        this.words = new long[(int) Math.min((Math.max(m, 64) + 63) >>> 6, Integer.MAX_VALUE - 8)];
+        this.bits = (long) words.length << 6;
+        this.hashes = (int) Math.max(1, Math.min(30, Math.round((double) bits / n * Math.log(2))));
+    }
+
+    void add(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long index = index(h1 + (long) i * h2);
+            words[(int) (index >>> 6)] |= 1L << index;
+        }
+    }
+
+    boolean mightContain(long hash) {
+        int h1 = (int) hash;
+        int h2 = (int) (hash >>> 32);
+        for (int i = 1; i <= hashes; i++) {
+            long index = index(h1 + (long) i * h2);
+            if ((words[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long index(long combined) {
+        return (combined < 0 ? ~combined : combined) % bits;
+    }
+
+    /**
+     * Spreads a 64-bit value, used as the hash of a numeric key
+     */
+    static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        return h ^ (h >>> 33);
+    }
+
+    long sizeInBytes() {
+        return (long) words.length << 3;
+    }
+}
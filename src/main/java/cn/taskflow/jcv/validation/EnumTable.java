@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Precomputed hashed lookup table of the accepted names of an enum constraint.
+ * 枚举约束的预计算哈希查找表：构建一次，按字符串、字符区间（流式解析器的字符缓冲区）或 UTF-8 字节区间查找，
+ * 均不创建中间字符串；可选忽略大小写，与 {@link String#equalsIgnoreCase(String)} 的比较规则一致。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class EnumTable {
+    private final boolean  ignoreCase;
+    private final int      size;
+    // Slots hashed by the characters of a name
+    private final String[] names;
+    // Slots hashed by the UTF-8 bytes of a name
+    private final byte[][] utf8;
+    private final int      mask;
+    // Bytes can be folded one by one only when every name is ASCII
+    private final boolean  ascii;
+
+    EnumTable(String[] accepted, boolean ignoreCase) {
+        this.ignoreCase = ignoreCase;
+        int capacity = Integer.highestOneBit(Math.max(accepted.length, 2) * 2 - 1) << 1;
+        this.names = new String[capacity];
+        this.utf8 = new byte[capacity][];
+        this.mask = capacity - 1;
+        boolean ascii = true;
+        int size = 0;
+        for (String name : accepted) {
+            if (contains(name)) {
+                continue;
+            }
+            size++;
+            for (int i = hash(name, 0, name.length()) & mask;; i = (i + 1) & mask) {
+                if (names[i] == null) {
+                    names[i] = name;
+                    break;
+                }
+            }
+            byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+            ascii &= bytes.length == name.length();
+            for (int i = hash(bytes, 0, bytes.length) & mask;; i = (i + 1) & mask) {
+                if (utf8[i] == null) {
+                    utf8[i] = bytes;
+                    break;
+                }
+            }
+        }
+        this.size = size;
+        this.ascii = ascii;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean contains(String value) {
+        for (int i = hash(value, 0, value.length()) & mask;; i = (i + 1) & mask) {
+            String name = names[i];
+            if (name == null) {
+                return false;
+            } else if (ignoreCase ? name.equalsIgnoreCase(value) : name.equals(value)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Looks up the characters of a parser's text buffer
+     */
+    boolean contains(char[] chars, int offset, int length) {
+        for (int i = hash(chars, offset, length) & mask;; i = (i + 1) & mask) {
+            String name = names[i];
+            if (name == null) {
+                return false;
+            } else if (name.length() == length && matches(name, chars, offset)) {
+                return true;
+            }
+        }
+    }
+
+    /**
+     * Looks up UTF-8 encoded bytes
+     */
+    boolean contains(byte[] bytes, int offset, int length) {
+        if (ignoreCase && (!ascii || !isAscii(bytes, offset, length))) {
+            // Non-ASCII characters may fold onto ASCII ones (e.g. the Kelvin sign), so compare decoded
+            return contains(new String(bytes, offset, length, StandardCharsets.UTF_8));
+        }
+        for (int i = hash(bytes, offset, length) & mask;; i = (i + 1) & mask) {
+            byte[] name = utf8[i];
+            if (name == null) {
+                return false;
+            } else if (name.length == length && matches(name, bytes, offset)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean matches(String name, char[] chars, int offset) {
+        for (int i = 0; i < name.length(); i++) {
+            char a = name.charAt(i);
+            char b = chars[offset + i];
+            if (a != b && (!ignoreCase || fold(a) != fold(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean matches(byte[] name, byte[] bytes, int offset) {
+        for (int i = 0; i < name.length; i++) {
+            byte a = name[i];
+            byte b = bytes[offset + i];
+            if (a != b && (!ignoreCase || foldAscii(a) != foldAscii(b))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int hash(CharSequence value, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = value.charAt(i);
+            h = 31 * h + (ignoreCase ? fold(c) : c);
+        }
+        return spread(h);
+    }
+
+    private int hash(char[] chars, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            char c = chars[i];
+            h = 31 * h + (ignoreCase ? fold(c) : c);
+        }
+        return spread(h);
+    }
+
+    private int hash(byte[] bytes, int offset, int length) {
+        int h = 0;
+        for (int i = offset; i < offset + length; i++) {
+            h = 31 * h + (ignoreCase ? foldAscii(bytes[i]) : bytes[i] & 0xFF);
+        }
+        return spread(h);
+    }
+
+    private static boolean isAscii(byte[] bytes, int offset, int length) {
+        for (int i = offset; i < offset + length; i++) {
+            if (bytes[i] < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int spread(int h) {
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * The case folding of {@link String#equalsIgnoreCase(String)}
+     */
+    private static char fold(char c) {
+        return Character.toLowerCase(Character.toUpperCase(c));
+    }
+
+    private static int foldAscii(byte b) {
+        return b >= 'A' && b <= 'Z' ? b + ('a' - 'A') : b & 0xFF;
+    }
+}
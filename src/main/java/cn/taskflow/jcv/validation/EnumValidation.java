@@ -18,19 +18,48 @@ package cn.taskflow.jcv.validation;
 
 import cn.taskflow.jcv.core.JsonSchema;
 import cn.taskflow.jcv.exception.ValidationException;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.databind.JsonNode;
 
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
 /**
  * Enum validator for validating values against a predefined set of allowed values
- * 枚举验证器，用于验证值是否在预定义的允许值集合中
+ * 枚举验证器，用于验证值是否在预定义的允许值集合中；允许值在创建时编译为哈希查找表，验证时只做一次查找
  *
  * @author SHOUSHEN.LUAN
  * @since 2024-10-26
  */
 public class EnumValidation implements CustomValidationRule {
-    // Array to store the allowed enum values
-    // 用于存储允许的枚举值的数组
-    private final Object[] values;
+    /**
+     * Matching options of {@link #of(Class, Option...)}
+     * 枚举匹配选项
+     */
+    public enum Option {
+        /**
+         * Matches names regardless of case, like {@link String#equalsIgnoreCase(String)}
+         * 忽略大小写
+         */
+        IGNORE_CASE,
+        /**
+         * Matches the JSON names of the constants: the {@code @JsonProperty} name instead of the constant name,
+         * and every {@code @JsonAlias}
+         * 按 JSON 名称匹配：使用 {@code @JsonProperty} 指定的名称及 {@code @JsonAlias} 别名
+         */
+        JSON_NAMES
+    }
+
+    // Accepted names, in declaration order
+    // 允许的名称
+    private final String[]  names;
+    private final boolean   ignoreCase;
+    // Hashed lookup table of the names, built once
+    // 预先构建的名称哈希查找表
+    private final EnumTable table;
 
     /**
      * Constructor to initialize the enum validator with allowed values
@@ -39,7 +68,13 @@ public class EnumValidation implements CustomValidationRule {
      *               允许的枚举值数组
      */
     public EnumValidation(Object[] values) {
-        this.values = values;
+        this(namesOf(values), false);
+    }
+
+    private EnumValidation(String[] names, boolean ignoreCase) {
+        this.names = names;
+        this.ignoreCase = ignoreCase;
+        this.table = new EnumTable(names, ignoreCase);
     }
 
     /**
@@ -54,6 +89,86 @@ public class EnumValidation implements CustomValidationRule {
         return new EnumValidation(values);
     }
 
+    /**
+     * Creates an enum validator accepting the names of the constants of an enum class
+     * 创建按枚举常量名称匹配的枚举验证器
+     * @param enumClass The enum class
+     *                  枚举类
+     * @param options   Matching options
+     *                  匹配选项
+     * @return New EnumValidation instance
+     *         新的 EnumValidation 实例
+     */
+    public static EnumValidation of(Class<? extends Enum<?>> enumClass, Option... options) {
+        boolean jsonNames = false;
+        boolean ignoreCase = false;
+        for (Option option : options) {
+            jsonNames |= option == Option.JSON_NAMES;
+            ignoreCase |= option == Option.IGNORE_CASE;
+        }
+        List<String> names = new ArrayList<>();
+        for (Enum<?> constant : enumClass.getEnumConstants()) {
+            if (jsonNames) {
+                addJsonNames(enumClass, constant, names);
+            } else {
+                names.add(constant.name());
+            }
+        }
+        return new EnumValidation(names.toArray(new String[0]), ignoreCase);
+    }
+
+    private static void addJsonNames(Class<?> enumClass, Enum<?> constant, List<String> names) {
+        Field field;
+        try {
+            field = enumClass.getField(constant.name());
+        } catch (NoSuchFieldException e) {
+            throw new IllegalStateException(e);
+        }
+        JsonProperty property = field.getAnnotation(JsonProperty.class);
+        names.add(property != null && !property.value().isEmpty() ? property.value() : constant.name());
+        JsonAlias alias = field.getAnnotation(JsonAlias.class);
+        if (alias != null) {
+            names.addAll(Arrays.asList(alias.value()));
+        }
+    }
+
+    private static String[] namesOf(Object[] values) {
+        String[] names = new String[values.length];
+        for (int i = 0; i < values.length; i++) {
+            names[i] = values[i].toString();
+        }
+        return names;
+    }
+
+    /**
+     * Checks whether a text is one of the accepted names
+     * 检查文本是否为允许的名称之一
+     * @param text The text
+     *             文本
+     * @return true if the text is accepted
+     *         允许时返回 true
+     */
+    public boolean matches(String text) {
+        return table.contains(text);
+    }
+
+    /**
+     * Checks a text held in a character buffer, such as the text buffer of a streaming parser, without creating
+     * a string
+     * 直接在字符缓冲区（例如流式解析器的文本缓冲区）上匹配，不创建字符串
+     */
+    public boolean matches(char[] chars, int offset, int length) {
+        return table.contains(chars, offset, length);
+    }
+
+    /**
+     * Checks a UTF-8 encoded text without decoding it
+     * 直接在 UTF-8 字节上匹配，不解码为字符串
+     */
+    public boolean matches(byte[] utf8, int offset, int length) {
+        return table.contains(utf8, offset, length);
+    }
+
     /**
      * Validates if the given node value matches any of the allowed enum values
      * 验证给定节点值是否与任何允许的枚举值匹配
@@ -69,13 +184,25 @@ public class EnumValidation implements CustomValidationRule {
     @Override
     public boolean validate(JsonSchema schema, JsonNode node) throws ValidationException {
         if (node != null && !node.isNull()) {
-            for (Object value : values) {
-                if (value.toString().equals(node.asText())) {
-                    return true;
-                }
-            }
-            return false;
+            return table.contains(node.asText());
         }
         return true;
     }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof EnumValidation)) {
+            return false;
+        }
+        EnumValidation that = (EnumValidation) obj;
+        return ignoreCase == that.ignoreCase && Arrays.equals(names, that.names);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(names) * 31 + (ignoreCase ? 1 : 0);
+    }
 }
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.exception.ValidationException;
+import cn.taskflow.jcv.utils.JsvUtils;
+import cn.taskflow.jcv.utils.StringUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+
+/**
+ * Receives the violations found while walking a {@link ValidationPlan}.
+ * <p>
+ * Every method returns whether validation should go on. The {@link #throwing throwing} reporter keeps the
+ * historical behaviour and throws the same exceptions as before, {@link #collecting} records errors into a
+ * {@link ValidationResult} without creating exceptions, and {@link #FAIL_FAST} only stops at the first violation.
+ * <p>
+ * 验证错误的接收方：抛出异常（兼容原有行为）、收集错误记录或在首个错误处停止。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+abstract class ErrorReporter {
+    /**
+     * Stops at the first violation without recording anything, used by {@link Validator#isValid}
+     */
+    static final ErrorReporter FAIL_FAST = new ErrorReporter() {
+                                             @Override
+                                             boolean missing(PlanNode node) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean missingValue(PlanNode node) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean typeMismatch(PlanNode node) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean emptyArray(PlanNode node) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean outOfRange(PlanNode node) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean invalidFormat(PlanNode node) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean ruleFailed(PlanNode node, CustomValidationRule rule,
+                                                                RuntimeException cause) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean valueRejected(PlanNode node, ValueRangeValidation rule,
+                                                                   JsonNode value, int rejection) {
+                                                 return false;
+                                             }
+
+                                             @Override
+                                             boolean describesErrors() {
+                                                 return false;
+                                             }
+                                         };
+
+    static ErrorReporter throwing(VerifyHandler handler) {
+        return new Throwing(handler);
+    }
+
+    static ErrorReporter collecting(VerifyHandler handler, ValidationResult result) {
+        return new Collecting(handler, result);
+    }
+
+    /**
+     * A required value is absent or null
+     */
+    abstract boolean missing(PlanNode node);
+
+    /**
+     * The textual value of a required primitive is null
+     */
+    abstract boolean missingValue(PlanNode node);
+
+    abstract boolean typeMismatch(PlanNode node);
+
+    /**
+     * A required array with a declared element has no elements
+     */
+    abstract boolean emptyArray(PlanNode node);
+
+    /**
+     * A number or the length of a string is outside the bounds of the node
+     */
+    abstract boolean outOfRange(PlanNode node);
+
+    /**
+     * The value is not a valid number or boolean
+     */
+    abstract boolean invalidFormat(PlanNode node);
+
+    /**
+     * A custom rule rejected the value
+     *
+     * @param rule  the rule, null when the schema verifies itself
+     * @param cause the exception thrown by the rule, null when the rule returned false
+     */
+    abstract boolean ruleFailed(PlanNode node, CustomValidationRule rule, RuntimeException cause);
+
+    /**
+     * A withinValues / excludeValues rule rejected the value, reported without the rule throwing
+     *
+     * @param rejection {@link ValueRangeValidation#NOT_WITHIN} or {@link ValueRangeValidation#EXCLUDED}
+     */
+    abstract boolean valueRejected(PlanNode node, ValueRangeValidation rule, JsonNode value, int rejection);
+
+    /**
+     * Whether the reporter needs the details of a violation, false when only the outcome matters
+     */
+    boolean describesErrors() {
+        return true;
+    }
+
+    /**
+     * Reports exactly the exceptions the validator has always thrown
+     */
+    private static final class Throwing extends ErrorReporter {
+        private final VerifyHandler handler;
+
+        Throwing(VerifyHandler handler) {
+            this.handler = handler;
+        }
+
+        @Override
+        boolean missing(PlanNode node) {
+            throw handler.throwMissing(node.path);
+        }
+
+        @Override
+        boolean missingValue(PlanNode node) {
+            throw JsvUtils.throwMissingParamException(node.name);
+        }
+
+        @Override
+        boolean typeMismatch(PlanNode node) {
+            throw handler.throwError(node.path);
+        }
+
+        @Override
+        boolean emptyArray(PlanNode node) {
+            throw JsvUtils.throwParamException(node.path);
+        }
+
+        @Override
+        boolean outOfRange(PlanNode node) {
+            throw new ValidationException(node.tipMsg, node.path);
+        }
+
+        @Override
+        boolean invalidFormat(PlanNode node) {
+            if (node.kind == PlanNode.Kind.NUMBER) {
+                throw new ValidationException(node.numberFormatMsg, node.path);
+            }
+            throw JsvUtils.throwParamException(node.name);
+        }
+
+        @Override
+        boolean ruleFailed(PlanNode node, CustomValidationRule rule, RuntimeException cause) {
+            if (cause != null) {
+                throw cause;
+            }
+            if (StringUtils.isNotBlank(node.path)) {
+                throw new ValidationException("Invalid parameter `" + node.path + "`", node.path);
+            } else {
+                throw new IllegalArgumentException("Parameter validation failure");
+            }
+        }
+
+        @Override
+        boolean valueRejected(PlanNode node, ValueRangeValidation rule, JsonNode value, int rejection) {
+            throw ValueRangeValidation.exception(node.schema, value, rejection);
+        }
+    }
+
+    /**
+     * Records every violation with the message the throwing reporter would have used
+     */
+    private static final class Collecting extends ErrorReporter {
+        private final VerifyHandler    handler;
+        private final ValidationResult result;
+
+        Collecting(VerifyHandler handler, ValidationResult result) {
+            this.handler = handler;
+            this.result = result;
+        }
+
+        private boolean add(PlanNode node, String rule, ValidationError.Code code, String message) {
+            return result.add(new ValidationError(node.path, rule, code, message));
+        }
+
+        @Override
+        boolean missing(PlanNode node) {
+            String message = StringUtils.isBlank(node.path) ? handler.getTipError(node.path) : handler
+                .getTipMissing(node.path);
+            return add(node, "required", ValidationError.Code.MISSING, message);
+        }
+
+        @Override
+        boolean missingValue(PlanNode node) {
+            return add(node, "required", ValidationError.Code.MISSING, JsvUtils.formatParamMissing(node.name));
+        }
+
+        @Override
+        boolean typeMismatch(PlanNode node) {
+            return add(node, "type", ValidationError.Code.TYPE_MISMATCH, handler.getTipError(node.path));
+        }
+
+        @Override
+        boolean emptyArray(PlanNode node) {
+            return add(node, "notEmpty", ValidationError.Code.EMPTY_ARRAY, JsvUtils.formatParamError(node.path));
+        }
+
+        @Override
+        boolean outOfRange(PlanNode node) {
+            String rule = node.kind == PlanNode.Kind.NUMBER ? "range" : "length";
+            return add(node, rule, ValidationError.Code.OUT_OF_RANGE, node.tipMsg);
+        }
+
+        @Override
+        boolean invalidFormat(PlanNode node) {
+            if (node.kind == PlanNode.Kind.NUMBER) {
+                return add(node, "number", ValidationError.Code.INVALID_FORMAT, node.numberFormatMsg);
+            }
+            return add(node, "boolean", ValidationError.Code.INVALID_FORMAT, JsvUtils.formatParamError(node.name));
+        }
+
+        @Override
+        boolean ruleFailed(PlanNode node, CustomValidationRule rule, RuntimeException cause) {
+            String name = ruleName(rule);
+            if (cause != null) {
+                String path = cause instanceof ValidationException ? ((ValidationException) cause).getPath()
+                    : node.path;
+                return result.add(new ValidationError(path, name, ValidationError.Code.RULE_VIOLATION, cause
+                    .getMessage()));
+            }
+            String message = StringUtils.isNotBlank(node.path) ? "Invalid parameter `" + node.path + "`"
+                : "Parameter validation failure";
+            return add(node, name, ValidationError.Code.RULE_VIOLATION, message);
+        }
+
+        @Override
+        boolean valueRejected(PlanNode node, ValueRangeValidation rule, JsonNode value, int rejection) {
+            // Same path and message as the exception the rule throws
+            String path = node.schema.getPath();
+            return result.add(new ValidationError(StringUtils.isNotBlank(path) ? path : node.path, ruleName(rule),
+                ValidationError.Code.RULE_VIOLATION, ValueRangeValidation.message(path, rejection)));
+        }
+
+        private static String ruleName(CustomValidationRule rule) {
+            if (rule == null) {
+                return "verify";
+            }
+            Class<?> type = rule.getClass();
+            return type.isSynthetic() || type.isAnonymousClass() ? "custom" : type.getSimpleName();
+        }
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+/**
+ * Immutable field name index of an object node, built once when the plan is compiled.
+ * 对象节点的字段名索引，编译期构建且不可变。
+ * <p>
+ * The names are placed in an open addressing table of at least twice their count. The builder searches for a
+ * hash seed, growing the table up to {@value #MAX_PERFECT_SLOTS} slots, under which no two names share a slot, so
+ * a lookup is a single probe and one {@code equals}; when no such seed is found the table falls back to linear
+ * probing at a load factor of at most one half.
+ * 构建时尝试寻找使所有字段名互不冲突的哈希种子（完美哈希），查找只需一次探测；找不到时退化为线性探测。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class FieldIndex {
+    static final FieldIndex  EMPTY             = new FieldIndex(new String[0]);
+    // Largest table tried while searching for a collision free seed
+    private static final int MAX_PERFECT_SLOTS = 1024;
+    private static final int SEED_ATTEMPTS     = 8;
+
+    private final String[]   names;
+    private final int[]      indexes;
+    private final int        mask;
+    private final int        seed;
+    private final boolean    perfect;
+
+    private FieldIndex(String[] fields) {
+        int capacity = Integer.highestOneBit(Math.max(2, fields.length * 2 - 1)) << 1;
+        int limit = Math.max(capacity, Math.min(MAX_PERFECT_SLOTS, fields.length * fields.length));
+        for (int size = capacity; size <= limit; size <<= 1) {
+            for (int attempt = 0; attempt < SEED_ATTEMPTS; attempt++) {
+                int candidate = attempt * 0x9E3779B9;
+                String[] table = new String[size];
+                int[] slots = new int[size];
+                if (place(fields, table, slots, candidate, false)) {
+                    this.names = table;
+                    this.indexes = slots;
+                    this.mask = size - 1;
+                    this.seed = candidate;
+                    this.perfect = true;
+                    return;
+                }
+            }
+        }
+        this.names = new String[capacity];
+        this.indexes = new int[capacity];
+        this.mask = capacity - 1;
+        this.seed = 0;
+        this.perfect = false;
+        place(fields, names, indexes, seed, true);
+    }
+
+    /**
+     * Whether every declared name has a slot of its own
+     *
+     * @return true when a lookup is a single probe
+     */
+    boolean isPerfect() {
+        return perfect;
+    }
+
+    /**
+     * Builds the index of the given field names, the first declaration of a duplicated name wins
+     *
+     * @param fields field names in declaration order
+     * @return the index
+     */
+    static FieldIndex of(String[] fields) {
+        return fields.length == 0 ? EMPTY : new FieldIndex(fields);
+    }
+
+    private static boolean place(String[] fields, String[] table, int[] slots, int seed, boolean probe) {
+        int mask = table.length - 1;
+        for (int i = 0; i < fields.length; i++) {
+            String name = fields[i];
+            if (name == null) {
+                continue;
+            }
+            int slot = hash(name, seed) & mask;
+            while (table[slot] != null) {
+                if (table[slot].equals(name)) {
+                    break;
+                }
+                if (!probe) {
+                    return false;
+                }
+                slot = (slot + 1) & mask;
+            }
+            if (table[slot] == null) {
+                table[slot] = name;
+                slots[slot] = i;
+            }
+        }
+        return true;
+    }
+
+    private static int hash(String name, int seed) {
+        int h = name.hashCode() ^ seed;
+        h *= 0x85EBCA6B;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Finds the declaration index of a field
+     *
+     * @param name the field name
+     * @return the index of the field in declaration order, or -1 when the field is not declared
+     */
+    int indexOf(String name) {
+        int slot = hash(name, seed) & mask;
+        if (perfect) {
+            String candidate = names[slot];
+            return candidate != null && candidate.equals(name) ? indexes[slot] : -1;
+        }
+        String candidate;
+        while ((candidate = names[slot]) != null) {
+            if (candidate.equals(name)) {
+                return indexes[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    boolean contains(String name) {
+        return indexOf(name) >= 0;
+    }
+}
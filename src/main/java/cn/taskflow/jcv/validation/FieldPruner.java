@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.extension.UnknownNodeFilter;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Removes, or hands to an {@link UnknownNodeFilter}, the fields of an object which are not declared by the schema.
+ * 删除（或交给 UnknownNodeFilter 处理）对象中模式未声明的字段。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class FieldPruner {
+    static final FieldPruner        REMOVE = new FieldPruner(null);
+
+    private final UnknownNodeFilter filter;
+
+    private FieldPruner(UnknownNodeFilter filter) {
+        this.filter = filter;
+    }
+
+    static FieldPruner of(UnknownNodeFilter filter) {
+        return filter == null ? REMOVE : new FieldPruner(filter);
+    }
+
+    /**
+     * Prunes the undeclared fields of an object node in place
+     *
+     * @param objectNode node to clean
+     * @param fields     index of the declared field names
+     */
+    void prune(ObjectNode objectNode, FieldIndex fields) {
+        Iterator<String> iterator = objectNode.fieldNames();
+        if (filter == null) {
+            while (iterator.hasNext()) {
+                if (!fields.contains(iterator.next())) {
+                    iterator.remove();
+                }
+            }
+            return;
+        }
+        // The filter may modify the parent, so unknown names are collected before it runs
+        List<String> deletes = null;
+        while (iterator.hasNext()) {
+            String name = iterator.next();
+            if (!fields.contains(name)) {
+                if (deletes == null) {
+                    deletes = new ArrayList<>();
+                }
+                deletes.add(name);
+            }
+        }
+        if (deletes != null) {
+            for (String key : deletes) {
+                filter.process(key, objectNode);
+            }
+        }
+    }
+}
@@ -0,0 +1,447 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.exception.ValidationException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Membership rule backed by a sorted, memory-mapped file of fixed-width keys.
+ * 基于内存映射键文件的取值范围验证：键按固定宽度排序存放在文件中，查找时直接在映射内存上做插值（数字键）或二分（文本键）查找，
+ * 数千万个取值不占用堆内存，同一主机上的多个 JVM 通过页缓存共享同一份数据；可选的堆内布隆过滤器先拒绝大部分不存在的值。
+ * <p>
+ * Layout, big-endian:
+ * <pre>
+ * header  magic 'JCVK', u8 version, u8 type (0 long, 1 text), u16 reserved, i32 keyWidth, i64 keyCount,
+ *         zero padded to 32 bytes
+ * keys    keyCount keys of keyWidth bytes in ascending unsigned byte order, without duplicates
+ * </pre>
+ * A long key is stored with its sign bit flipped, so byte order is numeric order. A text key holds its UTF-8
+ * bytes padded with zeros, trailing zeros are not significant. Write files with {@link #write(long[], Path)} or
+ * {@link #write(Collection, int, Path)}.
+ * <p>
+ * {@link #swap(Path)} maps a new file, builds its filter and then publishes it with a single volatile write, so
+ * validators never block and a running check finishes on the table it started with. The previous mapping is
+ * released by the garbage collector.
+ * 替换文件时先在调用线程上完成映射与过滤器构建，再原子地发布，验证线程无需加锁。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class KeyFileValidation implements CustomValidationRule {
+    static final int          MAGIC   = 0x4A43564B;
+    static final int          VERSION = 1;
+    static final int          HEADER  = 32;
+    static final byte         LONG    = 0;
+    static final byte         TEXT    = 1;
+
+    // 0 turns the filter off
+    private final double      falsePositiveRate;
+    private volatile KeyTable table;
+
+    private KeyFileValidation(KeyTable table, double falsePositiveRate) {
+        this.table = table;
+        this.falsePositiveRate = falsePositiveRate;
+    }
+
+    /**
+     * 映射键文件，不使用布隆过滤器
+     *
+     * @param file 键文件
+     * @return 验证规则
+     * @throws IOException 如果文件无法读取或格式不正确
+     */
+    public static KeyFileValidation open(Path file) throws IOException {
+        return open(file, 0);
+    }
+
+    /**
+     * 映射键文件，并在堆内构建布隆过滤器
+     *
+     * @param file              键文件
+     * @param falsePositiveRate 布隆过滤器的误判率，例如 0.01；0 表示不使用过滤器
+     * @return 验证规则
+     * @throws IOException 如果文件无法读取或格式不正确
+     */
+    public static KeyFileValidation open(Path file, double falsePositiveRate) throws IOException {
+        return new KeyFileValidation(KeyTable.open(file, falsePositiveRate), falsePositiveRate);
+    }
+
+    /**
+     * 映射新的键文件并原子地替换当前文件，进行中的验证继续使用原文件
+     *
+     * @param file 新的键文件
+     * @throws IOException 如果文件无法读取或格式不正确，此时当前文件不变
+     */
+    public void swap(Path file) throws IOException {
+        this.table = KeyTable.open(file, falsePositiveRate);
+    }
+
+    /**
+     * 重新映射当前路径的文件，用于文件被整体替换（例如原子移动）之后
+     *
+     * @throws IOException 如果文件无法读取或格式不正确，此时当前文件不变
+     */
+    public void reload() throws IOException {
+        swap(table.file);
+    }
+
+    public Path getFile() {
+        return table.file;
+    }
+
+    /**
+     * 当前文件中的键数量
+     *
+     * @return 键数量
+     */
+    public long size() {
+        return table.count;
+    }
+
+    public boolean contains(long key) {
+        return table.contains(key);
+    }
+
+    public boolean contains(String key) {
+        return table.contains(key);
+    }
+
+    @Override
+    public boolean validate(JsonSchema schema, JsonNode node) throws ValidationException {
+        if (node == null || node.isNull()) {
+            return true;
+        }
+        KeyTable current = this.table;
+        if (current.type == LONG) {
+            if (node.isIntegralNumber()) {
+                return node.canConvertToLong() && current.contains(node.longValue());
+            } else if (node.isNumber()) {
+                double value = node.doubleValue();
+                return value == (long) value && current.contains((long) value);
+            }
+            try {
+                return current.contains(Long.parseLong(node.asText().trim()));
+            } catch (NumberFormatException e) {
+                return false;
+            }
+        }
+        return current.contains(node.asText());
+    }
+
+    /**
+     * 写入数字键文件，键无需有序，重复的键只保留一个；先写入临时文件再原子替换目标文件
+     *
+     * @param keys 键
+     * @param file 目标文件
+     * @throws IOException 如果写入失败
+     */
+    public static void write(long[] keys, Path file) throws IOException {
+        long[] sorted = keys.clone();
+        Arrays.sort(sorted);
+        int count = 0;
+        for (int i = 0; i < sorted.length; i++) {
+            if (i == 0 || sorted[i] != sorted[i - 1]) {
+                sorted[count++] = sorted[i];
+            }
+        }
+        int distinct = count;
+        atomicWrite(file, out -> {
+            header(out, LONG, Long.BYTES, distinct);
+            for (int i = 0; i < distinct; i++) {
+                out.writeLong(sorted[i] ^ Long.MIN_VALUE);
+            }
+        });
+    }
+
+    /**
+     * 写入文本键文件，键无需有序，重复的键只保留一个；先写入临时文件再原子替换目标文件
+     *
+     * @param keys     键
+     * @param keyWidth 键的固定宽度（UTF-8 字节数）
+     * @param file     目标文件
+     * @throws IOException              如果写入失败
+     * @throws IllegalArgumentException 如果某个键超过固定宽度
+     */
+    public static void write(Collection<String> keys, int keyWidth, Path file) throws IOException {
+        if (keyWidth < 1) {
+            throw new IllegalArgumentException("keyWidth must be greater than 0");
+        }
+        byte[][] sorted = new byte[keys.size()][];
+        int n = 0;
+        for (String key : keys) {
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            int length = significant(bytes, bytes.length);
+            if (length > keyWidth) {
+                throw new IllegalArgumentException("Key exceeds " + keyWidth + " bytes: '" + key + "'");
+            }
+            sorted[n++] = Arrays.copyOf(bytes, keyWidth);
+        }
+        Arrays.sort(sorted, KeyFileValidation::compare);
+        atomicWrite(file, out -> {
+            long count = 0;
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || compare(sorted[i], sorted[i - 1]) != 0) {
+                    count++;
+                }
+            }
+            header(out, TEXT, keyWidth, count);
+            for (int i = 0; i < sorted.length; i++) {
+                if (i == 0 || compare(sorted[i], sorted[i - 1]) != 0) {
+                    out.write(sorted[i]);
+                }
+            }
+        });
+    }
+
+    private interface KeyWriter {
+        void write(DataOutputStream out) throws IOException;
+    }
+
+    private static void atomicWrite(Path file, KeyWriter writer) throws IOException {
+        Path parent = file.toAbsolutePath().getParent();
+        Path temp = Files.createTempFile(parent, file.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream stream = Files.newOutputStream(temp);
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(stream, 1 << 16))) {
+                writer.write(out);
+            }
+            Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static void header(DataOutputStream out, byte type, int keyWidth, long count) throws IOException {
+        out.writeInt(MAGIC);
+        out.writeByte(VERSION);
+        out.writeByte(type);
+        out.writeShort(0);
+        out.writeInt(keyWidth);
+        out.writeLong(count);
+        out.write(new byte[HEADER - 20]);
+    }
+
+    private static int compare(byte[] a, byte[] b) {
+        for (int i = 0; i < a.length; i++) {
+            int cmp = (a[i] & 0xFF) - (b[i] & 0xFF);
+            if (cmp != 0) {
+                return cmp;
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Length without trailing zeros
+     */
+    static int significant(byte[] bytes, int length) {
+        while (length > 0 && bytes[length - 1] == 0) {
+            length--;
+        }
+        return length;
+    }
+
+    static long hash(byte[] bytes, int length) {
+        long h = 0xCBF29CE484222325L;
+        for (int i = 0; i < length; i++) {
+            h = (h ^ (bytes[i] & 0xFF)) * 0x100000001B3L;
+        }
+        return BloomFilter.mix(h);
+    }
+
+    /**
+     * One mapped key file with its filter, immutable once published
+     */
+    static final class KeyTable {
+        // Largest mapping of a single buffer
+        private static final int   CHUNK = Integer.MAX_VALUE;
+
+        final Path                 file;
+        final byte                 type;
+        final int                  width;
+        final long                 count;
+        private final long         keysPerChunk;
+        private final ByteBuffer[] chunks;
+        private final BloomFilter  filter;
+
+        private KeyTable(Path file, byte type, int width, long count, ByteBuffer[] chunks, long keysPerChunk,
+                         double falsePositiveRate) {
+            this.file = file;
+            this.type = type;
+            this.width = width;
+            this.count = count;
+            this.chunks = chunks;
+            this.keysPerChunk = keysPerChunk;
+            this.filter = falsePositiveRate > 0 ? buildFilter(falsePositiveRate) : null;
+        }
+
+        static KeyTable open(Path file, double falsePositiveRate) throws IOException {
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                ByteBuffer header = channel.map(FileChannel.MapMode.READ_ONLY, 0, Math.min(HEADER, channel.size()));
+                if (header.limit() < HEADER || header.getInt(0) != MAGIC) {
+                    throw new IOException("Not a key file: " + file);
+                }
+                if (header.get(4) != VERSION) {
+                    throw new IOException("Unsupported key file version " + header.get(4) + ": " + file);
+                }
+                byte type = header.get(5);
+                int width = header.getInt(8);
+                long count = header.getLong(12);
+                if ((type != LONG && type != TEXT) || width < 1 || (type == LONG && width != Long.BYTES) || count < 0
+                    || HEADER + count * width > channel.size()) {
+                    throw new IOException("Corrupt key file: " + file);
+                }
+                // Keys never straddle two buffers
+                long keysPerChunk = CHUNK / width;
+                ByteBuffer[] chunks = new ByteBuffer[(int) ((count + keysPerChunk - 1) / keysPerChunk)];
+                for (int i = 0; i < chunks.length; i++) {
+                    long first = i * keysPerChunk;
+                    long keys = Math.min(keysPerChunk, count - first);
+                    chunks[i] = channel.map(FileChannel.MapMode.READ_ONLY, HEADER + first * width, keys * width);
+                }
+                return new KeyTable(file, type, width, count, chunks, keysPerChunk, falsePositiveRate);
+            }
+        }
+
+        private BloomFilter buildFilter(double falsePositiveRate) {
+            BloomFilter bloom = new BloomFilter(count, falsePositiveRate);
+            byte[] key = new byte[width];
+            for (long i = 0; i < count; i++) {
+                if (type == LONG) {
+                    bloom.add(BloomFilter.mix(longAt(i)));
+                } else {
+                    read(i, key);
+                    bloom.add(hash(key, significant(key, width)));
+                }
+            }
+            return bloom;
+        }
+
+        private long longAt(long index) {
+            return chunks[(int) (index / keysPerChunk)].getLong((int) (index % keysPerChunk) * width) ^ Long.MIN_VALUE;
+        }
+
+        private void read(long index, byte[] key) {
+            ByteBuffer chunk = chunks[(int) (index / keysPerChunk)];
+            int offset = (int) (index % keysPerChunk) * width;
+            for (int i = 0; i < width; i++) {
+                key[i] = chunk.get(offset + i);
+            }
+        }
+
+        boolean contains(long key) {
+            if (type != LONG) {
+                return contains(Long.toString(key));
+            }
+            if (count == 0 || (filter != null && !filter.mightContain(BloomFilter.mix(key)))) {
+                return false;
+            }
+            // Interpolation search, bisecting whenever a probe leaves more than half of the range
+            long low = 0;
+            long high = count - 1;
+            long lowKey = longAt(low);
+            long highKey = longAt(high);
+            boolean bisect = false;
+            while (low <= high && key >= lowKey && key <= highKey) {
+                long mid;
+                if (bisect || highKey == lowKey) {
+                    mid = (low + high) >>> 1;
+                } else {
+                    double fraction = ((double) key - lowKey) / ((double) highKey - lowKey);
+                    mid = Math.min(high, Math.max(low, low + (long) (fraction * (high - low))));
+                }
+                long midKey = longAt(mid);
+                long range = high - low;
+                if (midKey == key) {
+                    return true;
+                } else if (midKey < key) {
+                    low = mid + 1;
+                    if (low <= high) {
+                        lowKey = longAt(low);
+                    }
+                } else {
+                    high = mid - 1;
+                    if (low <= high) {
+                        highKey = longAt(high);
+                    }
+                }
+                bisect = !bisect && high - low > range / 2;
+            }
+            return false;
+        }
+
+        boolean contains(String key) {
+            if (type == LONG) {
+                try {
+                    return contains(Long.parseLong(key.trim()));
+                } catch (NumberFormatException e) {
+                    return false;
+                }
+            }
+            byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+            int length = significant(bytes, bytes.length);
+            if (length > width || count == 0 || (filter != null && !filter.mightContain(hash(bytes, length)))) {
+                return false;
+            }
+            long low = 0;
+            long high = count - 1;
+            while (low <= high) {
+                long mid = (low + high) >>> 1;
+                int cmp = compareAt(mid, bytes, length);
+                if (cmp == 0) {
+                    return true;
+                } else if (cmp < 0) {
+                    low = mid + 1;
+                } else {
+                    high = mid - 1;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * Compares the stored key with a probe padded with zeros, without copying the stored key
+         */
+        private int compareAt(long index, byte[] probe, int length) {
+            ByteBuffer chunk = chunks[(int) (index / keysPerChunk)];
+            int offset = (int) (index % keysPerChunk) * width;
+            for (int i = 0; i < width; i++) {
+                int cmp = (chunk.get(offset + i) & 0xFF) - (i < length ? probe[i] & 0xFF : 0);
+                if (cmp != 0) {
+                    return cmp;
+                }
+            }
+            return 0;
+        }
+    }
+}
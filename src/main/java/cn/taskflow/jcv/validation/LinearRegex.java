@@ -0,0 +1,732 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Linear-time matcher for the regular subset of the {@link java.util.regex.Pattern} syntax.
+ * 正则表达式的线性时间匹配器：表达式编译为 Thompson NFA，再通过子集构造生成 DFA，匹配时每个字符只查一次转移表，
+ * 没有回溯，耗时只与输入长度成正比；DFA 状态数超过上限时改为 NFA 状态集合模拟，耗时仍然是线性的。
+ * <p>
+ * Supported: literals, {@code .}, character classes with ranges and negation, {@code \d \w \s} and their
+ * negations, the escapes {@code \t \n \r \f \a \e \xhh \\uhhhh}, capturing, non-capturing and named groups,
+ * alternation, greedy and reluctant quantifiers, {@code ^} at the start and {@code $} at the end. Any other
+ * construct (backreferences, lookaround, boundaries, inline flags, possessive quantifiers, Unicode properties,
+ * class intersections...) makes {@link #compile(String)} return null. The whole input must match, like
+ * {@link java.util.regex.Matcher#matches()}, so captures and the laziness of a quantifier do not change the result.
+ * Instances are immutable and thread-safe.
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class LinearRegex {
+    // Bounds keeping compilation cheap, a larger automaton falls back to NFA simulation or to Pattern
+    private static final int   MAX_NFA_STATES = 10_000;
+    private static final int   MAX_DFA_STATES = 1_024;
+    private static final int   MAX_DFA_CELLS  = 1 << 18;
+    // NFA states visited by the subset construction
+    private static final long  MAX_DFA_WORK   = 1 << 20;
+
+    private static final byte  SET            = 0;
+    private static final byte  SPLIT          = 1;
+    private static final byte  MATCH          = 2;
+
+    // Sorted, disjoint [low, high] code point pairs
+    private static final int[] DIGIT          = { '0', '9' };
+    private static final int[] WORD           = { '0', '9', 'A', 'Z', '_', '_', 'a', 'z' };
+    private static final int[] SPACE          = { '\t', '\r', ' ', ' ' };
+    private static final int[] DOT            = complement(new int[] { '\n', '\n', '\r', '\r', 0x85, 0x85, 0x2028,
+            0x2029                           });
+
+    // Thompson NFA
+    private final byte[]       kinds;
+    private final int[][]      sets;
+    private final int[]        outs;
+    private final int[]        alts;
+    private final int          start;
+    // DFA over classes of equivalent code points, null when it would be too large; state 0 is the dead state
+    private final int[]        table;
+    private final boolean[]    accepting;
+    private final int[]        bounds;
+    private final int[]        asciiClasses;
+    private final int          initial;
+
+    private LinearRegex(Nfa nfa, int start) {
+        this.kinds = Arrays.copyOf(nfa.kinds, nfa.size);
+        this.sets = Arrays.copyOf(nfa.sets, nfa.size);
+        this.outs = Arrays.copyOf(nfa.outs, nfa.size);
+        this.alts = Arrays.copyOf(nfa.alts, nfa.size);
+        this.start = start;
+        TreeSet<Integer> points = new TreeSet<>();
+        points.add(0);
+        for (int[] set : sets) {
+            for (int i = 0; set != null && i < set.length; i += 2) {
+                points.add(set[i]);
+                if (set[i + 1] < Character.MAX_CODE_POINT) {
+                    points.add(set[i + 1] + 1);
+                }
+            }
+        }
+        this.bounds = new int[points.size()];
+        int k = 0;
+        for (Integer point : points) {
+            bounds[k++] = point;
+        }
+        this.asciiClasses = new int[128];
+        for (int c = 0; c < asciiClasses.length; c++) {
+            asciiClasses[c] = searchClass(c);
+        }
+        List<int[]> states = new ArrayList<>();
+        int[] table = buildDfa(states);
+        this.table = table;
+        this.initial = 1;
+        if (table == null) {
+            this.accepting = null;
+        } else {
+            this.accepting = new boolean[states.size()];
+            for (int i = 0; i < accepting.length; i++) {
+                for (int state : states.get(i)) {
+                    accepting[i] |= kinds[state] == MATCH;
+                }
+            }
+        }
+    }
+
+    /**
+     * Compiles a regular expression which {@link java.util.regex.Pattern} already accepted
+     *
+     * @param regex the expression
+     * @return the matcher, null when the expression uses a construct outside the supported subset
+     */
+    static LinearRegex compile(String regex) {
+        String body = regex;
+        if (body.startsWith("^")) {
+            body = body.substring(1);
+        }
+        // An unescaped trailing '$', i.e. preceded by an even number of backslashes
+        if (body.endsWith("$")) {
+            int slashes = 0;
+            for (int i = body.length() - 2; i >= 0 && body.charAt(i) == '\\'; i--) {
+                slashes++;
+            }
+            if (slashes % 2 == 0) {
+                body = body.substring(0, body.length() - 1);
+            }
+        }
+        try {
+            Parser parser = new Parser(body);
+            Node root = parser.alternation();
+            if (parser.pos != body.length()) {
+                return null;
+            }
+            Nfa nfa = new Nfa();
+            int match = nfa.add(MATCH, null, -1, -1);
+            return new LinearRegex(nfa, nfa.compile(root, match));
+        } catch (Unsupported e) {
+            return null;
+        }
+    }
+
+    /**
+     * Whether the automaton runs as a DFA, otherwise the NFA is simulated
+     */
+    boolean isDeterministic() {
+        return table != null;
+    }
+
+    /**
+     * Checks whether the whole text matches, in time linear in its length
+     *
+     * @param text the text
+     * @return true if it matches
+     */
+    boolean matches(CharSequence text) {
+        if (table == null) {
+            return simulate(text);
+        }
+        int classes = bounds.length;
+        int state = initial;
+        for (int i = 0, length = text.length(); i < length;) {
+            int c = Character.codePointAt(text, i);
+            i += Character.charCount(c);
+            state = table[state * classes + (c < 128 ? asciiClasses[c] : searchClass(c))];
+            if (state == 0) {
+                return false;
+            }
+        }
+        return accepting[state];
+    }
+
+    private boolean simulate(CharSequence text) {
+        int size = kinds.length;
+        int[] current = new int[size];
+        int[] next = new int[size];
+        int[] marks = new int[size];
+        int[] stack = new int[size];
+        int generation = 1;
+        int count = closure(start, current, 0, marks, generation, stack);
+        for (int i = 0, length = text.length(); i < length && count > 0;) {
+            int c = Character.codePointAt(text, i);
+            i += Character.charCount(c);
+            generation++;
+            int nextCount = 0;
+            for (int j = 0; j < count; j++) {
+                int state = current[j];
+                if (kinds[state] == SET && contains(sets[state], c)) {
+                    nextCount = closure(outs[state], next, nextCount, marks, generation, stack);
+                }
+            }
+            int[] swap = current;
+            current = next;
+            next = swap;
+            count = nextCount;
+        }
+        for (int j = 0; j < count; j++) {
+            if (kinds[current[j]] == MATCH) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Appends the SET and MATCH states reachable from a state through SPLIT states, skipping marked ones
+     */
+    private int closure(int from, int[] list, int count, int[] marks, int generation, int[] stack) {
+        if (marks[from] == generation) {
+            return count;
+        }
+        marks[from] = generation;
+        int top = 0;
+        stack[top++] = from;
+        while (top > 0) {
+            int state = stack[--top];
+            if (kinds[state] != SPLIT) {
+                list[count++] = state;
+                continue;
+            }
+            if (marks[outs[state]] != generation) {
+                marks[outs[state]] = generation;
+                stack[top++] = outs[state];
+            }
+            if (marks[alts[state]] != generation) {
+                marks[alts[state]] = generation;
+                stack[top++] = alts[state];
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Subset construction over the classes of code points, breadth first
+     */
+    private int[] buildDfa(List<int[]> states) {
+        int size = kinds.length;
+        int classes = bounds.length;
+        int[] marks = new int[size];
+        int[] stack = new int[size];
+        int[] scratch = new int[size];
+        int generation = 1;
+        Map<StateSet, Integer> index = new HashMap<>();
+        states.add(new int[0]);
+        index.put(new StateSet(new int[0]), 0);
+        int[] first = Arrays.copyOf(scratch, closure(start, scratch, 0, marks, generation, stack));
+        Arrays.sort(first);
+        states.add(first);
+        index.put(new StateSet(first), 1);
+        int[] table = new int[classes * 4];
+        long work = 0;
+        for (int from = 0; from < states.size(); from++) {
+            int[] set = states.get(from);
+            if (table.length < (from + 1) * classes) {
+                table = Arrays.copyOf(table, Math.max(table.length * 2, (from + 1) * classes));
+            }
+            for (int k = 0; k < classes; k++) {
+                generation++;
+                int count = 0;
+                for (int state : set) {
+                    if (kinds[state] == SET && contains(sets[state], bounds[k])) {
+                        count = closure(outs[state], scratch, count, marks, generation, stack);
+                    }
+                }
+                work += set.length + count;
+                if (work > MAX_DFA_WORK) {
+                    return null;
+                } else if (count == 0) {
+                    // Dead state, already 0 in the table
+                    continue;
+                }
+                int[] target = Arrays.copyOf(scratch, count);
+                Arrays.sort(target);
+                Integer to = index.get(new StateSet(target));
+                if (to == null) {
+                    if (states.size() >= MAX_DFA_STATES || (long) (states.size() + 1) * classes > MAX_DFA_CELLS) {
+                        return null;
+                    }
+                    to = states.size();
+                    states.add(target);
+                    index.put(new StateSet(target), to);
+                }
+                table[from * classes + k] = to;
+            }
+        }
+        return Arrays.copyOf(table, states.size() * classes);
+    }
+
+    private int searchClass(int c) {
+        int i = Arrays.binarySearch(bounds, c);
+        return i >= 0 ? i : -i - 2;
+    }
+
+    private static boolean contains(int[] ranges, int c) {
+        int low = 0;
+        int high = ranges.length / 2 - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            if (c < ranges[mid * 2]) {
+                high = mid - 1;
+            } else if (c > ranges[mid * 2 + 1]) {
+                low = mid + 1;
+            } else {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sorts and merges [low, high] pairs
+     */
+    private static int[] normalize(List<int[]> items) {
+        List<int[]> pairs = new ArrayList<>();
+        for (int[] item : items) {
+            for (int i = 0; i < item.length; i += 2) {
+                pairs.add(new int[] { item[i], item[i + 1] });
+            }
+        }
+        pairs.sort((a, b) -> Integer.compare(a[0], b[0]));
+        int[] ranges = new int[pairs.size() * 2];
+        int n = 0;
+        for (int[] pair : pairs) {
+            if (n > 0 && pair[0] <= ranges[n - 1] + 1) {
+                ranges[n - 1] = Math.max(ranges[n - 1], pair[1]);
+            } else {
+                ranges[n++] = pair[0];
+                ranges[n++] = pair[1];
+            }
+        }
+        return Arrays.copyOf(ranges, n);
+    }
+
+    private static int[] complement(int[] ranges) {
+        int[] result = new int[ranges.length + 2];
+        int n = 0;
+        int next = 0;
+        for (int i = 0; i < ranges.length; i += 2) {
+            if (ranges[i] > next) {
+                result[n++] = next;
+                result[n++] = ranges[i] - 1;
+            }
+            next = ranges[i + 1] + 1;
+        }
+        if (next <= Character.MAX_CODE_POINT) {
+            result[n++] = next;
+            result[n++] = Character.MAX_CODE_POINT;
+        }
+        return Arrays.copyOf(result, n);
+    }
+
+    /**
+     * Raised for a construct outside the supported subset
+     */
+    private static final class Unsupported extends RuntimeException {
+        private static final long        serialVersionUID = 1L;
+        private static final Unsupported INSTANCE         = new Unsupported();
+
+        private Unsupported() {
+            super(null, null, false, false);
+        }
+    }
+
+    private static final class StateSet {
+        private final int[] states;
+        private final int   hash;
+
+        StateSet(int[] states) {
+            this.states = states;
+            this.hash = Arrays.hashCode(states);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof StateSet && Arrays.equals(states, ((StateSet) obj).states);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    // Syntax tree: a code point set, a sequence, an alternation or a repetition (max -1 when unbounded)
+    private static final class Node {
+        final int[]      set;
+        final List<Node> items;
+        final boolean    alternation;
+        final int        min;
+        final int        max;
+
+        Node(int[] set, List<Node> items, boolean alternation, int min, int max) {
+            this.set = set;
+            this.items = items;
+            this.alternation = alternation;
+            this.min = min;
+            this.max = max;
+        }
+
+        static Node chars(int[] set) {
+            return new Node(set, null, false, 1, 1);
+        }
+
+        static Node repeat(Node item, int min, int max) {
+            List<Node> items = new ArrayList<>(1);
+            items.add(item);
+            return new Node(null, items, false, min, max);
+        }
+
+        boolean isRepeat() {
+            return set == null && !alternation && items.size() == 1 && !(min == 1 && max == 1);
+        }
+    }
+
+    private static final class Parser {
+        private final String regex;
+        private int          pos;
+
+        Parser(String regex) {
+            this.regex = regex;
+        }
+
+        Node alternation() {
+            List<Node> branches = new ArrayList<>();
+            branches.add(sequence());
+            while (pos < regex.length() && regex.charAt(pos) == '|') {
+                pos++;
+                branches.add(sequence());
+            }
+            return branches.size() == 1 ? branches.get(0) : new Node(null, branches, true, 1, 1);
+        }
+
+        private Node sequence() {
+            List<Node> items = new ArrayList<>();
+            while (pos < regex.length() && regex.charAt(pos) != '|' && regex.charAt(pos) != ')') {
+                items.add(quantified(atom()));
+            }
+            return new Node(null, items, false, 1, 1);
+        }
+
+        private Node atom() {
+            char c = regex.charAt(pos);
+            switch (c) {
+                case '(':
+                    pos++;
+                    if (regex.startsWith("?:", pos)) {
+                        pos += 2;
+                    } else if (regex.startsWith("?<", pos) && pos + 2 < regex.length()
+                               && Character.isLetter(regex.charAt(pos + 2))) {
+                        int end = regex.indexOf('>', pos);
+                        if (end < 0) {
+                            throw Unsupported.INSTANCE;
+                        }
+                        pos = end + 1;
+                    } else if (regex.startsWith("?", pos)) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    Node group = alternation();
+                    if (pos >= regex.length() || regex.charAt(pos) != ')') {
+                        throw Unsupported.INSTANCE;
+                    }
+                    pos++;
+                    return group;
+                case '[':
+                    return Node.chars(characterClass());
+                case '.':
+                    pos++;
+                    return Node.chars(DOT);
+                case '\\':
+                    return Node.chars(escape());
+                case '^':
+                case '$':
+                case '*':
+                case '+':
+                case '?':
+                case '{':
+                    throw Unsupported.INSTANCE;
+                default:
+                    int cp = regex.codePointAt(pos);
+                    pos += Character.charCount(cp);
+                    return Node.chars(new int[] { cp, cp });
+            }
+        }
+
+        private Node quantified(Node atom) {
+            while (pos < regex.length()) {
+                char c = regex.charAt(pos);
+                int min;
+                int max;
+                if (c == '*') {
+                    min = 0;
+                    max = -1;
+                    pos++;
+                } else if (c == '+') {
+                    min = 1;
+                    max = -1;
+                    pos++;
+                } else if (c == '?') {
+                    min = 0;
+                    max = 1;
+                    pos++;
+                } else if (c == '{') {
+                    pos++;
+                    min = number();
+                    max = min;
+                    if (pos < regex.length() && regex.charAt(pos) == ',') {
+                        pos++;
+                        max = pos < regex.length() && regex.charAt(pos) == '}' ? -1 : number();
+                    }
+                    if (pos >= regex.length() || regex.charAt(pos) != '}' || (max >= 0 && max < min)) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    pos++;
+                } else {
+                    return atom;
+                }
+                if (pos < regex.length() && regex.charAt(pos) == '+') {
+                    // Possessive quantifiers change what matches
+                    throw Unsupported.INSTANCE;
+                } else if (pos < regex.length() && regex.charAt(pos) == '?') {
+                    pos++;
+                }
+                atom = Node.repeat(atom, min, max);
+            }
+            return atom;
+        }
+
+        private int number() {
+            int begin = pos;
+            long value = 0;
+            while (pos < regex.length() && Character.isDigit(regex.charAt(pos)) && value <= MAX_NFA_STATES) {
+                value = value * 10 + Character.digit(regex.charAt(pos), 10);
+                pos++;
+            }
+            if (pos == begin || value > MAX_NFA_STATES) {
+                throw Unsupported.INSTANCE;
+            }
+            return (int) value;
+        }
+
+        private int[] characterClass() {
+            pos++;
+            boolean negate = pos < regex.length() && regex.charAt(pos) == '^';
+            if (negate) {
+                pos++;
+            }
+            if (pos < regex.length() && regex.charAt(pos) == ']') {
+                throw Unsupported.INSTANCE;
+            }
+            List<int[]> items = new ArrayList<>();
+            while (true) {
+                if (pos >= regex.length()) {
+                    throw Unsupported.INSTANCE;
+                }
+                char c = regex.charAt(pos);
+                if (c == ']') {
+                    pos++;
+                    break;
+                } else if (c == '[' || regex.startsWith("&&", pos)) {
+                    throw Unsupported.INSTANCE;
+                }
+                int[] low = classAtom();
+                if (pos + 1 < regex.length() && regex.charAt(pos) == '-' && regex.charAt(pos + 1) != ']') {
+                    pos++;
+                    int[] high = classAtom();
+                    if (!isSingle(low) || !isSingle(high) || low[0] > high[0]) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    items.add(new int[] { low[0], high[0] });
+                } else {
+                    items.add(low);
+                }
+            }
+            int[] set = normalize(items);
+            return negate ? complement(set) : set;
+        }
+
+        private int[] classAtom() {
+            if (regex.charAt(pos) == '\\') {
+                return escape();
+            }
+            int cp = regex.codePointAt(pos);
+            pos += Character.charCount(cp);
+            return new int[] { cp, cp };
+        }
+
+        private static boolean isSingle(int[] set) {
+            return set.length == 2 && set[0] == set[1];
+        }
+
+        private int[] escape() {
+            pos++;
+            if (pos >= regex.length()) {
+                throw Unsupported.INSTANCE;
+            }
+            char c = regex.charAt(pos++);
+            switch (c) {
+                case 'd':
+                    return DIGIT;
+                case 'D':
+                    return complement(DIGIT);
+                case 'w':
+                    return WORD;
+                case 'W':
+                    return complement(WORD);
+                case 's':
+                    return SPACE;
+                case 'S':
+                    return complement(SPACE);
+                case 't':
+                    return single('\t');
+                case 'n':
+                    return single('\n');
+                case 'r':
+                    return single('\r');
+                case 'f':
+                    return single('\f');
+                case 'a':
+                    return single('\u0007');
+                case 'e':
+                    return single('\u001B');
+                case 'x':
+                    return single(hex(2));
+                case 'u':
+                    int value = hex(4);
+                    if (Character.isSurrogate((char) value)) {
+                        throw Unsupported.INSTANCE;
+                    }
+                    return single(value);
+                default:
+                    if (c < 128 && Character.isLetterOrDigit(c)) {
+                        // Boundaries, backreferences, properties, quoting...
+                        throw Unsupported.INSTANCE;
+                    }
+                    pos--;
+                    int cp = regex.codePointAt(pos);
+                    pos += Character.charCount(cp);
+                    return single(cp);
+            }
+        }
+
+        private static int[] single(int cp) {
+            return new int[] { cp, cp };
+        }
+
+        private int hex(int digits) {
+            if (pos + digits > regex.length()) {
+                throw Unsupported.INSTANCE;
+            }
+            int value = 0;
+            for (int i = 0; i < digits; i++) {
+                int digit = Character.digit(regex.charAt(pos++), 16);
+                if (digit < 0) {
+                    throw Unsupported.INSTANCE;
+                }
+                value = value * 16 + digit;
+            }
+            return value;
+        }
+    }
+
+    private static final class Nfa {
+        byte[]  kinds = new byte[16];
+        int[][] sets  = new int[16][];
+        int[]   outs  = new int[16];
+        int[]   alts  = new int[16];
+        int     size;
+
+        int add(byte kind, int[] set, int out, int alt) {
+            if (size >= MAX_NFA_STATES) {
+                throw Unsupported.INSTANCE;
+            }
+            if (size == kinds.length) {
+                int capacity = size * 2;
+                kinds = Arrays.copyOf(kinds, capacity);
+                sets = Arrays.copyOf(sets, capacity);
+                outs = Arrays.copyOf(outs, capacity);
+                alts = Arrays.copyOf(alts, capacity);
+            }
+            kinds[size] = kind;
+            sets[size] = set;
+            outs[size] = out;
+            alts[size] = alt;
+            return size++;
+        }
+
+        /**
+         * Compiles a node which continues at {@code next}, returning its entry state
+         */
+        int compile(Node node, int next) {
+            if (node.set != null) {
+                return add(SET, node.set, next, -1);
+            } else if (node.alternation) {
+                int entry = compile(node.items.get(node.items.size() - 1), next);
+                for (int i = node.items.size() - 2; i >= 0; i--) {
+                    entry = add(SPLIT, null, compile(node.items.get(i), next), entry);
+                }
+                return entry;
+            } else if (node.isRepeat()) {
+                Node item = node.items.get(0);
+                int entry = next;
+                if (node.max < 0) {
+                    int loop = add(SPLIT, null, -1, next);
+                    // Compiled before the write: compiling may grow and replace the state arrays
+                    int body = compile(item, loop);
+                    outs[loop] = body;
+                    entry = loop;
+                } else {
+                    for (int i = node.min; i < node.max; i++) {
+                        entry = add(SPLIT, null, compile(item, entry), next);
+                    }
+                }
+                for (int i = 0; i < node.min; i++) {
+                    entry = compile(item, entry);
+                }
+                return entry;
+            }
+            int entry = next;
+            for (int i = node.items.size() - 1; i >= 0; i--) {
+                entry = compile(node.items.get(i), entry);
+            }
+            return entry;
+        }
+    }
+}
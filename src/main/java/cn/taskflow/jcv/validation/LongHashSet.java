@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+/**
+ * Open-addressing set of primitive longs.
+ * 基于开放寻址（线性探测）的 long 集合：元素直接存放在 long 数组中，没有装箱对象与链表节点，
+ * 50 万个元素约占 8 MB。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class LongHashSet {
+    private static final int MIN_CAPACITY = 8;
+    // 0 marks a free slot, so the value 0 itself is tracked apart
+    private long[]           table;
+    private boolean          containsZero;
+    private int              size;
+
+    LongHashSet() {
+        this.table = new long[MIN_CAPACITY];
+    }
+
+    private LongHashSet(LongHashSet source) {
+        this.table = source.table.clone();
+        this.containsZero = source.containsZero;
+        this.size = source.size;
+    }
+
+    boolean add(long value) {
+        if (value == 0) {
+            if (containsZero) {
+                return false;
+            }
+            containsZero = true;
+            size++;
+            return true;
+        }
+        // Keeps the load factor at most 2/3
+        if ((size + 1) * 3 > table.length * 2) {
+            resize(table.length * 2);
+        }
+        if (!insert(table, value)) {
+            return false;
+        }
+        size++;
+        return true;
+    }
+
+    boolean contains(long value) {
+        if (value == 0) {
+            return containsZero;
+        }
+        long[] table = this.table;
+        int mask = table.length - 1;
+        for (int i = index(value, mask);; i = (i + 1) & mask) {
+            long slot = table[i];
+            if (slot == value) {
+                return true;
+            } else if (slot == 0) {
+                return false;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    LongHashSet copy() {
+        return new LongHashSet(this);
+    }
+
+    private void resize(int capacity) {
+        long[] resized = new long[capacity];
+        for (long value : table) {
+            if (value != 0) {
+                insert(resized, value);
+            }
+        }
+        table = resized;
+    }
+
+    private static boolean insert(long[] table, long value) {
+        int mask = table.length - 1;
+        for (int i = index(value, mask);; i = (i + 1) & mask) {
+            if (table[i] == value) {
+                return false;
+            } else if (table[i] == 0) {
+                table[i] = value;
+                return true;
+            }
+        }
+    }
+
+    private static int index(long value, int mask) {
+        long hash = value * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    /**
+     * 两个集合包含相同的元素即相等，与容量和插入顺序无关
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof LongHashSet)) {
+            return false;
+        }
+        LongHashSet that = (LongHashSet) obj;
+        if (size != that.size || containsZero != that.containsZero) {
+            return false;
+        }
+        for (long value : table) {
+            if (value != 0 && !that.contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public int hashCode() {
+        int hash = 0;
+        for (long value : table) {
+            hash += Long.hashCode(value);
+        }
+        return hash * 31 + (containsZero ? 1 : 0);
+    }
+
+    @Override
+    public String toString() {
+        return "LongHashSet{size=" + size + ", capacity=" + table.length + ", zero=" + containsZero + "}";
+    }
+}
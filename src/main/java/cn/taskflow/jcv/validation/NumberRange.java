@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+/**
+ * Numeric bounds of a number node, unboxed once at compile time.
+ * 数字节点的取值范围，编译期拆箱为基本类型，按值的类型分别在 long、double、BigDecimal 三条通道上比较，
+ * 常见的整数与浮点数检查不再转换为字符串，也不产生装箱对象。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class NumberRange {
+    private static final BigDecimal LONG_MIN  = BigDecimal.valueOf(Long.MIN_VALUE);
+    private static final BigDecimal LONG_MAX  = BigDecimal.valueOf(Long.MAX_VALUE);
+    static final NumberRange        UNBOUNDED = new NumberRange(null, null);
+
+    private final boolean           hasMin;
+    private final boolean           hasMax;
+    // Integer lane: smallest and largest admitted integers, compared exactly when both bounds are finite
+    private final boolean           exactLong;
+    // No long lies within the bounds
+    private final boolean           emptyLong;
+    private final long              minLong;
+    private final long              maxLong;
+    private final double            minDouble;
+    private final double            maxDouble;
+    // Decimal lane, null when the bound is not a finite number
+    private final BigDecimal        minDecimal;
+    private final BigDecimal        maxDecimal;
+
+    private NumberRange(Number min, Number max) {
+        this.hasMin = min != null;
+        this.hasMax = max != null;
+        this.minDouble = hasMin ? min.doubleValue() : Double.NEGATIVE_INFINITY;
+        this.maxDouble = hasMax ? max.doubleValue() : Double.POSITIVE_INFINITY;
+        this.minDecimal = hasMin ? toDecimal(min) : null;
+        this.maxDecimal = hasMax ? toDecimal(max) : null;
+        this.exactLong = hasMin == (minDecimal != null) && hasMax == (maxDecimal != null);
+        BigDecimal lower = minDecimal == null ? null : minDecimal.setScale(0, RoundingMode.CEILING);
+        BigDecimal upper = maxDecimal == null ? null : maxDecimal.setScale(0, RoundingMode.FLOOR);
+        this.emptyLong = (lower != null && lower.compareTo(LONG_MAX) > 0)
+                         || (upper != null && upper.compareTo(LONG_MIN) < 0);
+        this.minLong = lower == null || emptyLong ? Long.MIN_VALUE : lower.max(LONG_MIN).longValue();
+        this.maxLong = upper == null || emptyLong ? Long.MAX_VALUE : upper.min(LONG_MAX).longValue();
+    }
+
+    /**
+     * Creates the range of the given bounds
+     *
+     * @param min lower bound, null when unbounded
+     * @param max upper bound, null when unbounded
+     * @return the compiled range
+     */
+    static NumberRange of(Number min, Number max) {
+        return min == null && max == null ? UNBOUNDED : new NumberRange(min, max);
+    }
+
+    boolean contains(long value) {
+        if (!exactLong) {
+            return contains((double) value);
+        }
+        return !emptyLong && value >= minLong && value <= maxLong;
+    }
+
+    boolean contains(double value) {
+        return !(value < minDouble) && !(value > maxDouble);
+    }
+
+    boolean contains(BigDecimal value) {
+        if (hasMin && (minDecimal == null ? value.doubleValue() < minDouble : value.compareTo(minDecimal) < 0)) {
+            return false;
+        }
+        return !hasMax || (maxDecimal == null ? !(value.doubleValue() > maxDouble) : value.compareTo(maxDecimal) <= 0);
+    }
+
+    boolean contains(BigInteger value) {
+        return contains(new BigDecimal(value));
+    }
+
+    private static BigDecimal toDecimal(Number number) {
+        if (number instanceof BigDecimal) {
+            return (BigDecimal) number;
+        } else if (number instanceof BigInteger) {
+            return new BigDecimal((BigInteger) number);
+        } else if (number instanceof Long || number instanceof Integer || number instanceof Short
+                   || number instanceof Byte) {
+            return BigDecimal.valueOf(number.longValue());
+        }
+        double value = number.doubleValue();
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return null;
+        }
+        try {
+            return new BigDecimal(number.toString());
+        } catch (NumberFormatException e) {
+            return BigDecimal.valueOf(value);
+        }
+    }
+}
@@ -0,0 +1,289 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.encode.BeanAccessor;
+import cn.taskflow.jcv.encode.DefaultJsonNodeConverter;
+import cn.taskflow.jcv.encode.JsonNodeConverter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.PropertyNamingStrategy;
+import com.fasterxml.jackson.databind.node.*;
+
+import java.lang.reflect.Array;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Validates a Java object graph (beans, records, Maps, Collections and arrays) directly against a
+ * {@link ValidationPlan}, without serializing it to JSON and parsing it back.
+ * <p>
+ * Properties are read through cached {@link BeanAccessor}s and named with the naming strategy of the converter's
+ * ObjectMapper, scalars become the same value nodes {@code readTree} would produce for their JSON form. Values which
+ * Jackson serializes specially (JDK types such as dates, Jackson annotated classes, {@code byte[]}) and subtrees whose
+ * schema carries custom rules are converted with {@link JsonNodeConverter#convert} and checked as a tree.
+ * <p>
+ * 直接遍历Java对象图进行验证，避免序列化为JSON字符串后再次解析。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class ObjectGraphValidator {
+    private static final long            INT_MIN = Integer.MIN_VALUE;
+    private static final long            INT_MAX = Integer.MAX_VALUE;
+    private final ValidationPlan         plan;
+    private final ErrorReporter          reporter;
+    private final JsonNodeConverter      converter;
+    private final PropertyNamingStrategy naming;
+    private final boolean                beans;
+
+    ObjectGraphValidator(ValidationPlan plan, ErrorReporter reporter, JsonNodeConverter converter) {
+        this.plan = plan;
+        this.reporter = reporter;
+        this.converter = converter;
+        if (converter instanceof DefaultJsonNodeConverter) {
+            this.naming = ((DefaultJsonNodeConverter) converter).mapper.getPropertyNamingStrategy();
+            this.beans = ((DefaultJsonNodeConverter) converter).mapper.mixInCount() == 0;
+        } else {
+            this.naming = null;
+            this.beans = false;
+        }
+    }
+
+    /**
+     * Validates an object against the first schema of the plan
+     *
+     * @param value the object to validate
+     * @return false if a violation was found and not thrown
+     */
+    boolean validate(Object value) {
+        if (value == null || value instanceof JsonNode || !isDirect(value)) {
+            return plan.validate(reporter, toTree(value));
+        }
+        return check(plan.getRoot(), value);
+    }
+
+    private boolean check(PlanNode node, Object value) {
+        switch (node.kind) {
+            case OBJECT:
+                return checkObject(node, value);
+            case ARRAY:
+                return checkArray(node, value);
+            default:
+                return checkSimple(node, value);
+        }
+    }
+
+    private boolean checkObject(PlanNode node, Object value) {
+        BeanAccessor accessor = null;
+        if (value instanceof Map) {
+            if (!hasStringKeys((Map<?, ?>) value)) {
+                return plan.check(reporter, node, toTree(value));
+            }
+        } else {
+            accessor = beanAccessor(value);
+            if (accessor == null) {
+                return checkTree(node, value);
+            }
+        }
+        if (node.hasRules()) {
+            return plan.check(reporter, node, toTree(value));
+        }
+        for (PlanNode child : node.children) {
+            Object childValue;
+            if (accessor == null) {
+                Map<?, ?> map = (Map<?, ?>) value;
+                childValue = map.get(child.name);
+                if (childValue == null && !map.containsKey(child.name)) {
+                    childValue = BeanAccessor.ABSENT;
+                }
+            } else {
+                childValue = accessor.get(value, child.name);
+            }
+            boolean proceed;
+            if (childValue == null || childValue == BeanAccessor.ABSENT) {
+                proceed = ValidationPlan.absent(reporter, child, childValue == null ? NullNode.getInstance() : null);
+            } else if (childValue instanceof JsonNode || !isDirect(childValue)) {
+                JsonNode tree = toTree(childValue);
+                if (ValidationPlan.isNull(tree)) {
+                    proceed = ValidationPlan.absent(reporter, child, tree);
+                } else {
+                    proceed = plan.check(reporter, child, tree);
+                }
+            } else {
+                proceed = check(child, childValue);
+            }
+            if (!proceed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean checkArray(PlanNode node, Object value) {
+        if (!(value instanceof Collection) && !isArray(value)) {
+            return checkTree(node, value);
+        }
+        if (node.hasRules()) {
+            return plan.check(reporter, node, toTree(value));
+        }
+        if (node.children.length == 0) {
+            return true;
+        }
+        PlanNode element = node.children[0];
+        if (value instanceof Collection) {
+            Collection<?> collection = (Collection<?>) value;
+            if (node.required && collection.isEmpty()) {
+                return reporter.emptyArray(node);
+            }
+            for (Object item : collection) {
+                if (!checkElement(element, item)) {
+                    return false;
+                }
+            }
+        } else {
+            int length = Array.getLength(value);
+            if (node.required && length == 0) {
+                return reporter.emptyArray(node);
+            }
+            for (int i = 0; i < length; i++) {
+                if (!checkElement(element, Array.get(value, i))) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean checkElement(PlanNode element, Object item) {
+        element.requireSupportedElement();
+        if (item == null) {
+            return plan.check(reporter, element, NullNode.getInstance());
+        } else if (item instanceof JsonNode || !isDirect(item)) {
+            return plan.check(reporter, element, toTree(item));
+        }
+        return check(element, item);
+    }
+
+    private boolean checkSimple(PlanNode node, Object value) {
+        if (node.kind == PlanNode.Kind.NUMBER && !node.hasRules() && isPlainNumber(value)) {
+            return plan.checkNumber(reporter, node, (Number) value);
+        }
+        JsonNode leaf = scalar(value);
+        if (leaf == null) {
+            return checkTree(node, value);
+        }
+        return plan.checkSimple(reporter, node, leaf);
+    }
+
+    /**
+     * Whether the value is an integer or a finite double, checked on the primitive lanes without a value node
+     */
+    private static boolean isPlainNumber(Object value) {
+        if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+            return true;
+        }
+        return value instanceof Double && !((Double) value).isNaN() && !((Double) value).isInfinite();
+    }
+
+    /**
+     * Checks a value whose shape does not match the node: containers are rejected directly, other values are
+     * converted the way Jackson would serialize them
+     */
+    private boolean checkTree(PlanNode node, Object value) {
+        if (value instanceof Map || value instanceof Collection || isArray(value) || beanAccessor(value) != null
+            || scalar(value) != null) {
+            return reporter.typeMismatch(node);
+        }
+        JsonNode tree = toTree(value);
+        return plan.check(reporter, node, tree == null ? NullNode.getInstance() : tree);
+    }
+
+    /**
+     * Whether the value can be walked directly instead of being converted by Jackson
+     */
+    private boolean isDirect(Object value) {
+        return (value instanceof Map && hasStringKeys((Map<?, ?>) value)) || value instanceof Collection
+               || isArray(value) || scalar(value) != null || beanAccessor(value) != null;
+    }
+
+    private static boolean hasStringKeys(Map<?, ?> map) {
+        for (Object key : map.keySet()) {
+            if (!(key instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static boolean isArray(Object value) {
+        return value.getClass().isArray() && !(value instanceof byte[]) && !(value instanceof char[]);
+    }
+
+    private BeanAccessor beanAccessor(Object value) {
+        if (!beans || value instanceof Map) {
+            return null;
+        }
+        BeanAccessor accessor = BeanAccessor.of(value.getClass(), naming);
+        return accessor.isSupported() ? accessor : null;
+    }
+
+    private JsonNode toTree(Object value) {
+        return converter.convert(value);
+    }
+
+    /**
+     * Builds the value node {@code readTree} produces for the JSON form Jackson writes for a scalar
+     *
+     * @param value a Java value
+     * @return the value node, or null when the value is not a plain scalar
+     */
+    static JsonNode scalar(Object value) {
+        if (value instanceof String) {
+            return TextNode.valueOf((String) value);
+        } else if (value instanceof Boolean) {
+            return BooleanNode.valueOf((Boolean) value);
+        } else if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return IntNode.valueOf(((Number) value).intValue());
+        } else if (value instanceof Long) {
+            return integral((Long) value);
+        } else if (value instanceof Double || value instanceof Float) {
+            double d = value instanceof Float ? Double.parseDouble(value.toString()) : (Double) value;
+            return Double.isNaN(d) || Double.isInfinite(d) ? TextNode.valueOf(value.toString()) : DoubleNode.valueOf(d);
+        } else if (value instanceof BigInteger) {
+            BigInteger bigInteger = (BigInteger) value;
+            return bigInteger.bitLength() < 64 ? integral(bigInteger.longValue()) : BigIntegerNode.valueOf(bigInteger);
+        } else if (value instanceof BigDecimal) {
+            BigDecimal decimal = (BigDecimal) value;
+            String text = decimal.toString();
+            if (text.indexOf('.') < 0 && text.indexOf('E') < 0) {
+                return scalar(decimal.toBigInteger());
+            }
+            return DoubleNode.valueOf(decimal.doubleValue());
+        } else if (value instanceof Character || value instanceof char[]) {
+            return TextNode.valueOf(value instanceof Character ? value.toString() : new String((char[]) value));
+        } else if (value instanceof Enum && !BeanAccessor.hasJacksonAnnotations(((Enum<?>) value).getDeclaringClass())) {
+            return TextNode.valueOf(((Enum<?>) value).name());
+        }
+        return null;
+    }
+
+    private static JsonNode integral(long value) {
+        return value >= INT_MIN && value <= INT_MAX ? IntNode.valueOf((int) value) : LongNode.valueOf(value);
+    }
+}
@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Opt-in parallel validation of large arrays.
+ * <p>
+ * Arrays with at least {@link #getThreshold()} elements are split into chunks which are scanned concurrently on
+ * the executor. The scan only looks for the lowest failing index, without reporting anything; the elements from
+ * that index on are then validated again on the calling thread with the real reporter. Errors are therefore
+ * exactly the ones sequential validation reports, the first failing index always wins. The calling thread takes
+ * part in the scan, so a busy executor or nested large arrays can not dead-lock the validation.
+ * <p>
+ * 大数组并行验证：超过阈值的数组分块并发扫描，找到最小的失败下标后由调用线程从该下标起按顺序重新验证，
+ * 保证错误结果与顺序验证完全一致。低于阈值的数组仍按顺序验证。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class ParallelArrays {
+    private static final int MIN_CHUNK_SIZE = 256;
+    private final int        threshold;
+    private final Executor   executor;
+    private final int        parallelism;
+
+    private ParallelArrays(int threshold, Executor executor, int parallelism) {
+        if (threshold < 2) {
+            throw new IllegalArgumentException("threshold must be greater than 1");
+        }
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must be not null");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be greater than 0");
+        }
+        this.threshold = threshold;
+        this.executor = executor;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Splits arrays of at least {@code threshold} elements across the common ForkJoinPool
+     *
+     * @param threshold the minimum array size validated in parallel
+     * @return the parallel options
+     */
+    public static ParallelArrays of(int threshold) {
+        return of(threshold, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Splits arrays of at least {@code threshold} elements across the given executor. The parallelism of a
+     * ForkJoinPool is taken from the pool, otherwise from the number of available processors.
+     *
+     * @param threshold the minimum array size validated in parallel
+     * @param executor  the executor running the chunks
+     * @return the parallel options
+     */
+    public static ParallelArrays of(int threshold, Executor executor) {
+        int parallelism = executor instanceof ForkJoinPool ? ((ForkJoinPool) executor).getParallelism() : Runtime
+            .getRuntime().availableProcessors();
+        return of(threshold, executor, parallelism);
+    }
+
+    /**
+     * Splits arrays of at least {@code threshold} elements across the given executor
+     *
+     * @param threshold   the minimum array size validated in parallel
+     * @param executor    the executor running the chunks
+     * @param parallelism the maximum number of chunks scanned at the same time, including the calling thread
+     * @return the parallel options
+     */
+    public static ParallelArrays of(int threshold, Executor executor, int parallelism) {
+        return new ParallelArrays(threshold, executor, parallelism);
+    }
+
+    public int getThreshold() {
+        return threshold;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Finds the lowest index of an invalid element
+     *
+     * @param plan    the plan the element belongs to
+     * @param element the compiled array element
+     * @param array   the array value
+     * @return the index of the first invalid element, or -1 when every element is valid
+     */
+    int firstInvalid(ValidationPlan plan, PlanNode element, JsonNode array) {
+        Scan scan = new Scan(plan, element, array, chunkSize(array.size()));
+        int helpers = Math.min(parallelism, scan.chunks) - 1;
+        for (int i = 0; i < helpers; i++) {
+            try {
+                executor.execute(scan);
+            } catch (RejectedExecutionException e) {
+                break;
+            }
+        }
+        scan.run();
+        scan.await();
+        int first = scan.first.get();
+        return first == Integer.MAX_VALUE ? -1 : first;
+    }
+
+    private int chunkSize(int size) {
+        return Math.max(MIN_CHUNK_SIZE, (size + parallelism * 4 - 1) / (parallelism * 4));
+    }
+
+    @Override
+    public String toString() {
+        return "ParallelArrays[threshold=" + threshold + ", parallelism=" + parallelism + "]";
+    }
+
+    /**
+     * One parallel scan of an array; every participating thread claims chunks until none are left
+     */
+    private static final class Scan implements Runnable {
+        private final ValidationPlan plan;
+        private final PlanNode       element;
+        private final JsonNode       array;
+        private final int            chunkSize;
+        private final int            chunks;
+        private final AtomicInteger  next  = new AtomicInteger();
+        private final AtomicInteger  first = new AtomicInteger(Integer.MAX_VALUE);
+        private final CountDownLatch done;
+
+        Scan(ValidationPlan plan, PlanNode element, JsonNode array, int chunkSize) {
+            this.plan = plan;
+            this.element = element;
+            this.array = array;
+            this.chunkSize = chunkSize;
+            this.chunks = (array.size() + chunkSize - 1) / chunkSize;
+            this.done = new CountDownLatch(chunks);
+        }
+
+        @Override
+        public void run() {
+            int chunk;
+            while ((chunk = next.getAndIncrement()) < chunks) {
+                try {
+                    scan(chunk * chunkSize, Math.min(array.size(), (chunk + 1) * chunkSize));
+                } finally {
+                    done.countDown();
+                }
+            }
+        }
+
+        private void scan(int from, int to) {
+            for (int i = from; i < to && i < first.get(); i++) {
+                boolean valid;
+                try {
+                    valid = plan.checkElement(ErrorReporter.FAIL_FAST, element, array.get(i));
+                } catch (RuntimeException | Error e) {
+                    // Replayed on the calling thread, which then throws the same error
+                    valid = false;
+                }
+                if (!valid) {
+                    first.accumulateAndGet(i, Math::min);
+                    return;
+                }
+            }
+        }
+
+        void await() {
+            boolean interrupted = false;
+            while (true) {
+                try {
+                    done.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
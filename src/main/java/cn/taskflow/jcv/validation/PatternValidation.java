@@ -0,0 +1,204 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.exception.ValidationException;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.regex.Pattern;
+
+/**
+ * Regular expression rule of a string value, compiled once when the schema is defined.
+ * 正则表达式验证：表达式在定义模式时编译一次，默认使用线性时间的 DFA 匹配器，耗时只与输入长度成正比，
+ * 恶意构造的输入无法触发回溯爆炸；只有需要回溯的语法（反向引用、环视、边界、内联标志等）才交给
+ * {@link java.util.regex.Pattern}，并限制每次匹配可读取的字符次数，超出预算的值按验证失败处理。
+ * <p>
+ * The whole value must match, like {@link java.util.regex.Matcher#matches()}. See {@link LinearRegex} for the
+ * constructs of the linear matcher; {@link #isLinear()} tells which engine a rule uses.
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class PatternValidation implements CustomValidationRule {
+    /**
+     * Default number of character reads a backtracking match may take
+     * 回溯匹配默认可读取的字符次数
+     */
+    public static final int   DEFAULT_MAX_STEPS = 1_000_000;
+
+    private final String      regex;
+    private final int         maxSteps;
+    private final Pattern     pattern;
+    // Null when the expression needs backtracking
+    private final LinearRegex linear;
+
+    private PatternValidation(String regex, int maxSteps) {
+        this.regex = regex;
+        this.maxSteps = maxSteps;
+        this.pattern = Pattern.compile(regex);
+        this.linear = compileLinear(regex);
+    }
+
+    private static LinearRegex compileLinear(String regex) {
+        try {
+            return LinearRegex.compile(regex);
+        } catch (RuntimeException e) {
+            // The budgeted Pattern path still matches correctly
+            return null;
+        }
+    }
+
+    /**
+     * 创建正则表达式验证规则，回溯匹配使用默认预算
+     *
+     * @param regex 正则表达式，语法同 {@link Pattern}
+     * @return 验证规则
+     * @throws java.util.regex.PatternSyntaxException 如果表达式语法错误
+     */
+    public static PatternValidation of(String regex) {
+        return of(regex, DEFAULT_MAX_STEPS);
+    }
+
+    /**
+     * 创建正则表达式验证规则
+     *
+     * @param regex    正则表达式，语法同 {@link Pattern}
+     * @param maxSteps 回溯匹配可读取的字符次数上限，线性匹配不受限制
+     * @return 验证规则
+     * @throws java.util.regex.PatternSyntaxException 如果表达式语法错误
+     * @throws IllegalArgumentException              如果 maxSteps 不是正数
+     */
+    public static PatternValidation of(String regex, int maxSteps) {
+        if (regex == null) {
+            throw new IllegalArgumentException("The regex cannot be null");
+        }
+        if (maxSteps <= 0) {
+            throw new IllegalArgumentException("maxSteps must be positive: " + maxSteps);
+        }
+        return new PatternValidation(regex, maxSteps);
+    }
+
+    public String getRegex() {
+        return regex;
+    }
+
+    public int getMaxSteps() {
+        return maxSteps;
+    }
+
+    /**
+     * Whether the rule runs on the linear-time matcher
+     * 是否使用线性时间匹配器
+     */
+    public boolean isLinear() {
+        return linear != null;
+    }
+
+    /**
+     * Checks whether the whole text matches
+     * 检查整个文本是否匹配
+     *
+     * @param text 文本
+     * @return 匹配时返回 true；回溯匹配超出预算时返回 false
+     */
+    public boolean matches(CharSequence text) {
+        if (linear != null) {
+            return linear.matches(text);
+        }
+        try {
+            return pattern.matcher(new BudgetedText(text, maxSteps)).matches();
+        } catch (BudgetExceeded e) {
+            return false;
+        }
+    }
+
+    @Override
+    public boolean validate(JsonSchema schema, JsonNode node) throws ValidationException {
+        if (node != null && !node.isNull()) {
+            return matches(node.asText());
+        }
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof PatternValidation)) {
+            return false;
+        }
+        PatternValidation that = (PatternValidation) obj;
+        return maxSteps == that.maxSteps && regex.equals(that.regex);
+    }
+
+    @Override
+    public int hashCode() {
+        return regex.hashCode() * 31 + maxSteps;
+    }
+
+    @Override
+    public String toString() {
+        return regex;
+    }
+
+    /**
+     * Counts the character reads of a backtracking match and aborts it when the budget runs out
+     */
+    private static final class BudgetedText implements CharSequence {
+        private final CharSequence text;
+        private int                remaining;
+
+        BudgetedText(CharSequence text, int budget) {
+            this.text = text;
+            this.remaining = budget;
+        }
+
+        @Override
+        public int length() {
+            return text.length();
+        }
+
+        @Override
+        public char charAt(int index) {
+            if (--remaining < 0) {
+                throw BudgetExceeded.INSTANCE;
+            }
+            return text.charAt(index);
+        }
+
+        @Override
+        public CharSequence subSequence(int start, int end) {
+            return text.subSequence(start, end);
+        }
+
+        @Override
+        public String toString() {
+            return text.toString();
+        }
+    }
+
+    private static final class BudgetExceeded extends RuntimeException {
+        private static final long           serialVersionUID = 1L;
+        private static final BudgetExceeded INSTANCE         = new BudgetExceeded();
+
+        private BudgetExceeded() {
+            super(null, null, false, false);
+        }
+    }
+}
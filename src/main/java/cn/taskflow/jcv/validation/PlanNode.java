@@ -0,0 +1,366 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonBasicSchema;
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.core.Primitive;
+import cn.taskflow.jcv.exception.ValidationException;
+import cn.taskflow.jcv.utils.JsvUtils;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.List;
+
+/**
+ * A single compiled element of a {@link ValidationPlan}.
+ * 验证计划中的单个已编译节点，类型分派、约束、必填标记以及路径均在编译期确定。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class PlanNode {
+    static final CustomValidationRule[] NO_RULES    = new CustomValidationRule[0];
+    static final PlanNode[]             NO_CHILDREN = new PlanNode[0];
+
+    /**
+     * The dispatch kind of a compiled node
+     * 已编译节点的分派类型
+     */
+    public enum Kind {
+        OBJECT, ARRAY, NUMBER, STRING, BOOLEAN;
+
+        static Kind of(JsonSchema schema) {
+            if (schema.isObject()) {
+                return OBJECT;
+            } else if (schema.isArray()) {
+                return ARRAY;
+            } else if (schema.isPrimitive()) {
+                if (schema.getDataType().isNumber()) {
+                    return NUMBER;
+                } else if (schema.getDataType().isString()) {
+                    return STRING;
+                } else if (schema.getDataType().isBoolean()) {
+                    return BOOLEAN;
+                }
+                throw new ValidationException("Unsupported type: " + schema.getDataType(), schema.getPath());
+            }
+            throw new ValidationException("Unsupported type: " + schema, schema.getPath());
+        }
+    }
+
+    final JsonSchema             schema;
+    final Kind                   kind;
+    final String                 name;
+    final String                 path;
+    final boolean                required;
+    final boolean                elementOfArray;
+    // An array element that is neither a primitive nor an anonymous object, rejected once an element is met
+    final boolean                unsupportedElement;
+    final CustomValidationRule[] rules;
+    final PlanNode[]             children;
+    // Hashed name index of the declared fields of an object node
+    final FieldIndex             fields;
+    // Primitive constraints, resolved once at compile time
+    final Number                 min;
+    final Number                 max;
+    final String                 tipMsg;
+    final String                 numberFormatMsg;
+    // Unboxed bounds of a number node, null for other kinds
+    final NumberRange            range;
+    // Names of a string node whose only rule is an enum, matched on the text buffer of a parser
+    final EnumValidation         enumRule;
+    // Counters of an adaptively ordered plan, null otherwise; ruleStats is aligned with rules
+    final CheckStats             stats;
+    final CheckStats[]           ruleStats;
+
+    private PlanNode(JsonSchema schema, Kind kind, PlanNode[] children) {
+        this.schema = schema;
+        this.kind = kind;
+        this.name = schema.getName();
+        this.path = schema.getPath();
+        this.required = schema.isRequired();
+        this.elementOfArray = schema.getParentNode() != null && schema.getParentNode().isArray();
+        this.unsupportedElement = elementOfArray && !schema.isObjectValue() && !schema.isPrimitive();
+        this.rules = rulesOf(schema);
+        this.children = children;
+        this.fields = kind == Kind.OBJECT ? FieldIndex.of(namesOf(children)) : FieldIndex.EMPTY;
+        if (kind == Kind.OBJECT || kind == Kind.ARRAY) {
+            this.min = null;
+            this.max = null;
+            this.tipMsg = null;
+            this.numberFormatMsg = null;
+            this.range = null;
+        } else {
+            Primitive primitive = schema.asPrimitive();
+            this.min = primitive.getMin();
+            this.max = primitive.getMax();
+            this.tipMsg = primitive.getTipMsg(path);
+            if (primitive.existBetweenCheck()) {
+                this.numberFormatMsg = elementOfArray ? primitive.getTipMsg(path + "[]") : tipMsg;
+            } else {
+                this.numberFormatMsg = JsvUtils.formatParamError(path);
+            }
+            this.range = kind == Kind.NUMBER ? NumberRange.of(min, max) : null;
+        }
+        this.enumRule = kind == Kind.STRING && rules != null && rules.length == 1 && rules[0] instanceof EnumValidation ? (EnumValidation) rules[0]
+            : null;
+        this.stats = null;
+        this.ruleStats = null;
+    }
+
+    private PlanNode(PlanNode source, PlanNode[] children, CustomValidationRule[] rules, CheckStats stats,
+                     CheckStats[] ruleStats) {
+        this.schema = source.schema;
+        this.kind = source.kind;
+        this.name = source.name;
+        this.path = source.path;
+        this.required = source.required;
+        this.elementOfArray = source.elementOfArray;
+        this.unsupportedElement = source.unsupportedElement;
+        this.rules = rules;
+        this.children = children;
+        this.fields = kind == Kind.OBJECT ? FieldIndex.of(namesOf(children)) : FieldIndex.EMPTY;
+        this.min = source.min;
+        this.max = source.max;
+        this.tipMsg = source.tipMsg;
+        this.numberFormatMsg = source.numberFormatMsg;
+        this.range = source.range;
+        this.enumRule = source.enumRule;
+        this.stats = stats;
+        this.ruleStats = ruleStats;
+    }
+
+    /**
+     * Fails when this array element node is of a type arrays can not hold
+     *
+     * @throws ValidationException for a nested array or a named object element
+     */
+    void requireSupportedElement() {
+        if (unsupportedElement) {
+            throw new ValidationException("Unsupported type: " + schema, path);
+        }
+    }
+
+    /**
+     * Copies this node with its children and rules in another order, counting its checks
+     *
+     * @param children  the reordered children
+     * @param rules     the reordered rules
+     * @param stats     counters of this node as a field of its parent
+     * @param ruleStats counters aligned with {@code rules}, null when the rules are not counted
+     * @return the copy
+     */
+    PlanNode reordered(PlanNode[] children, CustomValidationRule[] rules, CheckStats stats, CheckStats[] ruleStats) {
+        return new PlanNode(this, children, rules, stats, ruleStats);
+    }
+
+    /**
+     * Compiles a schema element and its descendants, appending every node to {@code nodes} in pre-order.
+     * The compiled form of a frozen schema is cached on the schema, so schemas derived from it reuse the compiled
+     * nodes of every subtree they share.
+     *
+     * @param schema the schema element to compile
+     * @param nodes  flat pre-order node list of the plan being built
+     * @return the compiled node
+     */
+    static PlanNode compile(JsonSchema schema, List<PlanNode> nodes) {
+        JsonBasicSchema frozen = schema.isFrozen() && schema instanceof JsonBasicSchema ? (JsonBasicSchema) schema
+            : null;
+        if (frozen != null && frozen.getCompiledForm() instanceof PlanNode) {
+            PlanNode cached = (PlanNode) frozen.getCompiledForm();
+            cached.collect(nodes);
+            return cached;
+        }
+        Kind kind = Kind.of(schema);
+        int index = nodes.size();
+        nodes.add(null);
+        PlanNode[] children = NO_CHILDREN;
+        JsonSchema[] childSchemas = childrenOf(schema, kind);
+        if (childSchemas != null && childSchemas.length > 0) {
+            if (kind == Kind.ARRAY) {
+                // An unsupported element, such as a nested array, fails only once an element is validated
+                children = new PlanNode[] { compile(childSchemas[0], nodes) };
+            } else {
+                children = new PlanNode[childSchemas.length];
+                for (int i = 0; i < childSchemas.length; i++) {
+                    children[i] = compile(childSchemas[i], nodes);
+                }
+            }
+        }
+        PlanNode node = new PlanNode(schema, kind, children);
+        nodes.set(index, node);
+        if (frozen != null) {
+            frozen.cacheCompiledForm(node);
+        }
+        return node;
+    }
+
+    private void collect(List<PlanNode> nodes) {
+        nodes.add(this);
+        for (PlanNode child : children) {
+            child.collect(nodes);
+        }
+    }
+
+    private static JsonSchema[] childrenOf(JsonSchema schema, Kind kind) {
+        if (kind == Kind.OBJECT) {
+            return schema.asObject().getChildren();
+        } else if (kind == Kind.ARRAY) {
+            return schema.asArray().getChildren();
+        }
+        return null;
+    }
+
+    private static String[] namesOf(PlanNode[] children) {
+        String[] names = new String[children.length];
+        for (int i = 0; i < children.length; i++) {
+            names[i] = children[i].name;
+        }
+        return names;
+    }
+
+    private static CustomValidationRule[] rulesOf(JsonSchema schema) {
+        if (schema instanceof JsonBasicSchema) {
+            List<CustomValidationRule> list = ((JsonBasicSchema) schema).getValidationRules();
+            return list.isEmpty() ? NO_RULES : list.toArray(new CustomValidationRule[0]);
+        }
+        return null;
+    }
+
+    /**
+     * Whether this node carries custom rules which need the complete node value
+     * 当前节点是否存在需要完整节点值的自定义规则
+     *
+     * @return true if the rules must see the whole value
+     */
+    boolean hasRules() {
+        return rules == null || rules.length > 0;
+    }
+
+    /**
+     * Finds the index of the child declared with the given field name
+     *
+     * @param fieldName the field name of an object member
+     * @return index into {@link #children}, or -1 when the field is not declared
+     */
+    int indexOf(String fieldName) {
+        return fields.indexOf(fieldName);
+    }
+
+    /**
+     * Runs the custom validation rules of this node, with the same failure semantics as {@link JsonSchema#verify}.
+     *
+     * @param reporter receives a rejected value
+     * @param jsonNode the node being validated
+     * @return whether validation should go on
+     */
+    boolean verify(ErrorReporter reporter, JsonNode jsonNode) {
+        if (rules == null) {
+            if (!reporter.describesErrors()) {
+                return schema.accepts(jsonNode) || reporter.ruleFailed(this, null, null);
+            }
+            try {
+                schema.verify(jsonNode);
+            } catch (RuntimeException e) {
+                return reporter.ruleFailed(this, null, e);
+            }
+            return true;
+        }
+        if (ruleStats != null) {
+            return verifyCounted(reporter, jsonNode);
+        }
+        for (CustomValidationRule rule : rules) {
+            if (rule instanceof ValueRangeValidation) {
+                int rejection = ((ValueRangeValidation) rule).reject(jsonNode);
+                if (rejection != ValueRangeValidation.ACCEPTED) {
+                    return reporter.valueRejected(this, (ValueRangeValidation) rule, jsonNode, rejection);
+                }
+                continue;
+            }
+            boolean valid;
+            try {
+                valid = rule.validate(schema, jsonNode);
+            } catch (RuntimeException e) {
+                return reporter.ruleFailed(this, rule, e);
+            }
+            if (!valid) {
+                return reporter.ruleFailed(this, rule, null);
+            }
+        }
+        return true;
+    }
+
+    private boolean verifyCounted(ErrorReporter reporter, JsonNode jsonNode) {
+        for (int i = 0; i < rules.length; i++) {
+            long start = ruleStats[i].start();
+            if (rules[i] instanceof ValueRangeValidation) {
+                int rejection = ((ValueRangeValidation) rules[i]).reject(jsonNode);
+                ruleStats[i].record(rejection == ValueRangeValidation.ACCEPTED, start);
+                if (rejection != ValueRangeValidation.ACCEPTED) {
+                    return reporter.valueRejected(this, (ValueRangeValidation) rules[i], jsonNode, rejection);
+                }
+                continue;
+            }
+            boolean valid;
+            try {
+                valid = rules[i].validate(schema, jsonNode);
+            } catch (RuntimeException e) {
+                ruleStats[i].record(false, start);
+                return reporter.ruleFailed(this, rules[i], e);
+            }
+            ruleStats[i].record(valid, start);
+            if (!valid) {
+                return reporter.ruleFailed(this, rules[i], null);
+            }
+        }
+        return true;
+    }
+
+    public JsonSchema getSchema() {
+        return schema;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public boolean isRequired() {
+        return required;
+    }
+
+    /**
+     * Gets the compiled children: the fields of an object, or the element of an array
+     *
+     * @return the compiled children, never null
+     */
+    public PlanNode[] getChildren() {
+        return children.clone();
+    }
+
+    @Override
+    public String toString() {
+        return kind + ":" + path;
+    }
+}
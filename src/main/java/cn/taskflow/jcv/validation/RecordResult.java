@@ -0,0 +1,62 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.util.List;
+
+/**
+ * Validation outcome of one record of a batch.
+ * 批量验证中单条记录的结果：记录序号、是否有效以及错误列表。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class RecordResult {
+    private final long             index;
+    private final ValidationResult result;
+
+    RecordResult(long index, ValidationResult result) {
+        this.index = index;
+        this.result = result;
+    }
+
+    /**
+     * Gets the zero based position of the record in the input; blank NDJSON lines are not counted
+     *
+     * @return the record index
+     */
+    public long getIndex() {
+        return index;
+    }
+
+    public boolean isValid() {
+        return result.isValid();
+    }
+
+    public List<ValidationError> getErrors() {
+        return result.getErrors();
+    }
+
+    public ValidationResult getResult() {
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + index + " " + result;
+    }
+}
@@ -0,0 +1,396 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.JsonEOFException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Token driven validator over a {@link ValidationPlan}.
+ * <p>
+ * Tokens are pushed one at a time through {@link #accept(JsonToken, JsonParser)}, so the same state machine
+ * serves blocking parsers as well as Jackson's non-blocking (async) parsers. Only a stack of open containers is
+ * kept, memory grows with the nesting depth instead of the document size, and the first violating token throws
+ * immediately. Subtrees whose schema carries custom rules are materialized, because a
+ * {@link CustomValidationRule} needs the complete node; undeclared members are skipped without being built.
+ * <p>
+ * 基于Token流的验证器：逐个接收Jackson Token并按预编译计划验证，内存占用与嵌套深度成正比，遇到首个违规Token立即失败。
+ * 实例保存解析状态，不是线程安全的，每个文档使用一个实例。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class StreamingValidator {
+    private final ValidationPlan plan;
+    private ErrorReporter        reporter;
+    private final PlanNode       root;
+    private Frame[]              frames     = new Frame[8];
+    private int                  depth;
+    private boolean              started;
+    private boolean              complete;
+    // Set once the reporter asked to stop at a violation
+    private boolean              stopped;
+    // Depth of the undeclared subtree currently being skipped
+    private int                  skipDepth;
+    // Subtree materialized for a node with custom rules
+    private PlanNode             buildTarget;
+    private final List<JsonNode> buildStack = new ArrayList<>();
+    private JsonNode             built;
+    private String               fieldName;
+
+    public StreamingValidator(ValidationPlan plan, VerifyHandler handler) {
+        this(plan, ErrorReporter.throwing(handler));
+    }
+
+    StreamingValidator(ValidationPlan plan, ErrorReporter reporter) {
+        this.plan = plan;
+        this.reporter = reporter;
+        this.root = plan.getRoot();
+    }
+
+    /**
+     * Clears the parsing state so the instance can validate the next document, keeping its allocated stacks
+     *
+     * @param reporter receives the violations of the next document
+     */
+    void reset(ErrorReporter reporter) {
+        this.reporter = reporter;
+        this.depth = 0;
+        this.started = false;
+        this.complete = false;
+        this.stopped = false;
+        this.skipDepth = 0;
+        this.buildTarget = null;
+        this.buildStack.clear();
+        this.built = null;
+        this.fieldName = null;
+    }
+
+    /**
+     * Whether the root value has been read completely or validation stopped at a violation; further tokens are
+     * ignored.
+     * 根节点是否已完整读取（或已在错误处停止）
+     *
+     * @return true once the document has been validated
+     */
+    public boolean isComplete() {
+        return complete || stopped;
+    }
+
+    /**
+     * Whether the validator is inside an undeclared subtree. A blocking caller may then call
+     * {@link JsonParser#skipChildren()} and pass the closing token.
+     *
+     * @return true when the current container is skipped
+     */
+    public boolean isSkipping() {
+        return skipDepth == 1 && buildTarget == null;
+    }
+
+    /**
+     * Consumes the current token of the parser
+     * 消费解析器的当前Token
+     *
+     * @param token  the token the parser is positioned on
+     * @param parser the parser, used to read the token value
+     * @throws IOException if the token value can not be read
+     */
+    public void accept(JsonToken token, JsonParser parser) throws IOException {
+        if (complete || stopped || token == null || token == JsonToken.NOT_AVAILABLE) {
+            return;
+        }
+        if (skipDepth > 0) {
+            if (token.isStructStart()) {
+                skipDepth++;
+            } else if (token.isStructEnd() && --skipDepth == 0) {
+                valueDone();
+            }
+            return;
+        }
+        if (buildTarget != null) {
+            build(token, parser);
+            return;
+        }
+        if (depth == 0) {
+            started = true;
+            value(root, true, token, parser);
+            return;
+        }
+        Frame frame = frames[depth - 1];
+        if (frame.object) {
+            if (token == JsonToken.FIELD_NAME) {
+                int index = frame.node.indexOf(parser.currentName());
+                if (index >= 0) {
+                    frame.seen[index] = true;
+                    frame.pending = frame.node.children[index];
+                } else {
+                    frame.pending = null;
+                }
+            } else if (token == JsonToken.END_OBJECT) {
+                depth--;
+                finishObject(frame);
+                valueDone();
+            } else if (frame.pending == null) {
+                skip(token);
+            } else {
+                value(frame.pending, true, token, parser);
+            }
+        } else {
+            if (token == JsonToken.END_ARRAY) {
+                depth--;
+                if (frame.node.required && frame.count == 0) {
+                    proceed(reporter.emptyArray(frame.node));
+                }
+                valueDone();
+            } else {
+                frame.count++;
+                frame.node.children[0].requireSupportedElement();
+                value(frame.node.children[0], false, token, parser);
+            }
+        }
+    }
+
+    /**
+     * Signals the end of input and reports a missing or truncated document
+     * 输入结束，检查缺失或被截断的文档
+     *
+     * @param parser the parser which produced the tokens
+     * @return false if a violation was found and not thrown
+     * @throws IOException if the document ended inside a value
+     */
+    public boolean finish(JsonParser parser) throws IOException {
+        if (!started) {
+            proceed(ValidationPlan.absent(reporter, root, null));
+        } else if (!complete && !stopped) {
+            throw new JsonEOFException(parser, null, "Unexpected end-of-input while validating `" + root.path + "`");
+        }
+        return !stopped;
+    }
+
+    private void value(PlanNode node, boolean nullable, JsonToken token, JsonParser parser) throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            if (nullable) {
+                proceed(ValidationPlan.absent(reporter, node, NullNode.getInstance()));
+            } else {
+                proceed(plan.check(reporter, node, NullNode.getInstance()));
+            }
+            valueDone();
+            return;
+        }
+        switch (node.kind) {
+            case OBJECT:
+                if (token != JsonToken.START_OBJECT) {
+                    proceed(reporter.typeMismatch(node));
+                    skip(token);
+                } else if (node.hasRules()) {
+                    startBuild(node, token, parser);
+                } else {
+                    push(node, true);
+                }
+                break;
+            case ARRAY:
+                if (token != JsonToken.START_ARRAY) {
+                    proceed(reporter.typeMismatch(node));
+                    skip(token);
+                } else if (node.hasRules()) {
+                    startBuild(node, token, parser);
+                } else if (node.children.length == 0) {
+                    skip(token);
+                } else {
+                    push(node, false);
+                }
+                break;
+            default:
+                if (token.isStructStart()) {
+                    proceed(reporter.typeMismatch(node));
+                    skip(token);
+                } else if (node.kind == PlanNode.Kind.NUMBER && token.isNumeric() && !node.hasRules()) {
+                    proceed(plan.checkNumber(reporter, node, parser));
+                    valueDone();
+                } else if (node.enumRule != null && token == JsonToken.VALUE_STRING) {
+                    proceed(plan.checkEnum(reporter, node, parser));
+                    valueDone();
+                } else {
+                    proceed(plan.checkSimple(reporter, node, leaf(token, parser)));
+                    valueDone();
+                }
+        }
+    }
+
+    private void proceed(boolean proceed) {
+        if (!proceed) {
+            stopped = true;
+        }
+    }
+
+    private void skip(JsonToken token) {
+        if (token.isStructStart()) {
+            skipDepth = 1;
+        } else {
+            valueDone();
+        }
+    }
+
+    private void valueDone() {
+        if (depth == 0) {
+            complete = true;
+        }
+    }
+
+    private void push(PlanNode node, boolean object) {
+        if (depth == frames.length) {
+            frames = Arrays.copyOf(frames, depth << 1);
+        }
+        Frame frame = frames[depth];
+        if (frame == null) {
+            frame = frames[depth] = new Frame();
+        }
+        frame.reset(node, object);
+        depth++;
+    }
+
+    private void finishObject(Frame frame) {
+        PlanNode[] children = frame.node.children;
+        for (int i = 0; i < children.length; i++) {
+            if (!frame.seen[i] && !ValidationPlan.absent(reporter, children[i], null)) {
+                stopped = true;
+                return;
+            }
+        }
+    }
+
+    private void startBuild(PlanNode node, JsonToken token, JsonParser parser) throws IOException {
+        buildTarget = node;
+        built = null;
+        build(token, parser);
+    }
+
+    private void build(JsonToken token, JsonParser parser) throws IOException {
+        switch (token) {
+            case FIELD_NAME:
+                fieldName = parser.currentName();
+                return;
+            case START_OBJECT:
+                attach(JsonNodeFactory.instance.objectNode(), true);
+                return;
+            case START_ARRAY:
+                attach(JsonNodeFactory.instance.arrayNode(), true);
+                return;
+            case END_OBJECT:
+            case END_ARRAY:
+                buildStack.remove(buildStack.size() - 1);
+                break;
+            default:
+                attach(leaf(token, parser), false);
+        }
+        if (buildStack.isEmpty()) {
+            PlanNode node = buildTarget;
+            JsonNode value = built;
+            buildTarget = null;
+            built = null;
+            proceed(plan.check(reporter, node, value));
+            valueDone();
+        }
+    }
+
+    private void attach(JsonNode node, boolean container) {
+        if (buildStack.isEmpty()) {
+            built = node;
+        } else {
+            JsonNode parent = buildStack.get(buildStack.size() - 1);
+            if (parent.isObject()) {
+                ((ObjectNode) parent).replace(fieldName, node);
+            } else {
+                ((ArrayNode) parent).add(node);
+            }
+        }
+        if (container) {
+            buildStack.add(node);
+        }
+    }
+
+    /**
+     * Creates the same value node as {@code ObjectMapper.readTree} would for a scalar token
+     *
+     * @param token  a scalar token
+     * @param parser the parser positioned on the token
+     * @return the value node
+     * @throws IOException if the value can not be read
+     */
+    static JsonNode leaf(JsonToken token, JsonParser parser) throws IOException {
+        switch (token) {
+            case VALUE_STRING:
+                return TextNode.valueOf(parser.getText());
+            case VALUE_NUMBER_INT:
+                switch (parser.getNumberType()) {
+                    case INT:
+                        return IntNode.valueOf(parser.getIntValue());
+                    case LONG:
+                        return LongNode.valueOf(parser.getLongValue());
+                    default:
+                        return BigIntegerNode.valueOf(parser.getBigIntegerValue());
+                }
+            case VALUE_NUMBER_FLOAT:
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+                    return DecimalNode.valueOf(parser.getDecimalValue());
+                }
+                return DoubleNode.valueOf(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return BooleanNode.TRUE;
+            case VALUE_FALSE:
+                return BooleanNode.FALSE;
+            case VALUE_NULL:
+                return NullNode.getInstance();
+            default:
+                return JsonNodeFactory.instance.pojoNode(parser.getEmbeddedObject());
+        }
+    }
+
+    /**
+     * An open object or array on the validation stack
+     */
+    private static final class Frame {
+        PlanNode  node;
+        boolean   object;
+        int       count;
+        PlanNode  pending;
+        boolean[] seen;
+
+        void reset(PlanNode node, boolean object) {
+            this.node = node;
+            this.object = object;
+            this.count = 0;
+            this.pending = null;
+            if (object) {
+                int size = node.children.length;
+                if (seen == null || seen.length < size) {
+                    seen = new boolean[size];
+                } else {
+                    Arrays.fill(seen, 0, size, false);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.extension.UnknownNodeFilter;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Copy-on-write projection of a tree onto the declared fields of a plan, leaving the input untouched.
+ * 写时复制的投影提取：不修改输入树，未变化的子树直接与输入共享，只有丢失字段的对象（及其祖先容器）会被复制。
+ * <p>
+ * The result holds the same fields {@code extract} would leave in place. An object is copied, shallowly, only when
+ * it has undeclared fields or one of its descendants was copied; with an {@link UnknownNodeFilter} the filter runs
+ * on the copy.
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class TreeProjector {
+    private final VerifyHandler     verifyHandler;
+    private final UnknownNodeFilter filter;
+
+    TreeProjector(VerifyHandler verifyHandler, UnknownNodeFilter filter) {
+        this.verifyHandler = verifyHandler;
+        this.filter = filter;
+    }
+
+    /**
+     * Projects an object node
+     *
+     * @param node     the input node, never modified
+     * @param planNode the compiled object node
+     * @return the input node when nothing was pruned beneath it, otherwise a pruned copy
+     */
+    JsonNode object(JsonNode node, PlanNode planNode) {
+        if (!node.isObject() || planNode.kind != PlanNode.Kind.OBJECT) {
+            verifyHandler.throwError(planNode.path);
+        }
+        if (planNode.children.length == 0) {
+            return node;
+        }
+        ObjectNode copy = null;
+        List<String> unknown = null;
+        int unchanged = 0;
+        Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+        while (iterator.hasNext()) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            String name = field.getKey();
+            JsonNode value = field.getValue();
+            int index = planNode.indexOf(name);
+            JsonNode projected;
+            if (index >= 0) {
+                projected = value(value, planNode.children[index]);
+            } else if (filter != null) {
+                // The filter decides on the copy whether the field stays
+                if (unknown == null) {
+                    unknown = new ArrayList<>();
+                }
+                unknown.add(name);
+                projected = value;
+            } else {
+                projected = null;
+            }
+            if (copy == null) {
+                if (projected == value && index >= 0) {
+                    unchanged++;
+                    continue;
+                }
+                copy = copyHead((ObjectNode) node, unchanged);
+            }
+            if (projected != null) {
+                copy.set(name, projected);
+            }
+        }
+        if (copy == null) {
+            return node;
+        }
+        if (unknown != null) {
+            for (String name : unknown) {
+                filter.process(name, copy);
+            }
+        }
+        return copy;
+    }
+
+    private JsonNode value(JsonNode value, PlanNode child) {
+        if (ValidationPlan.isNull(value)) {
+            return value;
+        }
+        if (child.kind == PlanNode.Kind.OBJECT) {
+            return object(value, child);
+        } else if (child.kind == PlanNode.Kind.ARRAY) {
+            return array(value, child);
+        }
+        return value;
+    }
+
+    /**
+     * Projects an array node, copying it only when one of its object elements was copied
+     */
+    private JsonNode array(JsonNode node, PlanNode planNode) {
+        if (!node.isArray()) {
+            verifyHandler.throwError(planNode.path);
+        }
+        if (planNode.children.length == 0) {
+            return node;
+        }
+        PlanNode element = planNode.children[0];
+        ArrayNode copy = null;
+        for (int i = 0; i < node.size(); i++) {
+            JsonNode item = node.get(i);
+            JsonNode projected = item.isObject() ? object(item, element) : item;
+            if (copy == null) {
+                if (projected == item) {
+                    continue;
+                }
+                copy = JsonNodeFactory.instance.arrayNode(node.size());
+                for (int j = 0; j < i; j++) {
+                    copy.add(node.get(j));
+                }
+            }
+            copy.add(projected);
+        }
+        return copy == null ? node : copy;
+    }
+
+    /**
+     * Creates a copy holding the first {@code count} fields of an object, all of which are kept unchanged
+     */
+    private static ObjectNode copyHead(ObjectNode node, int count) {
+        ObjectNode copy = JsonNodeFactory.instance.objectNode();
+        Iterator<Map.Entry<String, JsonNode>> iterator = node.fields();
+        for (int i = 0; i < count; i++) {
+            Map.Entry<String, JsonNode> field = iterator.next();
+            copy.set(field.getKey(), field.getValue());
+        }
+        return copy;
+    }
+}
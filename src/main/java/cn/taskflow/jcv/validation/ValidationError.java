@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+/**
+ * A single violation collected by {@link Validator#check}: where it happened, which rule was violated and a
+ * machine readable code, together with the message the throwing API would have used.
+ * 单条验证错误记录：路径、违反的规则、错误码以及与抛出异常时相同的错误消息。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class ValidationError {
+    /**
+     * Machine readable category of a violation
+     * 错误类别
+     */
+    public enum Code {
+        /**
+         * A required value is absent or null
+         */
+        MISSING,
+        /**
+         * The JSON type of the value does not match the schema
+         */
+        TYPE_MISMATCH,
+        /**
+         * A required array has no elements
+         */
+        EMPTY_ARRAY,
+        /**
+         * A number or the length of a string is outside the declared bounds
+         */
+        OUT_OF_RANGE,
+        /**
+         * The value can not be read as the declared number or boolean
+         */
+        INVALID_FORMAT,
+        /**
+         * A custom validation rule rejected the value
+         */
+        RULE_VIOLATION,
+        /**
+         * The input is not well-formed JSON
+         */
+        MALFORMED_JSON
+    }
+
+    private final String path;
+    private final String rule;
+    private final Code   code;
+    private final String message;
+
+    public ValidationError(String path, String rule, Code code, String message) {
+        this.path = path;
+        this.rule = rule;
+        this.code = code;
+        this.message = message;
+    }
+
+    /**
+     * Creates the error recorded for input which is not well-formed JSON
+     *
+     * @param root  the root node of the plan
+     * @param cause the parse failure
+     * @return the error
+     */
+    static ValidationError malformed(PlanNode root, JsonProcessingException cause) {
+        return new ValidationError(root.path, "json", Code.MALFORMED_JSON, cause.getOriginalMessage());
+    }
+
+    /**
+     * Gets the path of the violating schema element, for example {@code user.name}
+     *
+     * @return the path, empty or null for the root of an anonymous schema
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Gets the name of the violated rule: {@code required}, {@code type}, {@code notEmpty}, {@code range},
+     * {@code length}, {@code number}, {@code boolean}, {@code json}, or the simple class name of a custom rule
+     *
+     * @return the rule name
+     */
+    public String getRule() {
+        return rule;
+    }
+
+    public Code getCode() {
+        return code;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return code + "(" + rule + ") " + path + ": " + message;
+    }
+}
@@ -0,0 +1,526 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.encode.NodeFactory;
+import cn.taskflow.jcv.exception.ValidationException;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * Immutable, precompiled form of one or more JSON schema trees.
+ * <p>
+ * The schema is compiled once into {@link PlanNode}s whose dispatch kind, constraints, required flags and
+ * paths are resolved ahead of time, so validation only walks the plan instead of re-interpreting the schema.
+ * A plan holds no per-call state and can be shared between threads.
+ * <p>
+ * 不可变的预编译验证计划：模式只编译一次，验证时仅遍历计划节点。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class ValidationPlan {
+    private final PlanNode[]     roots;
+    private final PlanNode[]     nodes;
+    private final ParallelArrays parallelArrays;
+    // Set on a plan which prunes undeclared fields while it validates a tree
+    private final FieldPruner    pruner;
+
+    private ValidationPlan(PlanNode[] roots, PlanNode[] nodes, ParallelArrays parallelArrays, FieldPruner pruner) {
+        this.roots = roots;
+        this.nodes = nodes;
+        this.parallelArrays = parallelArrays;
+        this.pruner = pruner;
+    }
+
+    /**
+     * Compiles the given schemas. Schemas must already be type adjusted and have their parent references refreshed.
+     *
+     * @param jsonSchemas the schemas to compile
+     * @return the compiled plan
+     */
+    public static ValidationPlan compile(List<JsonSchema> jsonSchemas) {
+        List<PlanNode> nodes = new ArrayList<>();
+        PlanNode[] roots = new PlanNode[jsonSchemas.size()];
+        for (int i = 0; i < roots.length; i++) {
+            roots[i] = PlanNode.compile(jsonSchemas.get(i), nodes);
+        }
+        return new ValidationPlan(roots, nodes.toArray(new PlanNode[0]), null, null);
+    }
+
+    /**
+     * Returns a plan sharing the compiled nodes of this one, which validates large arrays of a JsonNode tree in
+     * parallel. Token streams and object graphs are still validated sequentially.
+     *
+     * @param parallelArrays the parallel options, or null to validate every array sequentially
+     * @return the new plan
+     */
+    public ValidationPlan withParallelArrays(ParallelArrays parallelArrays) {
+        return new ValidationPlan(roots, nodes, parallelArrays, pruner);
+    }
+
+    /**
+     * Returns a plan with the same options as this one over other compiled nodes, such as the reordered nodes of
+     * {@link AdaptiveOrdering}
+     *
+     * @param roots the roots, one per schema
+     * @param nodes every node in pre-order
+     * @return the new plan
+     */
+    ValidationPlan withRoots(PlanNode[] roots, PlanNode[] nodes) {
+        return new ValidationPlan(roots, nodes, parallelArrays, pruner);
+    }
+
+    /**
+     * Returns a plan sharing the compiled nodes of this one, which removes the undeclared fields of every object
+     * as soon as the object has been validated, so a tree is validated and extracted in one traversal.
+     * Arrays are walked sequentially.
+     *
+     * @param pruner removes or filters the undeclared fields
+     * @return the new plan
+     */
+    ValidationPlan withPruner(FieldPruner pruner) {
+        return new ValidationPlan(roots, nodes, parallelArrays, pruner);
+    }
+
+    /**
+     * Gets the parallel array options of this plan
+     *
+     * @return the options, or null when arrays are validated sequentially
+     */
+    public ParallelArrays getParallelArrays() {
+        return parallelArrays;
+    }
+
+    /**
+     * Gets the compiled root of the first schema
+     *
+     * @return the first root node
+     */
+    public PlanNode getRoot() {
+        return roots[0];
+    }
+
+    /**
+     * Gets the compiled root of a schema
+     *
+     * @param index the position of the schema the plan was compiled from
+     * @return the root node
+     */
+    PlanNode getRoot(int index) {
+        return roots[index];
+    }
+
+    int getRootCount() {
+        return roots.length;
+    }
+
+    /**
+     * Gets every compiled node of the plan in pre-order
+     *
+     * @return flat, read-only node list
+     */
+    public List<PlanNode> getNodes() {
+        return Collections.unmodifiableList(Arrays.asList(nodes));
+    }
+
+    /**
+     * Validates a JsonNode against the first schema of the plan
+     *
+     * @param handler  handler used to report errors
+     * @param jsonNode the node to validate
+     */
+    public void validate(VerifyHandler handler, JsonNode jsonNode) {
+        validate(ErrorReporter.throwing(handler), jsonNode);
+    }
+
+    /**
+     * Validates the document read from a parser against the first schema of the plan, without building a tree.
+     * Reading stops at the first violation or once the root value is complete.
+     * 直接基于Token流验证文档，不构建JsonNode树
+     *
+     * @param handler handler used to report errors
+     * @param parser  parser positioned before the first token of the document
+     * @throws IOException if the input can not be read or is not valid JSON
+     */
+    public void validate(VerifyHandler handler, JsonParser parser) throws IOException {
+        validate(ErrorReporter.throwing(handler), parser);
+    }
+
+    /**
+     * Validates the values supplied by name against every schema of the plan
+     *
+     * @param handler      handler used to report errors
+     * @param dataSupplier function supplying the raw value of each top level schema
+     */
+    public void validate(VerifyHandler handler, Function<String, String> dataSupplier) {
+        validate(ErrorReporter.throwing(handler), dataSupplier);
+    }
+
+    boolean validate(ErrorReporter reporter, JsonNode jsonNode) {
+        PlanNode root = roots[0];
+        if (isNull(jsonNode)) {
+            return absent(reporter, root, jsonNode);
+        }
+        return check(reporter, root, jsonNode);
+    }
+
+    boolean validate(ErrorReporter reporter, JsonParser parser) throws IOException {
+        return validate(new StreamingValidator(this, reporter), parser);
+    }
+
+    /**
+     * Drives a (possibly reused) streaming validator over the document of a blocking parser
+     */
+    static boolean validate(StreamingValidator validator, JsonParser parser) throws IOException {
+        JsonToken token;
+        while (!validator.isComplete() && (token = parser.nextToken()) != null) {
+            validator.accept(token, parser);
+            if (validator.isSkipping()) {
+                parser.skipChildren();
+                validator.accept(parser.currentToken(), parser);
+            }
+        }
+        return validator.finish(parser);
+    }
+
+    /**
+     * Reads past the root value of a document the caller opened, which must be the end of the input.
+     * 自行打开的输入在根节点之后不允许再有内容
+     *
+     * @throws JsonParseException if another token follows the root value
+     */
+    static void requireEnd(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token != null) {
+            throw new JsonParseException(parser, "Unexpected content after the root value: " + token);
+        }
+    }
+
+    boolean validate(ErrorReporter reporter, Function<String, String> dataSupplier) {
+        if (dataSupplier == null) {
+            throw new IllegalArgumentException("request must be not null");
+        }
+        for (PlanNode root : roots) {
+            String value = dataSupplier.apply(root.name);
+            if (value == null) {
+                if (root.required && !reporter.missing(root)) {
+                    return false;
+                }
+                continue;
+            }
+            boolean proceed;
+            if (root.kind == PlanNode.Kind.OBJECT || root.kind == PlanNode.Kind.ARRAY) {
+                JsonNode jsonNode;
+                try {
+                    jsonNode = NodeFactory.parser(value);
+                } catch (Exception e) {
+                    jsonNode = null;
+                }
+                proceed = jsonNode == null ? reporter.typeMismatch(root) : check(reporter, root, jsonNode);
+            } else {
+                proceed = checkSimple(reporter, root, TextNode.valueOf(value));
+            }
+            if (!proceed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Handles an absent or null value: a required node is reported missing, otherwise its rules still run
+     *
+     * @return whether validation should go on
+     */
+    static boolean absent(ErrorReporter reporter, PlanNode node, JsonNode value) {
+        if (node.required) {
+            return reporter.missing(node);
+        }
+        return node.verify(reporter, value);
+    }
+
+    boolean check(ErrorReporter reporter, PlanNode node, JsonNode value) {
+        switch (node.kind) {
+            case OBJECT:
+                return checkObject(reporter, node, value);
+            case ARRAY:
+                return checkArray(reporter, node, value);
+            default:
+                return checkSimple(reporter, node, value);
+        }
+    }
+
+    private boolean checkObject(ErrorReporter reporter, PlanNode node, JsonNode value) {
+        if (!value.isObject()) {
+            return reporter.typeMismatch(node);
+        }
+        if (!node.verify(reporter, value)) {
+            return false;
+        }
+        for (PlanNode child : node.children) {
+            JsonNode childValue = value.get(child.name);
+            long start = child.stats == null ? 0 : child.stats.start();
+            boolean proceed = isNull(childValue) ? absent(reporter, child, childValue) : check(reporter, child,
+                childValue);
+            if (child.stats != null) {
+                child.stats.record(proceed, start);
+            }
+            if (!proceed) {
+                return false;
+            }
+        }
+        if (pruner != null && node.children.length > 0) {
+            pruner.prune((ObjectNode) value, node.fields);
+        }
+        return true;
+    }
+
+    private boolean checkArray(ErrorReporter reporter, PlanNode node, JsonNode value) {
+        if (!value.isArray()) {
+            return reporter.typeMismatch(node);
+        }
+        if (node.children.length == 0) {
+            return node.verify(reporter, value);
+        }
+        if (node.required && value.size() == 0) {
+            return reporter.emptyArray(node);
+        }
+        if (!node.verify(reporter, value)) {
+            return false;
+        }
+        PlanNode element = node.children[0];
+        int size = value.size();
+        int from = 0;
+        if (parallelArrays != null && pruner == null && size >= parallelArrays.getThreshold()) {
+            // Report from the first invalid element on, exactly like the sequential walk
+            from = parallelArrays.firstInvalid(this, element, value);
+            if (from < 0) {
+                return true;
+            }
+        }
+        for (int i = from; i < size; i++) {
+            if (!checkElement(reporter, element, value.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    boolean checkElement(ErrorReporter reporter, PlanNode element, JsonNode value) {
+        element.requireSupportedElement();
+        if (element.kind == PlanNode.Kind.OBJECT) {
+            return checkObject(reporter, element, value);
+        }
+        return checkSimple(reporter, element, value);
+    }
+
+    boolean checkSimple(ErrorReporter reporter, PlanNode node, JsonNode value) {
+        if (value.isObject() || value.isArray()) {
+            return reporter.typeMismatch(node);
+        }
+        int state;
+        switch (node.kind) {
+            case NUMBER:
+                state = checkNumber(node, value);
+                break;
+            case STRING:
+                state = checkString(node, NodeFactory.toString(value));
+                break;
+            case BOOLEAN:
+                state = checkBoolean(node, NodeFactory.toString(value));
+                break;
+            default:
+                throw new ValidationException("Unsupported type: " + node.schema.getDataType(), node.path);
+        }
+        return report(reporter, node, value, state);
+    }
+
+    /**
+     * Checks a number token straight from the parser, without building a value node. Only for nodes without
+     * custom rules, which would need the node value.
+     *
+     * @param reporter receives a violation
+     * @param node     a number node without rules
+     * @param parser   the parser positioned on a VALUE_NUMBER_INT or VALUE_NUMBER_FLOAT token
+     * @return whether validation should go on
+     * @throws IOException if the number can not be read
+     */
+    boolean checkNumber(ErrorReporter reporter, PlanNode node, JsonParser parser) throws IOException {
+        int state;
+        switch (parser.getNumberType()) {
+            case INT:
+            case LONG:
+                state = node.range.contains(parser.getLongValue()) ? VALID : OUT_OF_RANGE;
+                break;
+            case BIG_INTEGER:
+                state = node.range.contains(parser.getBigIntegerValue()) ? VALID : OUT_OF_RANGE;
+                break;
+            case BIG_DECIMAL:
+                state = node.range.contains(parser.getDecimalValue()) ? VALID : OUT_OF_RANGE;
+                break;
+            default:
+                state = checkDouble(node, parser.getDoubleValue());
+        }
+        return report(reporter, node, null, state);
+    }
+
+    /**
+     * Checks a string token against the enum of a node straight from the text buffer of the parser, without
+     * creating a string or a value node. Only for nodes with {@link PlanNode#enumRule}.
+     *
+     * @param reporter receives a violation
+     * @param node     a string node whose only rule is an enum
+     * @param parser   the parser positioned on a VALUE_STRING token
+     * @return whether validation should go on
+     * @throws IOException if the text can not be read
+     */
+    boolean checkEnum(ErrorReporter reporter, PlanNode node, JsonParser parser) throws IOException {
+        int length = parser.getTextLength();
+        if ((node.min != null && node.min.intValue() > length) || (node.max != null && node.max.intValue() < length)) {
+            return reporter.outOfRange(node);
+        }
+        if (node.enumRule.matches(parser.getTextCharacters(), parser.getTextOffset(), length)) {
+            return true;
+        }
+        return reporter.ruleFailed(node, node.enumRule, null);
+    }
+
+    /**
+     * Checks a Java number of a plain Java value, without building a value node. Only for nodes without custom
+     * rules, which would need the node value.
+     *
+     * @param reporter receives a violation
+     * @param node     a number node without rules
+     * @param value    an Integer, Long, Short or Byte, or a finite Double
+     * @return whether validation should go on
+     */
+    boolean checkNumber(ErrorReporter reporter, PlanNode node, Number value) {
+        boolean valid = value instanceof Double ? node.range.contains(value.doubleValue()) : node.range.contains(value
+            .longValue());
+        return report(reporter, node, null, valid ? VALID : OUT_OF_RANGE);
+    }
+
+    private static boolean report(ErrorReporter reporter, PlanNode node, JsonNode value, int state) {
+        switch (state) {
+            case VALID:
+                return node.verify(reporter, value);
+            case MISSING:
+                return reporter.missingValue(node);
+            case OUT_OF_RANGE:
+                return reporter.outOfRange(node);
+            default:
+                return reporter.invalidFormat(node);
+        }
+    }
+
+    // Outcome of a primitive check
+    private static final int VALID          = 0;
+    private static final int MISSING        = 1;
+    private static final int OUT_OF_RANGE   = 2;
+    private static final int INVALID_FORMAT = 3;
+
+    /**
+     * Checks a number value on the lane matching its type: long and double values are compared with the
+     * pre-unboxed bounds, BigDecimal values with the decimal bounds. Numeric text is parsed with the same lanes,
+     * exponent forms such as {@code 1e5} included.
+     */
+    private static int checkNumber(PlanNode node, JsonNode value) {
+        if (value.isNull()) {
+            return node.required ? MISSING : VALID;
+        }
+        NumberRange range = node.range;
+        if (value.isNumber()) {
+            if (value.isIntegralNumber() && value.canConvertToLong()) {
+                return range.contains(value.longValue()) ? VALID : OUT_OF_RANGE;
+            } else if (value.isBigInteger()) {
+                return range.contains(value.bigIntegerValue()) ? VALID : OUT_OF_RANGE;
+            } else if (value.isBigDecimal()) {
+                return range.contains(value.decimalValue()) ? VALID : OUT_OF_RANGE;
+            } else if (value.isDouble()) {
+                return checkDouble(node, value.doubleValue());
+            }
+        }
+        String text = value.isTextual() ? value.textValue() : NodeFactory.toString(value);
+        return text == null ? (node.required ? MISSING : VALID) : checkNumber(node, text);
+    }
+
+    private static int checkNumber(PlanNode node, String text) {
+        if (text.indexOf('.') < 0 && text.indexOf('e') < 0 && text.indexOf('E') < 0) {
+            try {
+                return node.range.contains(Long.parseLong(text)) ? VALID : OUT_OF_RANGE;
+            } catch (NumberFormatException e) {
+                // Integers beyond the long range fall through to the decimal lane
+            }
+            try {
+                return node.range.contains(new BigDecimal(text)) ? VALID : OUT_OF_RANGE;
+            } catch (NumberFormatException e) {
+                return INVALID_FORMAT;
+            }
+        }
+        try {
+            return checkDouble(node, Double.parseDouble(text));
+        } catch (NumberFormatException e) {
+            return INVALID_FORMAT;
+        }
+    }
+
+    private static int checkDouble(PlanNode node, double value) {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            return INVALID_FORMAT;
+        }
+        return node.range.contains(value) ? VALID : OUT_OF_RANGE;
+    }
+
+    private static int checkString(PlanNode node, String text) {
+        if (text == null) {
+            return node.required ? MISSING : VALID;
+        }
+        if ((node.min != null && node.min.intValue() > text.length())
+            || (node.max != null && node.max.intValue() < text.length())) {
+            return OUT_OF_RANGE;
+        }
+        return VALID;
+    }
+
+    private static int checkBoolean(PlanNode node, String text) {
+        if (text == null) {
+            return node.required ? MISSING : VALID;
+        }
+        if (!"true".equals(text) && !"false".equals(text) && !"1".equals(text) && !"0".equals(text)) {
+            return INVALID_FORMAT;
+        }
+        return VALID;
+    }
+
+    static boolean isNull(JsonNode jsonNode) {
+        return jsonNode == null || jsonNode.isNull() || jsonNode.isMissingNode();
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Outcome of {@link Validator#check}: the violations found in one document, without any exception being thrown.
+ * At most {@link #getMaxErrors()} errors are collected, validation stops once the limit is reached.
+ * <p>
+ * 非抛出式验证结果：收集一次验证中的全部错误（数量有上限），验证过程不创建异常。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public final class ValidationResult {
+    /**
+     * Default limit of collected errors
+     */
+    public static final int             DEFAULT_MAX_ERRORS = 20;
+    private final int                   maxErrors;
+    private final List<ValidationError> errors             = new ArrayList<>(2);
+
+    public ValidationResult(int maxErrors) {
+        if (maxErrors < 1) {
+            throw new IllegalArgumentException("maxErrors must be greater than 0");
+        }
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Records an error
+     *
+     * @param error the violation
+     * @return false once the limit is reached and validation should stop
+     */
+    boolean add(ValidationError error) {
+        errors.add(error);
+        return errors.size() < maxErrors;
+    }
+
+    public boolean isValid() {
+        return errors.isEmpty();
+    }
+
+    /**
+     * Gets the collected errors in the order they were found. A tree is walked in schema order, while a token
+     * stream is checked in document order and reports missing members when their object ends.
+     *
+     * @return read-only error list, empty when the document is valid
+     */
+    public List<ValidationError> getErrors() {
+        return Collections.unmodifiableList(errors);
+    }
+
+    /**
+     * Gets the first error, which is the one the throwing API reports
+     *
+     * @return the first error, or null when the document is valid
+     */
+    public ValidationError getFirstError() {
+        return errors.isEmpty() ? null : errors.get(0);
+    }
+
+    public int getMaxErrors() {
+        return maxErrors;
+    }
+
+    /**
+     * Whether collection stopped at the error limit, further violations may exist
+     *
+     * @return true if the limit was reached
+     */
+    public boolean isTruncated() {
+        return errors.size() >= maxErrors;
+    }
+
+    @Override
+    public String toString() {
+        return isValid() ? "valid" : errors.toString();
+    }
+}
@@ -22,22 +22,48 @@ import cn.taskflow.jcv.exception.ValidationException;
 import cn.taskflow.jcv.extension.JsonSchemaTypeAdjuster;
 import cn.taskflow.jcv.extension.JsonSchemaParentRefresher;
 import cn.taskflow.jcv.extension.UnknownNodeFilter;
+import cn.taskflow.jcv.utils.AsyncExecutors;
 import cn.taskflow.jcv.utils.JsvUtils;
 import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.node.JsonNodeFactory;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import cn.taskflow.jcv.datatype.NumberParser;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Function;
 
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 
 /**
  * Main validator class for JSON schema validation
  */
 public class Validator {
+    /**
+     * Default maximum number of asynchronous validations running at the same time, shared by all validators
+     * using the default executor
+     */
+    public static final int       DEFAULT_ASYNC_CONCURRENCY = Runtime.getRuntime().availableProcessors() * 2;
+    // One limit for the whole process: bounding per validator would multiply it by the number of schemas
+    private static final Executor DEFAULT_ASYNC_EXECUTOR    = AsyncExecutors.bounded(AsyncExecutors.defaultExecutor(),
+                                                                DEFAULT_ASYNC_CONCURRENCY);
     private AbstractDataValidator dataValidator;
+    private Executor              asyncExecutor             = DEFAULT_ASYNC_EXECUTOR;
+    private volatile boolean      readOnly;
+
+    /**
+     * The executor of the asynchronous methods
+     */
+    Executor getAsyncExecutor() {
+        return asyncExecutor;
+    }
 
     /**
      * Sets a filter for handling unknown nodes during validation
@@ -46,10 +72,124 @@ public class Validator {
      * @return This validator instance
      */
     public Validator setUnknownNodeFilter(UnknownNodeFilter filter) {
+        checkNotReadOnly();
         this.dataValidator.setUnknownNodeFilter(filter);
         return this;
     }
 
+    /**
+     * Sets the maximum number of errors collected by {@link #check(JsonNode)} and its overloads
+     *
+     * @param maxErrors The error limit, greater than 0
+     * @return This validator instance
+     */
+    public Validator setMaxErrors(int maxErrors) {
+        checkNotReadOnly();
+        this.dataValidator.setMaxErrors(maxErrors);
+        return this;
+    }
+
+    /**
+     * Validates arrays of at least {@code threshold} elements in parallel on the common ForkJoinPool.
+     * Only JsonNode trees are split, the reported errors stay those of sequential validation.
+     *
+     * @param threshold The minimum array size validated in parallel
+     * @return This validator instance
+     */
+    public Validator setParallelArrays(int threshold) {
+        checkNotReadOnly();
+        this.dataValidator.setParallelArrays(ParallelArrays.of(threshold));
+        return this;
+    }
+
+    /**
+     * Validates arrays of at least {@code threshold} elements in parallel on the given executor
+     *
+     * @param threshold The minimum array size validated in parallel
+     * @param executor  The executor running the array chunks
+     * @return This validator instance
+     */
+    public Validator setParallelArrays(int threshold, Executor executor) {
+        checkNotReadOnly();
+        this.dataValidator.setParallelArrays(ParallelArrays.of(threshold, executor));
+        return this;
+    }
+
+    /**
+     * Orders the checks of the fail-fast methods ({@link #isValid(JsonNode)} and its overloads) by how often and
+     * how cheaply they fail, so invalid values are rejected without walking the whole schema. Failure rates and
+     * check costs are counted with striped counters while validating, and a reordered plan is republished about
+     * once every {@code interval} validations. The throwing and collecting methods keep declaration order and
+     * report exactly the same errors.
+     *
+     * @param interval The average number of validations between two republished orders, 0 to turn ordering off
+     * @return This validator instance
+     */
+    public Validator setAdaptiveOrdering(int interval) {
+        checkNotReadOnly();
+        this.dataValidator.setAdaptiveOrdering(interval);
+        return this;
+    }
+
+    /**
+     * Sets the executor of the asynchronous methods, without limiting its concurrency.
+     * The default runs on virtual threads on Java 21+ (on the common ForkJoinPool before), at most
+     * {@link #DEFAULT_ASYNC_CONCURRENCY} validations at a time across all validators using it.
+     *
+     * @param executor The executor running asynchronous validations
+     * @return This validator instance
+     */
+    public Validator setAsyncExecutor(Executor executor) {
+        checkNotReadOnly();
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must be not null");
+        }
+        this.asyncExecutor = executor;
+        return this;
+    }
+
+    /**
+     * Sets the executor of the asynchronous methods and the maximum number of validations running at the same
+     * time; further validations wait in a queue without blocking the caller. The limit applies to this validator
+     * only.
+     *
+     * @param executor       The executor running asynchronous validations
+     * @param maxConcurrency The concurrency limit
+     * @return This validator instance
+     */
+    public Validator setAsyncExecutor(Executor executor, int maxConcurrency) {
+        checkNotReadOnly();
+        this.asyncExecutor = AsyncExecutors.bounded(executor, maxConcurrency);
+        return this;
+    }
+
+    /**
+     * Makes the settings of this validator final, so it can be shared with callers that must not reconfigure it
+     * (e.g. the validators of a {@link cn.taskflow.jcv.registry.SchemaRegistry}). The setters then throw
+     * {@link IllegalStateException}; validation is unaffected.
+     *
+     * @return This validator instance
+     */
+    public Validator readOnly() {
+        this.readOnly = true;
+        return this;
+    }
+
+    /**
+     * Whether the settings of this validator can no longer change, see {@link #readOnly()}
+     *
+     * @return true once {@link #readOnly()} was called
+     */
+    public boolean isReadOnly() {
+        return readOnly;
+    }
+
+    private void checkNotReadOnly() {
+        if (readOnly) {
+            throw new IllegalStateException("Read-only validator cannot be reconfigured");
+        }
+    }
+
     /**
      * Creates a validator from JSON schemas using default verify handler
      *
@@ -73,6 +213,34 @@ public class Validator {
         return validator;
     }
 
+    /**
+     * Gets the validation plan compiled from the schemas of this validator
+     *
+     * @return The immutable validation plan
+     */
+    public ValidationPlan getPlan() {
+        return dataValidator.getPlan();
+    }
+
+    /**
+     * Gets the plan currently used by the fail-fast methods, see {@link #setAdaptiveOrdering(int)}
+     *
+     * @return The reordered plan, or the declaration order plan when adaptive ordering is off
+     */
+    public ValidationPlan getFailFastPlan() {
+        return dataValidator.getFailFastPlan();
+    }
+
+    /**
+     * Creates a push based validator for one document, fed token by token (e.g. from a non-blocking parser).
+     * 创建逐个Token推送的单文档验证器，违规时按本验证器的处理器抛出异常
+     *
+     * @return A new streaming validator, not thread safe
+     */
+    public StreamingValidator newStreamingValidator() {
+        return new StreamingValidator(getPlan(), dataValidator.getVerifyHandler());
+    }
+
     /**
      * Validates data supplied by a function
      *
@@ -117,7 +285,95 @@ public class Validator {
     }
 
     /**
-     * Validates an object by converting it to JSON first
+     * Validates a JSON stream token by token, without building a JsonNode tree.
+     * Memory grows with the nesting depth instead of the document size, and reading stops at the first violation.
+     * The stream is closed once validation ends.
+     *
+     * @param in The JSON input stream to validate
+     * @return This validator instance
+     */
+    public Validator validate(InputStream in) {
+        try (JsonParser parser = NodeFactory.createParser(in)) {
+            dataValidator.validate(parser);
+            ValidationPlan.requireEnd(parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Validates JSON bytes token by token, without building a JsonNode tree
+     *
+     * @param json The JSON bytes to validate
+     * @return This validator instance
+     */
+    public Validator validate(byte[] json) {
+        try (JsonParser parser = NodeFactory.createParser(json)) {
+            dataValidator.validate(parser);
+            ValidationPlan.requireEnd(parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Validates JSON characters token by token, without building a JsonNode tree.
+     * The reader is closed once validation ends.
+     *
+     * @param reader The JSON reader to validate
+     * @return This validator instance
+     */
+    public Validator validate(Reader reader) {
+        try (JsonParser parser = NodeFactory.createParser(reader)) {
+            dataValidator.validate(parser);
+            ValidationPlan.requireEnd(parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return this;
+    }
+
+    /**
+     * Validates the tokens read from a parser, without building a JsonNode tree.
+     * Reading stops at the first violation or once the root value is complete; the parser is not closed.
+     *
+     * @param parser Parser positioned before the document
+     * @return This validator instance
+     */
+    public Validator validate(JsonParser parser) {
+        try {
+            dataValidator.validate(parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+        return this;
+    }
+
+    private ValidationResult requireEnd(ValidationResult result, JsonParser parser) throws IOException {
+        // A document with violations may have stopped inside the root value
+        if (result.isValid()) {
+            try {
+                ValidationPlan.requireEnd(parser);
+            } catch (JsonProcessingException e) {
+                result.add(ValidationError.malformed(getPlan().getRoot(), e));
+            }
+        }
+        return result;
+    }
+
+    private static boolean atEnd(JsonParser parser) throws IOException {
+        try {
+            return parser.nextToken() == null;
+        } catch (JsonProcessingException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Validates an object graph directly against the schema, without serializing it to JSON first.
+     * Property names follow the camel case naming strategy.
      *
      * @param obj The object to validate
      * @return This validator instance
@@ -126,11 +382,263 @@ public class Validator {
         return this.validate(obj, true);
     }
 
+    /**
+     * Validates an object graph directly against the schema, without serializing it to JSON first.
+     * Property names follow the camel case or snake case naming strategy.
+     *
+     * @param obj       The object to validate
+     * @param camelCase true for camel case property names, false for snake case
+     * @return This validator instance
+     */
     public Validator validate(Object obj, boolean camelCase) {
-        dataValidator.validate(NodeFactory.getJsonNodeConverter(camelCase).convert(obj));
+        dataValidator.validate(obj, NodeFactory.getJsonNodeConverter(camelCase));
         return this;
     }
 
+    /**
+     * Validates a JsonNode and collects the violations instead of throwing.
+     * No exception is created for a violation, so rejecting invalid input costs about as much as accepting it.
+     *
+     * @param jsonNode The node to validate
+     * @return The validation result, holding at most the configured number of errors
+     */
+    public ValidationResult check(JsonNode jsonNode) {
+        return dataValidator.check(jsonNode);
+    }
+
+    /**
+     * Validates a JSON string token by token and collects the violations instead of throwing.
+     * Malformed JSON is reported as a {@link ValidationError.Code#MALFORMED_JSON} error.
+     *
+     * @param json The JSON string to validate
+     * @return The validation result
+     */
+    public ValidationResult check(String json) {
+        try (JsonParser parser = NodeFactory.createParser(json)) {
+            return requireEnd(dataValidator.check(parser), parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Validates JSON bytes token by token and collects the violations instead of throwing
+     *
+     * @param json The JSON bytes to validate
+     * @return The validation result
+     */
+    public ValidationResult check(byte[] json) {
+        try (JsonParser parser = NodeFactory.createParser(json)) {
+            return requireEnd(dataValidator.check(parser), parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Validates a JSON stream token by token and collects the violations instead of throwing.
+     * The stream is closed once validation ends.
+     *
+     * @param in The JSON input stream to validate
+     * @return The validation result
+     */
+    public ValidationResult check(InputStream in) {
+        try (JsonParser parser = NodeFactory.createParser(in)) {
+            return requireEnd(dataValidator.check(parser), parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Validates an object graph with camel case property names and collects the violations instead of throwing
+     *
+     * @param obj The object to validate
+     * @return The validation result
+     */
+    public ValidationResult check(Object obj) {
+        return this.check(obj, true);
+    }
+
+    /**
+     * Validates an object graph and collects the violations instead of throwing
+     *
+     * @param obj       The object to validate
+     * @param camelCase true for camel case property names, false for snake case
+     * @return The validation result
+     */
+    public ValidationResult check(Object obj, boolean camelCase) {
+        return dataValidator.check(obj, NodeFactory.getJsonNodeConverter(camelCase));
+    }
+
+    /**
+     * Checks whether a JsonNode is valid. Stops at the first violation and neither throws nor records it.
+     *
+     * @param jsonNode The node to validate
+     * @return true if the node satisfies the schema
+     */
+    public boolean isValid(JsonNode jsonNode) {
+        return dataValidator.isValid(jsonNode);
+    }
+
+    /**
+     * Checks whether a JSON string is valid, reading tokens only up to the first violation.
+     * Malformed JSON is invalid.
+     *
+     * @param json The JSON string to validate
+     * @return true if the document satisfies the schema
+     */
+    public boolean isValid(String json) {
+        try (JsonParser parser = NodeFactory.createParser(json)) {
+            return dataValidator.isValid(parser) && atEnd(parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Checks whether JSON bytes are valid, reading tokens only up to the first violation
+     *
+     * @param json The JSON bytes to validate
+     * @return true if the document satisfies the schema
+     */
+    public boolean isValid(byte[] json) {
+        try (JsonParser parser = NodeFactory.createParser(json)) {
+            return dataValidator.isValid(parser) && atEnd(parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Checks whether a JSON stream is valid, reading tokens only up to the first violation.
+     * The stream is closed once validation ends.
+     *
+     * @param in The JSON input stream to validate
+     * @return true if the document satisfies the schema
+     */
+    public boolean isValid(InputStream in) {
+        try (JsonParser parser = NodeFactory.createParser(in)) {
+            return dataValidator.isValid(parser) && atEnd(parser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
+    /**
+     * Checks whether an object graph with camel case property names is valid
+     *
+     * @param obj The object to validate
+     * @return true if the object satisfies the schema
+     */
+    public boolean isValid(Object obj) {
+        return this.isValid(obj, true);
+    }
+
+    /**
+     * Checks whether an object graph is valid
+     *
+     * @param obj       The object to validate
+     * @param camelCase true for camel case property names, false for snake case
+     * @return true if the object satisfies the schema
+     */
+    public boolean isValid(Object obj, boolean camelCase) {
+        return dataValidator.isValid(obj, NodeFactory.getJsonNodeConverter(camelCase));
+    }
+
+    /**
+     * Validates a JSON string on the async executor. Violations complete the future normally with an invalid
+     * result, see {@link #check(String)}.
+     *
+     * @param json The JSON string to validate
+     * @return Future of the validation result
+     */
+    public CompletableFuture<ValidationResult> validateAsync(String json) {
+        return CompletableFuture.supplyAsync(() -> check(json), asyncExecutor);
+    }
+
+    /**
+     * Validates JSON bytes on the async executor
+     *
+     * @param json The JSON bytes to validate
+     * @return Future of the validation result
+     */
+    public CompletableFuture<ValidationResult> validateAsync(byte[] json) {
+        return CompletableFuture.supplyAsync(() -> check(json), asyncExecutor);
+    }
+
+    /**
+     * Reads and validates a JSON stream on the async executor, the stream is closed once validation ends
+     *
+     * @param in The JSON input stream to validate
+     * @return Future of the validation result
+     */
+    public CompletableFuture<ValidationResult> validateAsync(InputStream in) {
+        return CompletableFuture.supplyAsync(() -> check(in), asyncExecutor);
+    }
+
+    /**
+     * Validates a JsonNode on the async executor
+     *
+     * @param jsonNode The node to validate
+     * @return Future of the validation result
+     */
+    public CompletableFuture<ValidationResult> validateAsync(JsonNode jsonNode) {
+        return CompletableFuture.supplyAsync(() -> check(jsonNode), asyncExecutor);
+    }
+
+    /**
+     * Validates an object graph with camel case property names on the async executor
+     *
+     * @param obj The object to validate
+     * @return Future of the validation result
+     */
+    public CompletableFuture<ValidationResult> validateAsync(Object obj) {
+        return CompletableFuture.supplyAsync(() -> check(obj), asyncExecutor);
+    }
+
+    /**
+     * Parses, validates and extracts a JSON string on the async executor. The future completes exceptionally
+     * with the {@link ValidationException} {@link #validate(JsonNode)} would throw.
+     *
+     * @param json The JSON string to extract from
+     * @return Future of the extracted data
+     */
+    public CompletableFuture<Map<String, Object>> extractAsync(String json) {
+        return CompletableFuture.supplyAsync(() -> validateAndExtract(json), asyncExecutor);
+    }
+
+    /**
+     * Validates and extracts a JsonNode on the async executor
+     *
+     * @param jsonNode The JsonNode to extract from
+     * @return Future of the extracted data
+     */
+    public CompletableFuture<Map<String, Object>> extractAsync(JsonNode jsonNode) {
+        return CompletableFuture.supplyAsync(() -> validateAndExtract(jsonNode), asyncExecutor);
+    }
+
+    /**
+     * Creates a batch validator sharing this validator's compiled schema, running on the common ForkJoinPool with
+     * one worker per available processor
+     *
+     * @return A new batch validator
+     */
+    public BatchValidator batch() {
+        return batch(ForkJoinPool.commonPool(), Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a batch validator sharing this validator's compiled schema
+     *
+     * @param executor The executor running the chunks of records
+     * @param workers  The maximum number of chunks validated at the same time
+     * @return A new batch validator
+     */
+    public BatchValidator batch(Executor executor, int workers) {
+        return new BatchValidator(dataValidator, executor, workers, BatchValidator.DEFAULT_CHUNK_SIZE);
+    }
+
     /**
      * Extracts data from a JsonNode into a map
      *
@@ -167,6 +675,61 @@ public class Validator {
         return dataValidator.extract(jsonNode);
     }
 
+    /**
+     * Extracts data from a JsonNode like {@link #extract(JsonNode)}, but leaves the node untouched. The result
+     * shares every unchanged subtree with the input and copies only the objects which lose fields, so no defensive
+     * {@code deepCopy()} is needed to keep the original.
+     *
+     * @param jsonNode The JsonNode to extract from
+     * @return Map of extracted data
+     */
+    public Map<String, Object> project(JsonNode jsonNode) {
+        return dataValidator.project(jsonNode);
+    }
+
+    /**
+     * Validates a JsonNode and extracts the declared fields in a single traversal, equivalent to
+     * {@code validate(jsonNode).extract(jsonNode)}. Undeclared fields are removed from the node in place.
+     *
+     * @param jsonNode The JsonNode to validate and extract from
+     * @return Map of extracted data
+     */
+    public Map<String, Object> validateAndExtract(JsonNode jsonNode) {
+        return dataValidator.validateAndExtract(jsonNode);
+    }
+
+    /**
+     * Parses a JSON string once, then validates and extracts it in a single traversal
+     *
+     * @param json The JSON string to validate and extract from
+     * @return Map of extracted data
+     */
+    public Map<String, Object> validateAndExtract(String json) {
+        return dataValidator.validateAndExtract(NodeFactory.parser(json));
+    }
+
+    /**
+     * Parses JSON bytes once, without decoding them to a String, then validates and extracts them in a single
+     * traversal
+     *
+     * @param json The JSON bytes to validate and extract from
+     * @return Map of extracted data
+     */
+    public Map<String, Object> validateAndExtract(byte[] json) {
+        return dataValidator.validateAndExtract(NodeFactory.parser(json));
+    }
+
+    /**
+     * Parses a JSON stream once, then validates and extracts it in a single traversal. The stream is closed once
+     * it has been read.
+     *
+     * @param in The JSON input stream to validate and extract from
+     * @return Map of extracted data
+     */
+    public Map<String, Object> validateAndExtract(InputStream in) {
+        return dataValidator.validateAndExtract(NodeFactory.parser(in));
+    }
+
     /**
      * Abstract class for data validation implementation
      */
@@ -183,8 +746,11 @@ public class Validator {
             this.filter = filter;
         }
 
-        public List<JsonSchema>     jsonSchemas;
-        private DataStructValidator dataStructValidator = DataStructValidator.getInstance(this);
+        public List<JsonSchema>           jsonSchemas;
+        private ValidationPlan            plan;
+        private volatile AdaptiveOrdering adaptive;
+        private final ErrorReporter       reporter;
+        private int                       maxErrors = ValidationResult.DEFAULT_MAX_ERRORS;
 
         /**
          * Constructor for AbstractDataValidator
@@ -197,6 +763,79 @@ public class Validator {
             JsonSchemaTypeAdjuster.adjust(jsonSchemas);
             JsonSchemaParentRefresher.refreshParentReference(jsonSchemas);
             this.verifyHandler = verifyHandler;
+            this.plan = ValidationPlan.compile(jsonSchemas);
+            this.reporter = ErrorReporter.throwing(verifyHandler);
+        }
+
+        public int getMaxErrors() {
+            return maxErrors;
+        }
+
+        public VerifyHandler getVerifyHandler() {
+            return verifyHandler;
+        }
+
+        /**
+         * Sets the parallel array options of the validation plan
+         *
+         * @param parallelArrays The options, or null to validate arrays sequentially
+         */
+        public void setParallelArrays(ParallelArrays parallelArrays) {
+            this.plan = plan.withParallelArrays(parallelArrays);
+            if (adaptive != null) {
+                this.adaptive = new AdaptiveOrdering(plan, adaptive.getInterval());
+            }
+        }
+
+        /**
+         * Orders the checks of the fail-fast methods by their observed failure rate and cost
+         *
+         * @param interval The average number of validations between two republished orders, 0 to turn ordering off
+         */
+        public void setAdaptiveOrdering(int interval) {
+            if (interval < 0) {
+                throw new IllegalArgumentException("interval must not be negative");
+            }
+            this.adaptive = interval == 0 ? null : new AdaptiveOrdering(plan, interval);
+        }
+
+        /**
+         * Sets the maximum number of errors collected by the check methods
+         *
+         * @param maxErrors The error limit, greater than 0
+         */
+        public void setMaxErrors(int maxErrors) {
+            if (maxErrors < 1) {
+                throw new IllegalArgumentException("maxErrors must be greater than 0");
+            }
+            this.maxErrors = maxErrors;
+        }
+
+        /**
+         * Gets the compiled validation plan of the schemas
+         *
+         * @return The immutable validation plan
+         */
+        public ValidationPlan getPlan() {
+            return plan;
+        }
+
+        /**
+         * Gets the plan currently used by the fail-fast methods
+         *
+         * @return The reordered plan, or the declaration order plan when adaptive ordering is off
+         */
+        public ValidationPlan getFailFastPlan() {
+            AdaptiveOrdering adaptive = this.adaptive;
+            return adaptive == null ? plan : adaptive.getPlan();
+        }
+
+        /**
+         * Gets the plan for the next fail-fast validation, counting the validation when ordering is adaptive
+         */
+        private ValidationPlan nextFailFastPlan() {
+            AdaptiveOrdering adaptive = this.adaptive;
+            return adaptive == null ? plan : adaptive.next();
         }
 
         /**
@@ -206,10 +845,114 @@ public class Validator {
          * @return This validator instance
          */
         public AbstractDataValidator validate(JsonNode jsonNode) {
-            dataStructValidator.validate(jsonSchemas.get(0), jsonNode);
+            plan.validate(reporter, jsonNode);
+            return this;
+        }
+
+        /**
+         * Validates an object graph against the first schema by walking beans, Maps and Collections directly
+         *
+         * @param obj       Object to validate
+         * @param converter Converter whose naming strategy names the properties, and which converts values
+         *                  Jackson serializes specially
+         * @return This validator instance
+         */
+        public AbstractDataValidator validate(Object obj, JsonNodeConverter converter) {
+            new ObjectGraphValidator(plan, reporter, converter).validate(obj);
+            return this;
+        }
+
+        /**
+         * Validates the tokens of a parser against the first schema, without building a JsonNode tree
+         *
+         * @param parser Parser positioned before the document
+         * @return This validator instance
+         * @throws IOException if the input can not be read or is not valid JSON
+         */
+        public AbstractDataValidator validate(JsonParser parser) throws IOException {
+            plan.validate(reporter, parser);
             return this;
         }
 
+        /**
+         * Validates a JsonNode and collects the violations without throwing
+         *
+         * @param jsonNode Node to validate
+         * @return The validation result
+         */
+        public ValidationResult check(JsonNode jsonNode) {
+            ValidationResult result = new ValidationResult(maxErrors);
+            plan.validate(ErrorReporter.collecting(verifyHandler, result), jsonNode);
+            return result;
+        }
+
+        /**
+         * Validates the tokens of a parser and collects the violations without throwing.
+         * Malformed JSON ends validation with a {@link ValidationError.Code#MALFORMED_JSON} error.
+         *
+         * @param parser Parser positioned before the document
+         * @return The validation result
+         * @throws IOException if the input can not be read
+         */
+        public ValidationResult check(JsonParser parser) throws IOException {
+            ValidationResult result = new ValidationResult(maxErrors);
+            try {
+                plan.validate(ErrorReporter.collecting(verifyHandler, result), parser);
+            } catch (JsonProcessingException e) {
+                result.add(ValidationError.malformed(plan.getRoot(), e));
+            }
+            return result;
+        }
+
+        /**
+         * Validates an object graph and collects the violations without throwing
+         *
+         * @param obj       Object to validate
+         * @param converter Converter naming the properties
+         * @return The validation result
+         */
+        public ValidationResult check(Object obj, JsonNodeConverter converter) {
+            ValidationResult result = new ValidationResult(maxErrors);
+            new ObjectGraphValidator(plan, ErrorReporter.collecting(verifyHandler, result), converter).validate(obj);
+            return result;
+        }
+
+        /**
+         * Checks whether a JsonNode is valid, stopping at the first violation
+         *
+         * @param jsonNode Node to validate
+         * @return true if the node satisfies the schema
+         */
+        public boolean isValid(JsonNode jsonNode) {
+            return nextFailFastPlan().validate(ErrorReporter.FAIL_FAST, jsonNode);
+        }
+
+        /**
+         * Checks whether the tokens of a parser form a valid document, stopping at the first violation
+         *
+         * @param parser Parser positioned before the document
+         * @return true if the document is well-formed and satisfies the schema
+         * @throws IOException if the input can not be read
+         */
+        public boolean isValid(JsonParser parser) throws IOException {
+            try {
+                return nextFailFastPlan().validate(ErrorReporter.FAIL_FAST, parser);
+            } catch (JsonProcessingException e) {
+                return false;
+            }
+        }
+
+        /**
+         * Checks whether an object graph is valid, stopping at the first violation
+         *
+         * @param obj       Object to validate
+         * @param converter Converter naming the properties
+         * @return true if the object satisfies the schema
+         */
+        public boolean isValid(Object obj, JsonNodeConverter converter) {
+            return new ObjectGraphValidator(nextFailFastPlan(), ErrorReporter.FAIL_FAST, converter).validate(obj);
+        }
+
         /**
          * Extracts data from a JsonNode according to schema
          *
@@ -217,10 +960,43 @@ public class Validator {
          * @return Map of extracted data
          */
         public Map<String, Object> extract(JsonNode jsonNode) {
-            JsonSchema jsonSchema = jsonSchemas.get(0);
-            object(jsonNode, jsonSchema);
+            object(jsonNode, plan.getRoot());
+            return toMap(jsonNode);
+        }
+
+        /**
+         * Extracts data from a JsonNode without modifying it. Unchanged subtrees are shared with the input, only
+         * objects which lose fields and their enclosing containers are copied.
+         * 不修改输入节点的提取：未变化的子树与输入共享，只复制丢失字段的对象及其上层容器。
+         *
+         * @param jsonNode Node to extract from, left untouched
+         * @return Map of extracted data
+         */
+        public Map<String, Object> project(JsonNode jsonNode) {
+            return toMap(new TreeProjector(verifyHandler, filter).object(jsonNode, plan.getRoot()));
+        }
+
+        /**
+         * Validates a JsonNode and removes the fields not declared by the schema in the same traversal: each
+         * object is pruned right after its declared fields have been validated. The node is modified in place;
+         * when validation fails it may be partially pruned.
+         * 单次遍历完成验证与提取：每个对象的声明字段验证通过后立即删除未声明的字段。
+         *
+         * @param jsonNode Node to validate and prune
+         * @return Map of extracted data
+         */
+        public Map<String, Object> validateAndExtract(JsonNode jsonNode) {
+            plan.withPruner(FieldPruner.of(filter)).validate(reporter, jsonNode);
+            PlanNode root = plan.getRoot();
+            if (isEmptyNode(jsonNode) || !jsonNode.isObject() || root.kind != PlanNode.Kind.OBJECT) {
+                verifyHandler.throwError(root.path);
+            }
+            return toMap(jsonNode);
+        }
+
+        private Map<String, Object> toMap(JsonNode jsonNode) {
             Iterator<String> iterator = jsonNode.fieldNames();
-            Map<String, Object> data = new HashMap<>(jsonSchema.asObject().getChildren().length);
+            Map<String, Object> data = new HashMap<>(plan.getRoot().children.length);
             while (iterator.hasNext()) {
                 String key = iterator.next();
                 data.put(key, jsonNode.get(key));
@@ -235,7 +1011,7 @@ public class Validator {
          * @return This validator instance
          */
         public AbstractDataValidator validate(Function<String, String> dataSupplier) {
-            dataStructValidator.validate(dataSupplier, jsonSchemas.toArray(new JsonSchema[0]));
+            plan.validate(reporter, dataSupplier);
             return this;
         }
 
@@ -247,7 +1023,8 @@ public class Validator {
          */
         public Map<String, Object> extract(Function<String, String> dataSupplier) {
             Map<String, Object> data = new HashMap<>(jsonSchemas.size());
-            for (JsonSchema jsonSchema : jsonSchemas) {
+            for (int i = 0; i < jsonSchemas.size(); i++) {
+                JsonSchema jsonSchema = jsonSchemas.get(i);
                 String value = dataSupplier.apply(jsonSchema.getName());
                 if (value == null) {
                     continue;
@@ -258,12 +1035,12 @@ public class Validator {
                     JsonNode node = NodeFactory.parser(value);
                     if (jsonSchema.isArray()) {
                         if (node.isArray()) {
-                            array(node, jsonSchema.asArray());
+                            array(node, plan.getRoot(i));
                         } else {
                             verifyHandler.throwError(jsonSchema.getPath());
                         }
                     } else if (jsonSchema.isObject()) {
-                        object(node, jsonSchema.asObject());
+                        object(node, plan.getRoot(i));
                     } else {
                         throw new ValidationException("Unsupported operation: " + jsonSchema, jsonSchema.getPath());
                     }
@@ -285,30 +1062,31 @@ public class Validator {
         }
 
         /**
-         * Validates and processes an object node
+         * Validates an object node and removes the fields not declared by its compiled node.
+         * 字段名通过编译期构建的哈希索引解析，每个字段的查找为常数时间。
          *
-         * @param node       Node to validate
-         * @param jsonSchema Schema to validate against
+         * @param node     Node to validate
+         * @param planNode Compiled schema node to validate against
          */
-        protected void object(JsonNode node, JsonSchema jsonSchema) {
-            if (!node.isObject() || !jsonSchema.isObject()) {
-                verifyHandler.throwError(jsonSchema.getPath());
+        protected void object(JsonNode node, PlanNode planNode) {
+            if (!node.isObject() || planNode.kind != PlanNode.Kind.OBJECT) {
+                verifyHandler.throwError(planNode.path);
             }
             ObjectNode objectNode = (ObjectNode) node;
-            JsonObject paramObject = jsonSchema.asObject();
-            if (!paramObject.existsChildren()) {
+            PlanNode[] children = planNode.children;
+            if (children.length == 0) {
                 return;// If no child nodes configured, preserve all child nodes under current node
             }
-            JsonSchema[] children = paramObject.getChildren();
-            delete(objectNode, children);
-            for (int i = 0; i < children.length; i++) {
-                JsonSchema childrenSchema = children[i];
-                JsonNode jsonNode = objectNode.get(childrenSchema.getName());
-                if (!isEmptyNode(jsonNode)) {
-                    if (childrenSchema.isObject()) {
-                        object(jsonNode, childrenSchema);
-                    } else if (childrenSchema.isArray()) {
-                        array(jsonNode, childrenSchema);
+            delete(objectNode, planNode.fields);
+            for (PlanNode child : children) {
+                if (child.kind == PlanNode.Kind.OBJECT || child.kind == PlanNode.Kind.ARRAY) {
+                    JsonNode jsonNode = objectNode.get(child.name);
+                    if (!isEmptyNode(jsonNode)) {
+                        if (child.kind == PlanNode.Kind.OBJECT) {
+                            object(jsonNode, child);
+                        } else {
+                            array(jsonNode, child);
+                        }
                     }
                 }
             }
@@ -318,66 +1096,30 @@ public class Validator {
          * Deletes nodes that don't exist in schema
          *
          * @param objectNode Node to clean
-         * @param children   Schema children to check against
-         */
-        void delete(ObjectNode objectNode, JsonSchema[] children) {
-            Iterator<String> iterator = objectNode.fieldNames();
-            List<String> deletes = new LinkedList<>();
-            while (iterator.hasNext()) {
-                String name = iterator.next();
-                if (!exists(children, name)) {
-                    deletes.add(name);
-                }
-            }
-            if (filter != null) {
-                for (String key : deletes) {
-                    filter.process(key, objectNode);
-                }
-            } else {
-                for (String key : deletes) {
-                    objectNode.remove(key);
-                }
-            }
-        }
-
-        /**
-         * Checks if a field name exists in schema children
-         *
-         * @param children Schema children to check
-         * @param name     Field name to look for
-         * @return true if exists, false otherwise
+         * @param fields     Index of the declared field names
          */
-        boolean exists(JsonSchema[] children, String name) {
-            for (JsonSchema p : children) {
-                if (name.equals(p.getName())) {
-                    return true;
-                }
-            }
-            return false;
+        void delete(ObjectNode objectNode, FieldIndex fields) {
+            FieldPruner.of(filter).prune(objectNode, fields);
         }
 
         /**
          * Validates and processes an array node
          *
-         * @param jsonNode   Node to validate
-         * @param jsonSchema Schema to validate against
+         * @param jsonNode Node to validate
+         * @param planNode Compiled schema node to validate against
          */
-        void array(JsonNode jsonNode, JsonSchema jsonSchema) {
-            if (!jsonNode.isArray() || !jsonSchema.isArray()) {
-                verifyHandler.throwError(jsonSchema.getPath());
+        void array(JsonNode jsonNode, PlanNode planNode) {
+            if (!jsonNode.isArray() || planNode.kind != PlanNode.Kind.ARRAY) {
+                verifyHandler.throwError(planNode.path);
             }
-            JsonArray array = (JsonArray) jsonSchema;
-            ArrayNode arrayNode = (ArrayNode) jsonNode;
-            if (!array.existsChildren()) {
+            if (planNode.children.length == 0) {
                 return;
             }
-            Optional<JsonSchema> optional = array.getSchemaForFirstChildren();
-            if (optional.isPresent()) {
-                for (int i = 0; i < arrayNode.size(); i++) {
-                    JsonNode node = arrayNode.get(i);
-                    if (node.isObject()) {
-                        object(node, optional.get());
-                    }
+            PlanNode element = planNode.children[0];
+            for (int i = 0; i < jsonNode.size(); i++) {
+                JsonNode node = jsonNode.get(i);
+                if (node.isObject()) {
+                    object(node, element);
                 }
             }
         }
@@ -398,7 +1140,11 @@ public class Validator {
 
     /**
      * Validator for data structure validation
+     *
+     * @deprecated Interprets the schema tree on every call, {@link AbstractDataValidator} now walks a precompiled
+     * {@link ValidationPlan} instead
      */
+    @Deprecated
     public static class DataStructValidator {
         private AbstractDataValidator dataValidator;
 
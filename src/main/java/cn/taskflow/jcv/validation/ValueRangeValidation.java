@@ -16,32 +16,55 @@
  */
 package cn.taskflow.jcv.validation;
 
+import cn.taskflow.jcv.core.DataType;
 import cn.taskflow.jcv.core.JsonSchema;
 import cn.taskflow.jcv.exception.ValidationException;
 import com.fasterxml.jackson.databind.JsonNode;
 
-import java.util.*;
-
 import static cn.taskflow.jcv.utils.JsvUtils.f;
 
+/**
+ * 限定取值范围与排除取值的验证规则。
+ * <p>
+ * 通过 {@link #of(DataType)} 创建的规则按数据类型保存取值：数字按数值比较，保存在开放寻址的 long / double 集合中，
+ * 验证时不再把节点转换为字符串；其它方式创建的规则按 {@link JsonNode#asText()} 的文本形式比较。
+ */
 public class ValueRangeValidation implements CustomValidationRule {
-    private final Set<String> withinValues  = new HashSet<>();
-    private final Set<String> excludeValues = new HashSet<>();
+    static final int       ACCEPTED   = 0;
+    static final int       NOT_WITHIN = 1;
+    static final int       EXCLUDED   = 2;
+
+    private final ValueSet withinValues;
+    private final ValueSet excludeValues;
+
+    /**
+     * 创建按文本形式比较取值的规则
+     */
+    public ValueRangeValidation() {
+        this(ValueSet.of(null), ValueSet.of(null));
+    }
+
+    private ValueRangeValidation(ValueSet withinValues, ValueSet excludeValues) {
+        this.withinValues = withinValues;
+        this.excludeValues = excludeValues;
+    }
+
+    /**
+     * 创建按数据类型比较取值的规则，数字类型按数值比较（{@code 5}、{@code 5.0} 与 {@code "5"} 相同）
+     *
+     * @param dataType 模式的数据类型
+     * @return 不含任何取值的规则
+     */
+    public static ValueRangeValidation of(DataType dataType) {
+        return new ValueRangeValidation(ValueSet.of(dataType), ValueSet.of(dataType));
+    }
 
     public static ValueRangeValidation fromWithinValues(Object... values) {
-        ValueRangeValidation rangeValidation = new ValueRangeValidation();
-        for (Object value : values) {
-            rangeValidation.withinValues.add(value.toString());
-        }
-        return rangeValidation;
+        return new ValueRangeValidation().addWithinValues(values);
     }
 
     public static ValueRangeValidation fromExcludeValues(Object... values) {
-        ValueRangeValidation rangeValidation = new ValueRangeValidation();
-        for (Object value : values) {
-            rangeValidation.excludeValues.add(value.toString());
-        }
-        return rangeValidation;
+        return new ValueRangeValidation().addExcludeValues(values);
     }
 
     /**
@@ -49,10 +72,11 @@ public class ValueRangeValidation implements CustomValidationRule {
      *
      * @param values
      * @return
+     * @throws IllegalArgumentException 如果取值与规则的数据类型不符
      */
     public ValueRangeValidation addWithinValues(Object... values) {
         for (Object value : values) {
-            this.withinValues.add(value.toString());
+            this.withinValues.add(value);
         }
         return this;
     }
@@ -62,37 +86,95 @@ public class ValueRangeValidation implements CustomValidationRule {
      *
      * @param values
      * @return
+     * @throws IllegalArgumentException 如果取值与规则的数据类型不符
      */
     public ValueRangeValidation addExcludeValues(Object... values) {
         for (Object value : values) {
-            this.excludeValues.add(value.toString());
+            this.excludeValues.add(value);
         }
         return this;
     }
 
+    /**
+     * 复制规则及其全部取值，用于在不影响共享该规则的模式的前提下追加取值
+     *
+     * @return 新的规则
+     */
+    public ValueRangeValidation copy() {
+        return new ValueRangeValidation(withinValues.copy(), excludeValues.copy());
+    }
+
     @Override
     public boolean validate(JsonSchema schema, JsonNode node) throws ValidationException {
+        int rejection = reject(node);
+        if (rejection != ACCEPTED) {
+            throw exception(schema, node, rejection);
+        }
+        return true;
+    }
+
+    /**
+     * Checks a value without creating an exception, used by the validation plan
+     *
+     * @param node the value
+     * @return {@link #ACCEPTED}, {@link #NOT_WITHIN} or {@link #EXCLUDED}
+     */
+    int reject(JsonNode node) {
         if (node != null && !node.isNull()) {
-            String value = node.asText();
-            if (withinValues.size() > 0 && !withinValues.contains(value)) {
-                String path = schema.getPath();
-                if (path != null && path.length() > 0) {
-                    throw new ValidationException(f("The parameter field:'%s' is not in the definition scope",
-                        schema.getPath()), schema.getPath()).append(schema, node);
-                } else {
-                    throw new IllegalArgumentException("The parameter is not in the definition scope");
-                }
+            if (withinValues.size() > 0 && !withinValues.contains(node)) {
+                return NOT_WITHIN;
             }
-            if (excludeValues.size() > 0 && excludeValues.contains(value)) {
-                String path = schema.getPath();
-                if (path != null && path.length() > 0) {
-                    throw new ValidationException(f("The parameter field:'%s' is out of the legal range",
-                        schema.getPath()), schema.getPath()).append(schema, node);
-                } else {
-                    throw new IllegalArgumentException("The parameter is out of the legal range");
-                }
+            if (excludeValues.size() > 0 && excludeValues.contains(node)) {
+                return EXCLUDED;
             }
         }
-        return true;
+        return ACCEPTED;
+    }
+
+    /**
+     * The exception {@link #validate} throws for a rejected value
+     */
+    static RuntimeException exception(JsonSchema schema, JsonNode node, int rejection) {
+        String path = schema.getPath();
+        if (path != null && path.length() > 0) {
+            return new ValidationException(message(path, rejection), path).append(schema, node);
+        }
+        return new IllegalArgumentException(message(path, rejection));
+    }
+
+    /**
+     * The message of a rejected value
+     *
+     * @param path      the path of the schema, may be blank
+     * @param rejection {@link #NOT_WITHIN} or {@link #EXCLUDED}
+     * @return the message
+     */
+    static String message(String path, int rejection) {
+        if (path != null && path.length() > 0) {
+            return f(rejection == NOT_WITHIN ? "The parameter field:'%s' is not in the definition scope"
+                : "The parameter field:'%s' is out of the legal range", path);
+        }
+        return rejection == NOT_WITHIN ? "The parameter is not in the definition scope"
+            : "The parameter is out of the legal range";
+    }
+
+    /**
+     * 取值范围与排除取值都相同的规则相等，使结构相同的模式拥有相同的指纹
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!(obj instanceof ValueRangeValidation)) {
+            return false;
+        }
+        ValueRangeValidation that = (ValueRangeValidation) obj;
+        return withinValues.equals(that.withinValues) && excludeValues.equals(that.excludeValues);
+    }
+
+    @Override
+    public int hashCode() {
+        return withinValues.hashCode() * 31 + excludeValues.hashCode();
     }
 }
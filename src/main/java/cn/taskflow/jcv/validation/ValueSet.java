@@ -0,0 +1,317 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.DataType;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Allowed or excluded values of a {@link ValueRangeValidation}, specialized by the data type of the schema.
+ * 按模式数据类型特化的取值集合：数字保存在开放寻址的 long / double 集合中，按数值比较且不再逐次转换为字符串；
+ * 字符串与布尔值保存在开放寻址的驻留（intern）字符串集合中，多个模式间相同的取值共享同一个字符串实例。
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+abstract class ValueSet {
+
+    /**
+     * Creates an empty set for the values of the given data type
+     *
+     * @param dataType the data type of the schema, null for the textual form of any value
+     * @return the empty set
+     */
+    static ValueSet of(DataType dataType) {
+        return dataType != null && dataType.isNumber() ? new Numbers() : new Strings();
+    }
+
+    /**
+     * @param value the value to add
+     * @throws IllegalArgumentException if the value does not match the data type of the set
+     */
+    abstract void add(Object value);
+
+    abstract boolean contains(JsonNode node);
+
+    abstract int size();
+
+    abstract ValueSet copy();
+
+    /**
+     * 两个集合的种类与取值都相同即相等，与容量和添加顺序无关
+     */
+    @Override
+    public abstract boolean equals(Object obj);
+
+    @Override
+    public abstract int hashCode();
+
+    /**
+     * Values compared by their textual form, exactly like {@link JsonNode#asText()}
+     * 按文本形式比较的取值集合
+     */
+    static final class Strings extends ValueSet {
+        private static final int MIN_CAPACITY = 8;
+        private String[]         table        = new String[MIN_CAPACITY];
+        private int              size;
+
+        @Override
+        void add(Object value) {
+            if ((size + 1) * 3 > table.length * 2) {
+                String[] resized = new String[table.length * 2];
+                for (String text : table) {
+                    if (text != null) {
+                        insert(resized, text);
+                    }
+                }
+                table = resized;
+            }
+            if (insert(table, value.toString().intern())) {
+                size++;
+            }
+        }
+
+        @Override
+        boolean contains(JsonNode node) {
+            return contains(node.asText());
+        }
+
+        boolean contains(String value) {
+            String[] table = this.table;
+            int mask = table.length - 1;
+            for (int i = index(value, mask);; i = (i + 1) & mask) {
+                String slot = table[i];
+                if (slot == null) {
+                    return false;
+                } else if (slot.equals(value)) {
+                    return true;
+                }
+            }
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        ValueSet copy() {
+            Strings copy = new Strings();
+            copy.table = table.clone();
+            copy.size = size;
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Strings)) {
+                return false;
+            }
+            Strings that = (Strings) obj;
+            if (size != that.size) {
+                return false;
+            }
+            for (String text : table) {
+                if (text != null && !that.contains(text)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        @Override
+        public int hashCode() {
+            int hash = 0;
+            for (String text : table) {
+                if (text != null) {
+                    hash += text.hashCode();
+                }
+            }
+            return hash;
+        }
+
+        private static boolean insert(String[] table, String value) {
+            int mask = table.length - 1;
+            for (int i = index(value, mask);; i = (i + 1) & mask) {
+                if (table[i] == null) {
+                    table[i] = value;
+                    return true;
+                } else if (table[i].equals(value)) {
+                    return false;
+                }
+            }
+        }
+
+        private static int index(String value, int mask) {
+            int hash = value.hashCode() * 0x9E3779B9;
+            return (hash ^ (hash >>> 16)) & mask;
+        }
+    }
+
+    /**
+     * Values compared by numeric value: {@code 5}, {@code 5.0} and {@code "5"} are the same value.
+     * Integers within the long range are kept in a long set, other values exactly representable as a double in a
+     * set of double bits, anything else as a decimal.
+     * 数字按数值比较：long 范围内的整数存入 long 集合，可精确表示为 double 的小数存入 double 位模式集合，其余存为 BigDecimal。
+     */
+    static final class Numbers extends ValueSet {
+        private LongHashSet     longs    = new LongHashSet();
+        private LongHashSet     doubles  = new LongHashSet();
+        private Set<BigDecimal> decimals = new HashSet<>();
+
+        @Override
+        void add(Object value) {
+            BigDecimal decimal = value instanceof Number ? toDecimal((Number) value) : parse(value.toString());
+            if (decimal == null) {
+                if (value instanceof Number) {
+                    // NaN and infinities
+                    doubles.add(Double.doubleToLongBits(((Number) value).doubleValue()));
+                    return;
+                }
+                throw new IllegalArgumentException("Invalid number value: '" + value + "'");
+            }
+            if (isLong(decimal)) {
+                longs.add(decimal.longValue());
+            } else if (isDouble(decimal)) {
+                doubles.add(Double.doubleToLongBits(decimal.doubleValue()));
+            } else {
+                decimals.add(decimal.stripTrailingZeros());
+            }
+        }
+
+        @Override
+        boolean contains(JsonNode node) {
+            if (node.isIntegralNumber()) {
+                return node.canConvertToLong() ? longs.contains(node.longValue()) : contains(new BigDecimal(
+                    node.bigIntegerValue()));
+            } else if (node.isBigDecimal()) {
+                return contains(node.decimalValue());
+            } else if (node.isFloatingPointNumber()) {
+                // A float node holds the float nearest to its decimal form
+                double value = node.isFloat() ? Double.parseDouble(Float.toString(node.floatValue())) : node
+                    .doubleValue();
+                long integral = (long) value;
+                if (integral == value && integral != Long.MAX_VALUE && integral != Long.MIN_VALUE) {
+                    return longs.contains(integral);
+                }
+                return doubles.contains(Double.doubleToLongBits(value))
+                       || (!decimals.isEmpty() && !Double.isNaN(value) && !Double.isInfinite(value) && decimals
+                           .contains(BigDecimal.valueOf(value).stripTrailingZeros()));
+            } else if (node.isTextual()) {
+                BigDecimal decimal = parse(node.textValue());
+                return decimal != null && contains(decimal);
+            }
+            return false;
+        }
+
+        private boolean contains(BigDecimal decimal) {
+            if (isLong(decimal)) {
+                return longs.contains(decimal.longValue());
+            } else if (isDouble(decimal)) {
+                return doubles.contains(Double.doubleToLongBits(decimal.doubleValue()));
+            }
+            return decimals.contains(decimal.stripTrailingZeros());
+        }
+
+        @Override
+        int size() {
+            return longs.size() + doubles.size() + decimals.size();
+        }
+
+        @Override
+        ValueSet copy() {
+            Numbers copy = new Numbers();
+            copy.longs = longs.copy();
+            copy.doubles = doubles.copy();
+            copy.decimals = new HashSet<>(decimals);
+            return copy;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Numbers)) {
+                return false;
+            }
+            Numbers that = (Numbers) obj;
+            return longs.equals(that.longs) && doubles.equals(that.doubles) && decimals.equals(that.decimals);
+        }
+
+        @Override
+        public int hashCode() {
+            return (longs.hashCode() * 31 + doubles.hashCode()) * 31 + decimals.hashCode();
+        }
+
+        private static boolean isLong(BigDecimal decimal) {
+            if (decimal.signum() == 0) {
+                return true;
+            }
+            // More than 19 integer digits never fit in a long
+            if ((long) decimal.precision() - decimal.scale() > 19) {
+                return false;
+            }
+            BigDecimal integral = decimal.scale() > 0 ? decimal.stripTrailingZeros() : decimal;
+            return integral.scale() <= 0 && integral.toBigInteger().bitLength() <= 63;
+        }
+
+        /**
+         * Whether the decimal is the shortest form of a double, as written by a JSON encoder
+         */
+        private static boolean isDouble(BigDecimal decimal) {
+            double value = decimal.doubleValue();
+            return !Double.isInfinite(value) && BigDecimal.valueOf(value).compareTo(decimal) == 0;
+        }
+
+        private static BigDecimal toDecimal(Number number) {
+            if (number instanceof BigDecimal) {
+                return (BigDecimal) number;
+            } else if (number instanceof BigInteger) {
+                return new BigDecimal((BigInteger) number);
+            } else if (number instanceof Long || number instanceof Integer || number instanceof Short
+                       || number instanceof Byte) {
+                return BigDecimal.valueOf(number.longValue());
+            }
+            double value = number.doubleValue();
+            if (Double.isNaN(value) || Double.isInfinite(value)) {
+                return null;
+            }
+            // The decimal form of a float, not its widened double
+            return parse(number.toString());
+        }
+
+        private static BigDecimal parse(String text) {
+            if (text == null || text.isEmpty()) {
+                return null;
+            }
+            try {
+                return new BigDecimal(text.trim());
+            } catch (NumberFormatException e) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.encode;
+
+import cn.taskflow.jcv.core.*;
+import cn.taskflow.jcv.utils.Encoder;
+import cn.taskflow.jcv.utils.JsonParser;
+import cn.taskflow.jcv.validation.Validator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class SchemaSnapshotTest {
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        JsonSchema order = JsonObject.required(
+            "order",
+            "订单",
+            JsonString.required("id", "订单编号").between(4, 16).setExampleValue("A001"),
+            JsonNumber.optional("amount").between(new BigDecimal("0.01"), 99999L),
+            JsonBoolean.required("paid"),
+            JsonArray.required("items",
+                JsonObject.required(JsonNumber.required("sku").between(1, 1e9), JsonString.optional("name"))),
+            JsonArray.optional("tags", JsonString.ofNonNull()));
+        JsonSchema sample = JsonParser.parseJsonSchema("{\"name\":\"a\",\"list\":[{\"id\":1}]}");
+        // Decoded DSL gives untyped nodes, which are written typed
+        JsonSchema decoded = Encoder.decode(Encoder.encode(order));
+        Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+        schemas.put("order", order);
+        schemas.put("sample", sample);
+        schemas.put("decoded", decoded);
+
+        Path file = Files.createTempFile("schemas", ".snapshot");
+        try {
+            SchemaSnapshot.write(schemas, file);
+            SchemaSnapshot snapshot = SchemaSnapshot.open(file);
+            Assert.assertEquals(3, snapshot.size());
+            Assert.assertArrayEquals(new Object[] { "order", "sample", "decoded" }, snapshot.names().toArray());
+            Assert.assertNull(snapshot.get("missing"));
+
+            JsonSchema loaded = snapshot.get("order");
+            Assert.assertSame(loaded, snapshot.get("order"));
+            Assert.assertTrue(loaded.isFrozen());
+            Assert.assertTrue(loaded instanceof JsonObject);
+            Assert.assertEquals(order, loaded);
+            Assert.assertEquals(order, snapshot.get("decoded"));
+            Assert.assertEquals(sample, snapshot.get("sample"));
+            JsonSchema items = loaded.asObject().getChildren()[3];
+            Assert.assertTrue(items.asArray().getChildren()[0] instanceof JsonObject);
+            Assert.assertEquals("order.items.sku",
+                items.asArray().getChildren()[0].asObject().getChildren()[0].getPath());
+
+            Validator validator = Validator.fromSchema(loaded);
+            String json = "{\"id\":\"A001\",\"amount\":1.5,\"paid\":true,\"items\":[{\"sku\":10}],\"tags\":[\"x\"]}";
+            validator.validate(json);
+            Assert.assertEquals("order.items.sku", validator.check(json.replace("10", "0")).getFirstError().getPath());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    @Test
+    public void testRejectsUnknownVersion() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+        schemas.put("a", JsonObject.required("a", JsonString.required("b")));
+        SchemaSnapshot.write(schemas, out);
+        byte[] bytes = out.toByteArray();
+        Assert.assertEquals(schemas.get("a"), SchemaSnapshot.wrap(ByteBuffer.wrap(bytes)).get("a"));
+        bytes[5] = 9;
+        try {
+            SchemaSnapshot.wrap(ByteBuffer.wrap(bytes));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Unsupported schema snapshot version: 9", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.registry;
+
+import cn.taskflow.jcv.core.JsonNumber;
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonString;
+import cn.taskflow.jcv.encode.NodeFactory;
+import cn.taskflow.jcv.utils.Encoder;
+import cn.taskflow.jcv.validation.Validator;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class SchemaDirectoryWatcherTest {
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jcv-schemas");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    private void write(String fileName, String content) throws IOException {
+        Files.write(directory.resolve(fileName), content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String userSchema(int maxAge) {
+        return Encoder.encode(JsonObject.required(JsonString.required("name"),
+            JsonNumber.required("age").between(1, maxAge)));
+    }
+
+    @Test
+    public void testLoadAndReload() throws Exception {
+        write("user.schema.json", userSchema(99));
+        write("order.json", "{\"id\":1,\"title\":\"t\"}");
+        write("ignored.txt", "{}");
+        SchemaRegistry registry = new SchemaRegistry();
+        SchemaDirectoryWatcher watcher = new SchemaDirectoryWatcher(registry, directory);
+        SchemaRegistry.Version first = watcher.loadAll();
+        Assert.assertEquals(2, first.getSchemas().size());
+        Assert.assertTrue(first.getSchema("user").get().isFrozen());
+        Assert.assertTrue(registry.getValidator("order").get().isValid(NodeFactory.parser("{\"id\":2}")));
+
+        Validator inFlight = registry.getValidator("user").get();
+        String json = "{\"name\":\"a\",\"age\":150}";
+        write("user.schema.json", userSchema(200));
+        watcher.reload(Collections.singleton(directory.resolve("user.schema.json")));
+        Assert.assertFalse(inFlight.isValid(NodeFactory.parser(json)));
+        Assert.assertTrue(registry.getValidator("user").get().isValid(NodeFactory.parser(json)));
+        Assert.assertSame(first.getValidator("order").get(), registry.getValidator("order").get());
+        long number = registry.current().getNumber();
+
+        // Unchanged content and broken files keep the published version
+        watcher.reload(Collections.singleton(directory.resolve("user.schema.json")));
+        write("order.json", "{broken");
+        watcher.reload(Collections.singleton(directory.resolve("order.json")));
+        Assert.assertEquals(number, registry.current().getNumber());
+        Assert.assertTrue(registry.getSchema("order").isPresent());
+
+        Files.delete(directory.resolve("order.json"));
+        watcher.reload(Collections.singleton(directory.resolve("order.json")));
+        Assert.assertFalse(registry.getSchema("order").isPresent());
+        Assert.assertFalse(first.getValidators().isEmpty());
+    }
+
+    @Test
+    public void testDslTakesPrecedence() throws Exception {
+        write("user.json", "{\"nick\":\"a\"}");
+        write("user.schema.json", userSchema(99));
+        SchemaRegistry registry = new SchemaRegistry();
+        SchemaDirectoryWatcher watcher = new SchemaDirectoryWatcher(registry, directory);
+        Assert.assertEquals(1, watcher.loadAll().getSchemas().size());
+        String json = "{\"name\":\"a\",\"age\":150}";
+        Assert.assertFalse(registry.getValidator("user").get().isValid(NodeFactory.parser(json)));
+
+        // Changing the sample file does not replace the DSL schema
+        long number = registry.current().getNumber();
+        write("user.json", "{\"nick\":\"b\"}");
+        watcher.reload(Collections.singleton(directory.resolve("user.json")));
+        Assert.assertEquals(number, registry.current().getNumber());
+
+        // Without the DSL file the sample file defines the schema
+        Files.delete(directory.resolve("user.schema.json"));
+        watcher.reload(Collections.singleton(directory.resolve("user.schema.json")));
+        Assert.assertEquals(SchemaDirectoryWatcher.load(directory.resolve("user.json")), registry.getSchema("user")
+            .get());
+        Assert.assertTrue(registry.getValidator("user").get().isValid(NodeFactory.parser("{\"nick\":\"c\"}")));
+    }
+
+    @Test
+    public void testWatch() throws Exception {
+        write("user.schema.json", userSchema(99));
+        SchemaRegistry registry = new SchemaRegistry();
+        try (SchemaDirectoryWatcher watcher = new SchemaDirectoryWatcher(registry, directory)) {
+            watcher.loadAll();
+            watcher.start();
+            long number = registry.current().getNumber();
+            write("item.json", "{\"sku\":\"a\"}");
+            long deadline = System.currentTimeMillis() + 30000;
+            while (!registry.getSchema("item").isPresent() && System.currentTimeMillis() < deadline) {
+                Thread.sleep(50);
+            }
+            Assert.assertTrue(registry.getSchema("item").isPresent());
+            Assert.assertTrue(registry.current().getNumber() > number);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.registry;
+
+import cn.taskflow.jcv.core.JsonNumber;
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.core.JsonString;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class SchemaWarmUpTest {
+
+    @Test
+    public void testWarmUp() {
+        Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+        schemas.put(
+            "user",
+            JsonObject.required(JsonString.required("name").setExampleValue("kevin"), JsonNumber.required("age")
+                .between(1, 99).setExampleValue(18)));
+        // The generated example of an unset number is out of range
+        schemas.put("order", JsonObject.required(JsonNumber.required("id").between(10, 20)));
+        schemas.put("empty", JsonObject.required());
+        SchemaRegistry registry = new SchemaRegistry(schemas);
+        for (String name : schemas.keySet()) {
+            Assert.assertTrue(registry.current().getCompileNanos(name) >= 0);
+        }
+        Assert.assertEquals(-1, registry.current().getCompileNanos("missing"));
+
+        SchemaWarmUp.Report report = SchemaWarmUp.run(registry, Arrays.asList("user", "order", "user", "missing"), 20);
+        Assert.assertEquals(2, report.getEntries().size());
+        SchemaWarmUp.Entry user = report.getEntries().get(0);
+        Assert.assertEquals("user", user.getName());
+        Assert.assertNull(user.getError());
+        Assert.assertEquals(20, user.getIterations());
+        Assert.assertTrue(user.getCompileNanos() >= 0);
+        Assert.assertTrue(report.getTotalNanos() >= user.getWarmUpNanos());
+        SchemaWarmUp.Entry order = report.getEntries().get(1);
+        Assert.assertEquals("order", order.getName());
+        Assert.assertEquals(20, order.getIterations());
+        Assert.assertNotNull(order.getError());
+
+        Assert.assertEquals(SchemaWarmUp.MAX_ITERATIONS, SchemaWarmUp.defaultIterations(1));
+        Assert.assertEquals(20, SchemaWarmUp.defaultIterations(100));
+        Assert.assertEquals(SchemaWarmUp.MIN_ITERATIONS, SchemaWarmUp.defaultIterations(10_000));
+        Assert.assertEquals(SchemaWarmUp.MAX_ITERATIONS, SchemaWarmUp.run(registry, Arrays.asList("user", "user"))
+            .getEntries().get(0).getIterations());
+    }
+
+    @Test
+    public void testRegisterSharedSubtrees() {
+        JsonObject address = JsonObject.required("address", JsonString.required("city"));
+        JsonSchema frozen = JsonObject.required("item", JsonNumber.required("id")).freeze();
+        Map<String, JsonSchema> schemas = new LinkedHashMap<>();
+        for (int i = 0; i < 8; i++) {
+            schemas.put("user" + i, JsonObject.required(JsonString.required("name"), address));
+            schemas.put("order" + i, JsonObject.required(JsonNumber.required("no"), frozen).freeze());
+        }
+        SchemaRegistry registry = new SchemaRegistry(schemas);
+        for (String name : schemas.keySet()) {
+            Assert.assertTrue(name, registry.current().getCompileNanos(name) >= 0);
+        }
+        Assert.assertFalse(registry.getValidator("user3").get().isValid("{\"name\":\"a\",\"address\":{}}"));
+        Assert.assertTrue(registry.getValidator("order5").get().isValid("{\"no\":1,\"item\":{\"id\":2}}"));
+        // Unfrozen schemas compile from frozen copies, the registered trees are left as they were
+        Assert.assertFalse(address.isFrozen());
+        Assert.assertSame(schemas.get("user3"), registry.getSchema("user3").get());
+        Assert.assertFalse(registry.getSchema("user3").get().isFrozen());
+    }
+}
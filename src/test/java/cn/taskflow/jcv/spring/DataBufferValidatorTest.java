@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import cn.taskflow.jcv.core.*;
+import cn.taskflow.jcv.validation.Validator;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import reactor.core.publisher.Flux;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class DataBufferValidatorTest {
+    private static final Validator VALIDATOR = Validator.fromSchema(JsonObject.required(JsonString.required("name")
+        .setMax(5), JsonNumber.required("amount").between(1, 100), JsonArray.optional("tags", JsonString.ofNonNull())
+        .withValidator((schema, node) -> node.size() <= 3)));
+
+    private static Flux<DataBuffer> chunks(String json, int size, boolean direct) {
+        byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+        DefaultDataBufferFactory factory = new DefaultDataBufferFactory(direct);
+        List<DataBuffer> buffers = new ArrayList<>();
+        for (int i = 0; i < bytes.length; i += size) {
+            DataBuffer buffer = factory.allocateBuffer(size);
+            buffer.write(bytes, i, Math.min(size, bytes.length - i));
+            buffers.add(buffer);
+        }
+        return Flux.fromIterable(buffers);
+    }
+
+    private static String read(String json, int size, boolean direct) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataBufferValidator.validate(chunks(json, size, direct), VALIDATOR::newStreamingValidator)
+            .doOnNext((buffer) -> {
+                byte[] bytes = new byte[buffer.readableByteCount()];
+                buffer.read(bytes);
+                out.write(bytes, 0, bytes.length);
+                DataBufferUtils.release(buffer);
+            }).blockLast();
+        return new String(out.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static String error(String json, int size) {
+        try {
+            read(json, size, false);
+            Assert.fail(json);
+            return null;
+        } catch (IllegalArgumentException e) {
+            return e.getMessage();
+        }
+    }
+
+    @Test
+    public void testPassThroughChunks() {
+        String json = "{\"name\":\"中文名\",\"amount\":12.5,\"other\":{\"a\":[1,{\"b\":null}]},\"tags\":[\"x\",\"y\"]}";
+        for (int size : Arrays.asList(1, 2, 3, 7, 64, 1024)) {
+            Assert.assertEquals(json, read(json, size, false));
+            Assert.assertEquals(json, read(json, size, true));
+        }
+    }
+
+    @Test
+    public void testInvalidBody() {
+        for (int size : Arrays.asList(1, 5, 1024)) {
+            Assert.assertEquals("`name` less than or equal to character size 5",
+                error("{\"name\":\"Tom-Jerry\",\"amount\":1}", size));
+            Assert.assertEquals("`amount` between [1 ~ 100]", error("{\"name\":\"Tom\",\"amount\":1000}", size));
+            Assert.assertEquals("Missing `amount` parameter", error("{\"name\":\"Tom\"}", size));
+            Assert.assertEquals("Invalid parameter `tags`",
+                error("{\"name\":\"Tom\",\"amount\":1,\"tags\":[\"a\",\"b\",\"c\",\"d\"]}", size));
+            Assert.assertTrue(error("{\"name\":\"Tom\",\"amount\":", size).contains("Unexpected end-of-input"));
+            Assert.assertNotNull(error("{\"name\":\"Tom\",\"amount\":1x}", size));
+        }
+        Assert.assertNotNull(error("", 1));
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.boot.web.reactive.context.AnnotationConfigReactiveWebApplicationContext;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.web.context.support.AnnotationConfigWebApplicationContext;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class JsonSchemaAutoConfigurationTest {
+    private static final Class<?>[] CONFIGURATIONS = { JsonSchemaAutoConfiguration.class,
+            JsonSchemaWebMvcAutoConfiguration.class, JsonSchemaWebFluxAutoConfiguration.class };
+
+    @Test
+    public void testReactiveApplication() {
+        try (AnnotationConfigReactiveWebApplicationContext context = new AnnotationConfigReactiveWebApplicationContext()) {
+            context.register(CONFIGURATIONS);
+            context.refresh();
+            Assert.assertEquals(1, context.getBeansOfType(JsonSchemaWebFilter.class).size());
+            Assert.assertTrue(context.getBeansOfType(CustomRequestBodyAdvice.class).isEmpty());
+            Assert.assertTrue(context.getBeansOfType(WebMvcConfigurer.class).isEmpty());
+            Assert.assertTrue(context.getBean(JsonSchemaFactory.class).getSchema("empty").isPresent());
+        }
+    }
+
+    @Test
+    public void testServletApplication() {
+        AnnotationConfigWebApplicationContext context = new AnnotationConfigWebApplicationContext();
+        try {
+            context.register(CONFIGURATIONS);
+            context.refresh();
+            Assert.assertEquals(1, context.getBeansOfType(CustomRequestBodyAdvice.class).size());
+            Assert.assertTrue(context.getBeansOfType(JsonSchemaWebFilter.class).isEmpty());
+        } finally {
+            context.close();
+        }
+    }
+
+    @Test
+    public void testNonWebApplication() {
+        try (AnnotationConfigApplicationContext context = new AnnotationConfigApplicationContext(CONFIGURATIONS)) {
+            Assert.assertTrue(context.getBeansOfType(CustomRequestBodyAdvice.class).isEmpty());
+            Assert.assertTrue(context.getBeansOfType(JsonSchemaWebFilter.class).isEmpty());
+            Assert.assertNotNull(context.getBean(JsonSchemaFactory.class));
+        }
+    }
+}
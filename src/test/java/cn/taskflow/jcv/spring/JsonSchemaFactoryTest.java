@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import cn.taskflow.jcv.core.JsonNumber;
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonSchema;
+import cn.taskflow.jcv.core.JsonString;
+import cn.taskflow.jcv.validation.Validator;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class JsonSchemaFactoryTest {
+
+    @JsonSchemaValidate("user")
+    public void user() {
+    }
+
+    @JsonSchemaValidate("none")
+    public void none() {
+    }
+
+    private static JsonSchemaValidate jsv(String method) throws Exception {
+        return JsonSchemaFactoryTest.class.getMethod(method).getAnnotation(JsonSchemaValidate.class);
+    }
+
+    private static JsonSchemaFactory buildFactory() {
+        JsonSchema schema = JsonObject.required(JsonString.required("name"), JsonNumber.optional("age").between(1, 99));
+        return new JsonSchemaFactory(Collections.singletonMap("user", schema));
+    }
+
+    @Test
+    public void testPrecompiledValidator() throws Exception {
+        JsonSchemaFactory factory = buildFactory();
+        Validator validator = factory.getValidator("user").get();
+        Assert.assertSame(validator, factory.getValidator("user").get());
+        Assert.assertFalse(factory.getValidator("none").isPresent());
+
+        JsonSchemaValidate jsv = jsv("user");
+        factory.validate(jsv, "{\"name\":\"Tom\",\"age\":18}");
+        try {
+            factory.validate(jsv, "{\"age\":18}");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Missing `name` parameter", e.getMessage());
+        }
+        try {
+            factory.validate(jsv("none"), "{}");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("schema:'none' definition not found", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testSharedValidatorIsReadOnly() {
+        JsonSchemaFactory factory = buildFactory();
+        Validator validator = factory.getValidator("user").get();
+        Assert.assertTrue(validator.isReadOnly());
+        List<Runnable> setters = new ArrayList<>();
+        setters.add(() -> validator.setMaxErrors(1));
+        setters.add(() -> validator.setUnknownNodeFilter((name, parent) -> {
+        }));
+        setters.add(() -> validator.setParallelArrays(10));
+        setters.add(() -> validator.setParallelArrays(10, Runnable::run));
+        setters.add(() -> validator.setAdaptiveOrdering(1));
+        setters.add(() -> validator.setAsyncExecutor(Runnable::run));
+        setters.add(() -> validator.setAsyncExecutor(Runnable::run, 1));
+        for (Runnable setter : setters) {
+            try {
+                setter.run();
+                Assert.fail();
+            } catch (IllegalStateException e) {
+                Assert.assertEquals("Read-only validator cannot be reconfigured", e.getMessage());
+            }
+        }
+        Assert.assertTrue(validator.isValid("{\"name\":\"Tom\"}"));
+        // A validator of its own can still be configured
+        Validator own = Validator.fromSchema(factory.getSchema("user").get()).setMaxErrors(1);
+        Assert.assertFalse(own.isReadOnly());
+        Assert.assertEquals(1, own.check("{\"age\":100}").getErrors().size());
+    }
+
+    @Test
+    public void testConcurrentValidate() throws Exception {
+        JsonSchemaFactory factory = buildFactory();
+        JsonSchemaValidate jsv = jsv("user");
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 64; i++) {
+                int age = i % 2 == 0 ? 18 : 100;
+                futures.add(executor.submit(() -> {
+                    try {
+                        factory.validate(jsv, "{\"name\":\"Tom\",\"age\":" + age + "}");
+                        Assert.assertEquals(18, age);
+                    } catch (IllegalArgumentException e) {
+                        Assert.assertEquals(100, age);
+                        Assert.assertEquals("`age` between [1 ~ 99]", e.getMessage());
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.spring;
+
+import cn.taskflow.jcv.core.JsonArray;
+import cn.taskflow.jcv.core.JsonNumber;
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonString;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.StringHttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class SingleParseRequestBodyTest {
+
+    public static class Order {
+        public String       name;
+        public BigDecimal   amount;
+        public List<String> tags;
+    }
+
+    @JsonSchemaValidate("order")
+    public void order() {
+    }
+
+    private static JsonSchemaRequestBodyValidator buildValidator() {
+        JsonObject schema = JsonObject.required(JsonString.required("name"), JsonNumber.required("amount"),
+            JsonArray.optional("tags", JsonString.ofNonNull()));
+        return new JsonSchemaRequestBodyValidator(new JsonSchemaFactory(Collections.singletonMap("order", schema)),
+            true);
+    }
+
+    private static HttpInputMessage message(String json) {
+        return new HttpInputMessage() {
+            @Override
+            public InputStream getBody() {
+                return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+            }
+
+            @Override
+            public HttpHeaders getHeaders() {
+                return new HttpHeaders();
+            }
+        };
+    }
+
+    @Test
+    public void testReadBufferedTokens() throws Exception {
+        JsonSchemaValidate jsv = getClass().getMethod("order").getAnnotation(JsonSchemaValidate.class);
+        String json = "{\"name\":\"订单\",\"ext\":{\"a\":[1,{\"b\":2}]},\"amount\":12.30,\"tags\":[\"x\",\"y\"]}";
+        HttpInputMessage validated = buildValidator().process(jsv, message(json));
+        Assert.assertTrue(validated instanceof BufferedHttpInputMessage);
+
+        BufferedJackson2HttpMessageConverter converter = new BufferedJackson2HttpMessageConverter(
+            new ObjectMapper().configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false));
+        Order order = (Order) converter.read(Order.class, null, validated);
+        Assert.assertEquals("订单", order.name);
+        Assert.assertEquals(new BigDecimal("12.30"), order.amount);
+        Assert.assertEquals(2, order.tags.size());
+        // 原始字节保持不变，其他转换器仍可读取
+        Assert.assertEquals(json, new String(readAll(validated.getBody()), StandardCharsets.UTF_8));
+
+        try {
+            buildValidator().process(jsv, message("{\"name\":\"a\",\"tags\":[\"x\"]}"));
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Missing `amount` parameter", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testRegister() {
+        List<HttpMessageConverter<?>> converters = new ArrayList<>();
+        converters.add(new StringHttpMessageConverter());
+        converters.add(new MappingJackson2HttpMessageConverter());
+        BufferedJackson2HttpMessageConverter.register(converters);
+        BufferedJackson2HttpMessageConverter.register(converters);
+        Assert.assertEquals(3, converters.size());
+        Assert.assertTrue(converters.get(1) instanceof BufferedJackson2HttpMessageConverter);
+    }
+
+    private static byte[] readAll(InputStream in) throws Exception {
+        byte[] buf = new byte[in.available()];
+        Assert.assertEquals(buf.length, in.read(buf));
+        return buf;
+    }
+}
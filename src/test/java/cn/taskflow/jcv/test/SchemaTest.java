@@ -24,10 +24,22 @@ import cn.taskflow.jcv.core.JsonObject;
 import cn.taskflow.jcv.core.JsonSchema;
 import cn.taskflow.jcv.core.JsonString;
 import cn.taskflow.jcv.core.JsonArray;
+import cn.taskflow.jcv.core.JsonBasicSchema;
+import cn.taskflow.jcv.encode.NodeFactory;
+import cn.taskflow.jcv.validation.ValidationResult;
+import cn.taskflow.jcv.validation.Validator;
 import org.junit.Assert;
 import org.junit.Test;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 public class SchemaTest {
     private static JsonSchema product = JsonObject.required("product", "商品对象", //
@@ -98,4 +110,138 @@ public class SchemaTest {
         String json = "{\"name\":\"IPhone7\",\"price\":99.98,\"skus\":[{\"id\":100,\"name\":\"移动版\",\"code\":[{\"id\":12345,\"title\":\"土黄金色\"}]}]}";
         Assert.assertEquals(json, JsonSchemaCodec.toJsonDataExample(JsonParser.parseJsonSchema(json)));
     }
+
+    @Test
+    public void testFingerprint() {
+        JsonSchema copy = CodeGenerationUtils.deserialization(CodeGenerationUtils.serialization(product));
+        Assert.assertEquals(product, copy);
+        Assert.assertEquals(product.hashCode(), copy.hashCode());
+        Assert.assertEquals(((JsonBasicSchema) product).fingerprint(), ((JsonBasicSchema) copy).fingerprint());
+
+        // Bounds compare by value, required flags, names and rules are structural
+        Assert.assertEquals(JsonNumber.required("a").between(1, 10), JsonNumber.required("a").between(1L, 10.0));
+        Assert.assertNotEquals(JsonNumber.required("a").between(1, 10), JsonNumber.required("a").between(1, 11));
+        Assert.assertNotEquals(JsonNumber.required("a"), JsonNumber.optional("a"));
+        Assert.assertNotEquals(JsonObject.required("o", JsonString.required("a"), JsonString.required("b")),
+            JsonObject.required("o", JsonString.required("b"), JsonString.required("a")));
+        Assert.assertEquals(JsonString.required("s").inEnum(TimeUnit.values()),
+            JsonString.required("s").inEnum(TimeUnit.values()));
+        Assert.assertNotEquals(JsonString.required("s").inEnum(TimeUnit.values()), JsonString.required("s"));
+        // Value rules compare by their values, in any order
+        Assert.assertEquals(JsonObject.required(JsonString.required("s").withinValues("x", "y")),
+            JsonObject.required(JsonString.required("s").withinValues("y", "x")));
+        Assert.assertEquals(JsonNumber.required("n").withinValues(1, 2.5),
+            JsonNumber.required("n").withinValues(2.5, 1L));
+        Assert.assertNotEquals(JsonString.required("s").withinValues("x", "y"),
+            JsonString.required("s").withinValues("x", "z"));
+
+        Set<JsonSchema> schemas = new HashSet<>();
+        schemas.add(product);
+        Assert.assertTrue(schemas.contains(copy));
+    }
+
+    @Test
+    public void testFreeze() throws Exception {
+        JsonObject address = JsonObject.required("address", JsonString.required("city").withValidator(
+            (schema, node) -> node.asText().length() > 1));
+        JsonSchema frozenAddress = address.freeze();
+        Assert.assertSame(address, frozenAddress);
+        Assert.assertTrue(frozenAddress.isFrozen());
+        Assert.assertSame(address.fingerprint(), address.fingerprint());
+        try {
+            address.setDescription("changed");
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        try {
+            ((JsonString) address.getChildren()[0]).setMax(10);
+            Assert.fail();
+        } catch (IllegalStateException expected) {
+        }
+        address.getChildren()[0] = null;
+        Assert.assertNotNull(address.getChildren()[0]);
+
+        // A frozen subtree attached to a new parent is copied, so both keep their own paths
+        JsonSchema user = JsonObject.required("user", JsonString.required("name"), address).freeze();
+        JsonSchema city = ((JsonObject) user).getChildren()[1].asObject().getChildren()[0];
+        Assert.assertEquals("address.city", address.getChildren()[0].getPath());
+        Assert.assertEquals("user.address.city", city.getPath());
+        Assert.assertEquals(1, ((JsonBasicSchema) city).getValidationRules().size());
+
+        Validator validator = Validator.fromSchema(user);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<ValidationResult>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> Validator.fromSchema(user).check(
+                    "{\"name\":\"a\",\"address\":{\"city\":\"x\"}}")));
+            }
+            for (Future<ValidationResult> result : results) {
+                Assert.assertEquals("user.address.city", result.get().getFirstError().getPath());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"name\":\"a\",\"address\":{\"city\":\"xy\"}}")));
+    }
+
+    @Test
+    public void testFrozenChildOfUnfrozenParent() {
+        JsonSchema address = JsonObject.required("address", JsonString.required("city")).freeze();
+        JsonObject order = JsonObject.required(JsonString.required("name"), address);
+        Validator validator = Validator.fromSchema(order);
+        Assert.assertSame(address, order.getChildren()[1]);
+        Assert.assertNull(address.getParentNode());
+        Assert.assertTrue(validator.isValid("{\"name\":\"a\",\"address\":{\"city\":\"x\"}}"));
+        Assert.assertEquals("address.city", validator.check("{\"name\":\"a\",\"address\":{}}").getFirstError()
+            .getPath());
+        // The shared subtree keeps working in another unfrozen parent
+        Assert.assertFalse(Validator.fromSchema(JsonObject.required(JsonNumber.required("id"), address)).isValid(
+            "{\"id\":1,\"address\":{}}"));
+    }
+
+    @Test
+    public void testCloneAndDerive() {
+        JsonObject base = JsonObject.required("order",
+            JsonObject.required("a", JsonString.required("b"), JsonString.optional("x")),
+            JsonString.required("c"),
+            JsonNumber.required("d").between(1, 5),
+            JsonObject.required("e", JsonString.required("f").withValidator((schema, node) -> node.asText().length() < 4)));
+
+        JsonSchema clone = base.clone();
+        Assert.assertTrue(clone instanceof JsonObject);
+        Assert.assertEquals(base, clone);
+        JsonBasicSchema f = (JsonBasicSchema) clone.asObject().getChildren()[3].asObject().getChildren()[0];
+        Assert.assertEquals(1, f.getValidationRules().size());
+        Assert.assertEquals("order.e.f", f.getPath());
+        f.setRequired(false);
+        Assert.assertTrue(base.getChildren()[3].asObject().getChildren()[0].isRequired());
+
+        JsonSchema derived = base.derive().optional("a.b").remove("c").bounds("d", 1, 10).build();
+        Validator baseValidator = Validator.fromSchema(base);
+        Assert.assertTrue(base.isFrozen() && derived.isFrozen());
+        Assert.assertNotEquals(base, derived);
+        JsonSchema[] baseChildren = base.getChildren();
+        JsonSchema[] derivedChildren = derived.asObject().getChildren();
+        Assert.assertEquals(4, baseChildren.length);
+        Assert.assertEquals(3, derivedChildren.length);
+        // Untouched subtrees and their compiled nodes are shared
+        Assert.assertSame(baseChildren[3], derivedChildren[2]);
+        Assert.assertSame(baseChildren[0].asObject().getChildren()[1], derivedChildren[0].asObject().getChildren()[1]);
+        Assert.assertNotSame(baseChildren[0], derivedChildren[0]);
+        Validator derivedValidator = Validator.fromSchema(derived);
+        Assert.assertSame(baseValidator.getPlan().getNodes().get(6), derivedValidator.getPlan().getNodes().get(5));
+        Assert.assertEquals("order.e", derivedValidator.getPlan().getNodes().get(5).getPath());
+
+        String json = "{\"a\":{},\"d\":8,\"e\":{\"f\":\"abc\"}}";
+        Assert.assertTrue(derivedValidator.isValid(NodeFactory.parser(json)));
+        Assert.assertFalse(baseValidator.isValid(NodeFactory.parser(json)));
+        Assert.assertEquals("order.e.f",
+            derivedValidator.check("{\"a\":{},\"d\":8,\"e\":{\"f\":\"abcd\"}}").getFirstError().getPath());
+        try {
+            base.derive().optional("a.missing");
+            Assert.fail();
+        } catch (IllegalArgumentException expected) {
+        }
+    }
 }
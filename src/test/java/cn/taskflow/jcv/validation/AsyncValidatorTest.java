@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.*;
+import cn.taskflow.jcv.exception.ValidationException;
+import cn.taskflow.jcv.utils.AsyncExecutors;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class AsyncValidatorTest {
+    private static Validator validator(CustomValidationRule rule) {
+        return Validator.fromSchema(JsonObject.required(JsonString.required("name").setMax(5).withValidator(rule),
+            JsonNumber.optional("age").between(1, 100)));
+    }
+
+    @Test
+    public void testValidateAndExtractAsync() throws Exception {
+        Validator validator = validator((schema, node) -> true);
+        String valid = "{\"name\":\"Tom\",\"age\":10,\"other\":1}";
+        String invalid = "{\"name\":\"Tom-Jerry\",\"age\":0}";
+        Assert.assertTrue(validator.validateAsync(valid).get().isValid());
+        Assert.assertEquals(2, validator.validateAsync(invalid).get().getErrors().size());
+        Assert.assertEquals(2, validator.validateAsync(invalid.getBytes(StandardCharsets.UTF_8)).get().getErrors()
+            .size());
+        Assert.assertTrue(validator.validateAsync(new ByteArrayInputStream(valid.getBytes(StandardCharsets.UTF_8)))
+            .get().isValid());
+        Map<String, Object> data = validator.extractAsync(valid).get();
+        Assert.assertEquals(2, data.size());
+        Assert.assertFalse(data.containsKey("other"));
+        try {
+            validator.extractAsync(invalid).get();
+            Assert.fail();
+        } catch (ExecutionException e) {
+            Assert.assertTrue(e.getCause() instanceof ValidationException);
+            Assert.assertEquals("`name` less than or equal to character size 5", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void testBoundedConcurrency() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        Validator validator = validator((schema, node) -> {
+            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            running.decrementAndGet();
+            return true;
+        });
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            validator.setAsyncExecutor(pool, 2);
+            List<CompletableFuture<ValidationResult>> futures = new ArrayList<>();
+            for (int i = 0; i < 40; i++) {
+                futures.add(validator.validateAsync("{\"name\":\"n" + i % 10 + "\"}"));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(10, TimeUnit.SECONDS);
+            for (CompletableFuture<ValidationResult> future : futures) {
+                Assert.assertTrue(future.get().isValid());
+            }
+            Assert.assertTrue(String.valueOf(peak.get()), peak.get() <= 2);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testDefaultExecutor() {
+        boolean virtual;
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            virtual = true;
+        } catch (NoSuchMethodException e) {
+            virtual = false;
+        }
+        Assert.assertEquals(virtual, AsyncExecutors.isVirtualThreadSupported());
+        AsyncExecutors.BoundedExecutor bounded = (AsyncExecutors.BoundedExecutor) AsyncExecutors.bounded(
+            Runnable::run, 3);
+        Assert.assertEquals(3, bounded.getMaxConcurrency());
+        bounded.execute(() -> Assert.assertEquals(1, bounded.getRunning()));
+        Assert.assertEquals(0, bounded.getRunning());
+        Assert.assertEquals(0, bounded.getQueued());
+    }
+
+    @Test
+    public void testSharedDefaultExecutor() {
+        Validator first = validator((schema, node) -> true);
+        Validator second = validator((schema, node) -> true);
+        // The default limit holds for the process, not for each validator
+        Assert.assertSame(first.getAsyncExecutor(), second.getAsyncExecutor());
+        Assert.assertEquals(Validator.DEFAULT_ASYNC_CONCURRENCY,
+            ((AsyncExecutors.BoundedExecutor) first.getAsyncExecutor()).getMaxConcurrency());
+        second.setAsyncExecutor(AsyncExecutors.defaultExecutor(), 2);
+        Assert.assertNotSame(first.getAsyncExecutor(), second.getAsyncExecutor());
+        Assert.assertEquals(2, ((AsyncExecutors.BoundedExecutor) second.getAsyncExecutor()).getMaxConcurrency());
+    }
+
+    @Test
+    public void testBoundedRejection() {
+        List<Runnable> accepted = new ArrayList<>();
+        boolean[] reject = { false };
+        Executor delegate = task -> {
+            if (reject[0]) {
+                throw new RejectedExecutionException();
+            }
+            accepted.add(task);
+        };
+        AsyncExecutors.BoundedExecutor bounded = (AsyncExecutors.BoundedExecutor) AsyncExecutors.bounded(delegate,
+            1);
+        AtomicInteger done = new AtomicInteger();
+        bounded.execute(done::incrementAndGet);
+        bounded.execute(done::incrementAndGet);
+        Assert.assertEquals(1, bounded.getQueued());
+        // The queued task is rejected while the first one completes on a worker: it is kept, not thrown there
+        reject[0] = true;
+        accepted.remove(0).run();
+        Assert.assertEquals(1, done.get());
+        Assert.assertEquals(0, bounded.getRunning());
+        Assert.assertEquals(1, bounded.getQueued());
+        // The submitter of a rejected task gets the exception, the earlier task stays queued
+        try {
+            bounded.execute(done::incrementAndGet);
+            Assert.fail();
+        } catch (RejectedExecutionException expected) {
+        }
+        Assert.assertEquals(1, bounded.getQueued());
+        reject[0] = false;
+        bounded.execute(done::incrementAndGet);
+        accepted.remove(0).run();
+        accepted.remove(0).run();
+        Assert.assertEquals(3, done.get());
+        Assert.assertEquals(0, bounded.getQueued());
+        Assert.assertTrue(accepted.isEmpty());
+    }
+}
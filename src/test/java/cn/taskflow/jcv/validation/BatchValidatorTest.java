@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class BatchValidatorTest {
+    private static Validator validator() {
+        return Validator.fromSchema(JsonObject.required(
+        //
+            JsonString.required("event").setMax(8), //
+            JsonNumber.required("ts").between(0, 100000), //
+            JsonArray.optional("tags", JsonString.ofNonNull())));
+    }
+
+    private static String record(int i) {
+        switch (i % 7) {
+            case 1:
+                return "{\"event\":\"too-long-name\",\"ts\":" + i + "}";
+            case 3:
+                return "{\"event\":\"click\",\"ts\":-" + i + ",\"tags\":[{}]}";
+            case 5:
+                return "{\"event\":\"click\",\"ts\":";
+            default:
+                return "{\"event\":\"click\",\"ts\":" + i + ",\"tags\":[\"a\",\"中文\"]}";
+        }
+    }
+
+    @Test
+    public void testListAndStream() {
+        Validator validator = validator();
+        List<String> records = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            records.add(record(i));
+        }
+        records.add(null);
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            BatchValidator batch = validator.batch(pool, 3);
+            BatchResult result = batch.validate(records);
+            Assert.assertEquals(records.size(), result.getRecords().size());
+            for (int i = 0; i < records.size(); i++) {
+                RecordResult record = result.getRecords().get(i);
+                Assert.assertEquals(i, record.getIndex());
+                Assert.assertEquals(validator.check(records.get(i) == null ? "" : records.get(i)).toString(), record
+                    .getResult().toString());
+            }
+            Assert.assertEquals(ValidationError.Code.MISSING, result.getRecords().get(1000).getErrors().get(0)
+                .getCode());
+            Assert.assertEquals(ValidationError.Code.MALFORMED_JSON, result.getRecords().get(5).getErrors().get(0)
+                .getCode());
+            Assert.assertEquals(2, result.getRecords().get(3).getErrors().size());
+            BatchStats stats = result.getStats();
+            Assert.assertEquals(1001, stats.getRecords());
+            Assert.assertEquals(result.getInvalidRecords().size(), stats.getInvalidRecords());
+            Assert.assertEquals(1001 - 430, stats.getValidRecords());
+            Assert.assertFalse(result.isAllValid());
+
+            BatchResult streamed = batch.validate(records.stream().limit(10));
+            Assert.assertEquals(10, streamed.getRecords().size());
+            Assert.assertEquals(1011, batch.getStats().getRecords());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNdjson() {
+        Validator validator = validator();
+        StringBuilder ndjson = new StringBuilder();
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            lines.add(record(i));
+            ndjson.append(record(i)).append(i % 2 == 0 ? "\n" : "\r\n");
+            if (i % 100 == 0) {
+                ndjson.append("  \n\n");
+            }
+        }
+        ndjson.append("{\"event\":\"last\",\"ts\":1}");
+        lines.add("{\"event\":\"last\",\"ts\":1}");
+        byte[] bytes = ndjson.toString().getBytes(StandardCharsets.UTF_8);
+        for (BatchValidator batch : Arrays.asList(validator.batch(), validator.batch(Runnable::run, 1))) {
+            BatchResult result = batch.validateNdjson(new ByteArrayInputStream(bytes));
+            Assert.assertEquals(lines.size(), result.getRecords().size());
+            for (int i = 0; i < lines.size(); i++) {
+                Assert.assertEquals(validator.check(lines.get(i)).toString(), result.getRecords().get(i).getResult()
+                    .toString());
+            }
+            Assert.assertEquals(bytes.length, result.getStats().getBytes());
+            Assert.assertTrue(result.getStats().getElapsedNanos() > 0);
+        }
+        Assert.assertEquals(0, validator.batch().validateNdjson(new ByteArrayInputStream(new byte[0])).getRecords()
+            .size());
+    }
+
+    @Test
+    public void testTrailingContent() {
+        Validator validator = validator();
+        List<String> records = Arrays.asList("{\"event\":\"a\",\"ts\":1} garbage",
+            "{\"event\":\"a\",\"ts\":1}{\"b\":\"x\"}", "{\"event\":\"a\",\"ts\":1}  ");
+        byte[] ndjson = String.join("\n", records).getBytes(StandardCharsets.UTF_8);
+        for (BatchResult result : Arrays.asList(validator.batch().validate(records),
+            validator.batch().validateNdjson(new ByteArrayInputStream(ndjson)))) {
+            Assert.assertEquals(3, result.getRecords().size());
+            for (int i = 0; i < 2; i++) {
+                Assert.assertEquals(ValidationError.Code.MALFORMED_JSON, result.getRecords().get(i).getErrors().get(0)
+                    .getCode());
+                Assert.assertEquals(validator.check(records.get(i)).toString(), result.getRecords().get(i).getResult()
+                    .toString());
+            }
+            Assert.assertTrue(result.getRecords().get(2).isValid());
+        }
+    }
+
+    @Test
+    public void testSink() {
+        Validator validator = validator();
+        List<Long> invalid = new ArrayList<>();
+        BatchStats stats = validator.batch().validate(Arrays.asList(record(0), record(1), record(2)).iterator(),
+            record -> {
+                if (!record.isValid()) {
+                    invalid.add(record.getIndex());
+                }
+            });
+        Assert.assertEquals(Arrays.asList(1L), invalid);
+        Assert.assertEquals(3, stats.getRecords());
+        Assert.assertEquals(1, stats.getInvalidRecords());
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonString;
+import com.fasterxml.jackson.annotation.JsonAlias;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static cn.taskflow.jcv.validation.ValidationErrors.error;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class EnumValidationTest {
+    enum Status {
+        @JsonProperty("on")
+        @JsonAlias({ "enabled", "开启" })
+        ON, //
+        @JsonProperty("off")
+        OFF, //
+        UNKNOWN
+    }
+
+    @Test
+    public void testNames() {
+        EnumValidation validation = EnumValidation.of(TimeUnit.class);
+        for (TimeUnit unit : TimeUnit.values()) {
+            Assert.assertTrue(validation.matches(unit.name()));
+        }
+        Assert.assertFalse(validation.matches("seconds"));
+        Assert.assertFalse(validation.matches(""));
+        Assert.assertEquals(EnumValidation.of(TimeUnit.values()), validation);
+        Assert.assertNotEquals(EnumValidation.of(TimeUnit.class, EnumValidation.Option.IGNORE_CASE), validation);
+    }
+
+    @Test
+    public void testIgnoreCase() {
+        EnumValidation validation = EnumValidation.of(TimeUnit.class, EnumValidation.Option.IGNORE_CASE);
+        Assert.assertTrue(validation.matches("seconds"));
+        Assert.assertTrue(validation.matches("MilliSeconds"));
+        Assert.assertTrue(validation.matches("DAYS".toCharArray(), 0, 4));
+        byte[] bytes = "xdaysx".getBytes(StandardCharsets.UTF_8);
+        Assert.assertTrue(validation.matches(bytes, 1, 4));
+        Assert.assertFalse(validation.matches(bytes, 0, 4));
+        // Kelvin sign folds onto 'k' like String#equalsIgnoreCase
+        EnumValidation k = EnumValidation.of(new Object[] { "k" });
+        Assert.assertFalse(k.matches("K"));
+        Assert.assertTrue(EnumValidation.of(Status.class, EnumValidation.Option.IGNORE_CASE).matches("unknown"));
+    }
+
+    @Test
+    public void testJsonNames() {
+        EnumValidation validation = EnumValidation.of(Status.class, EnumValidation.Option.JSON_NAMES);
+        for (String name : new String[] { "on", "enabled", "开启", "off", "UNKNOWN" }) {
+            Assert.assertTrue(name, validation.matches(name));
+            char[] chars = ("[" + name + "]").toCharArray();
+            Assert.assertTrue(name, validation.matches(chars, 1, name.length()));
+            byte[] bytes = ("[" + name + "]").getBytes(StandardCharsets.UTF_8);
+            Assert.assertTrue(name, validation.matches(bytes, 1, bytes.length - 2));
+        }
+        Assert.assertFalse(validation.matches("ON"));
+        Assert.assertFalse(validation.matches("开"));
+        Assert.assertFalse(validation.matches("开启".getBytes(StandardCharsets.UTF_8), 0, 3));
+    }
+
+    @Test
+    public void testStreamingSameAsTree() {
+        Validator validator = Validator.fromSchema(JsonObject.required(
+            JsonString.required("status").inEnum(Status.class, EnumValidation.Option.JSON_NAMES,
+                EnumValidation.Option.IGNORE_CASE).setMax(7), //
+            JsonString.optional("unit").inEnum(TimeUnit.class)));
+        String[] cases = { "{'status':'On'}", "{'status':'ENABLED','unit':'DAYS'}", "{'status':'开启'}",
+                "{'status':'ON','unit':'days'}", "{'status':'of'}", "{'status':'unknown1'}",
+                "{'status':'\\u0041'}", "{'status':1}", "{'status':null}" };
+        for (String text : cases) {
+            String json = text.replace('\'', '"');
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            Assert.assertEquals(json, error(() -> validator.validate(json)), error(() -> validator.validate(bytes)));
+            Assert.assertEquals(json, validator.isValid(json), validator.isValid(bytes));
+        }
+        Assert.assertTrue(validator.isValid("{\"status\":\"Enabled\",\"unit\":\"SECONDS\"}"
+            .getBytes(StandardCharsets.UTF_8)));
+        Assert.assertFalse(validator.isValid("{\"status\":\"OFFLINE\"}".getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonNumber;
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonString;
+import cn.taskflow.jcv.encode.NodeFactory;
+import cn.taskflow.jcv.exception.ValidationException;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Random;
+import java.util.stream.Stream;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class KeyFileValidationTest {
+    private Path directory;
+
+    @Before
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("jcv-keys");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        }
+    }
+
+    @Test
+    public void testLongKeys() throws IOException {
+        Random random = new Random(7);
+        long[] keys = new long[200_000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(50_000_000) * 3L - 20_000_000L;
+        }
+        keys[0] = Long.MIN_VALUE;
+        keys[1] = Long.MAX_VALUE;
+        Path file = directory.resolve("merchants.keys");
+        KeyFileValidation.write(keys, file);
+        KeyFileValidation rule = KeyFileValidation.open(file, 0.01);
+        Assert.assertEquals(Arrays.stream(keys).distinct().count(), rule.size());
+        for (long key : keys) {
+            Assert.assertTrue(rule.contains(key));
+        }
+        long[] sorted = Arrays.stream(keys).distinct().sorted().toArray();
+        for (int i = 0; i < 10_000; i++) {
+            long key = random.nextInt(50_000_000) * 3L - 20_000_000L + 1;
+            Assert.assertEquals(Arrays.binarySearch(sorted, key) >= 0, rule.contains(key));
+        }
+
+        Validator validator = Validator.fromSchema(JsonObject.required(JsonNumber.required("merchantId").withValidator(
+            rule)));
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"merchantId\":" + keys[2] + "}")));
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"merchantId\":\"" + keys[2] + "\"}")));
+        Assert.assertFalse(validator.isValid(NodeFactory.parser("{\"merchantId\":" + (keys[2] + 1) + "}")));
+        try {
+            validator.validate("{\"merchantId\":" + (keys[2] + 1) + "}");
+            Assert.fail();
+        } catch (ValidationException e) {
+            Assert.assertEquals("Invalid parameter `merchantId`", e.getMessage());
+        }
+
+        // The nightly rebuild replaces the file, validators pick it up without being rebuilt
+        KeyFileValidation.write(new long[] { keys[2] + 1 }, file);
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"merchantId\":" + keys[2] + "}")));
+        rule.reload();
+        Assert.assertEquals(1, rule.size());
+        Assert.assertFalse(validator.isValid(NodeFactory.parser("{\"merchantId\":" + keys[2] + "}")));
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"merchantId\":" + (keys[2] + 1) + "}")));
+    }
+
+    @Test
+    public void testTextKeys() throws IOException {
+        Path file = directory.resolve("sku.keys");
+        KeyFileValidation.write(Arrays.asList("SKU-0003", "SKU-0001", "商品-9", "SKU-0002", "SKU-0001", "A"), 12, file);
+        KeyFileValidation rule = KeyFileValidation.open(file);
+        Assert.assertEquals(5, rule.size());
+        for (String key : new String[] { "A", "SKU-0001", "SKU-0002", "SKU-0003", "商品-9" }) {
+            Assert.assertTrue(key, rule.contains(key));
+        }
+        for (String key : new String[] { "", "B", "SKU-000", "SKU-00011", "SKU-0004", "a-very-long-stock-key" }) {
+            Assert.assertFalse(key, rule.contains(key));
+        }
+        Validator validator = Validator.fromSchema(JsonObject.required(JsonString.required("sku").withValidator(rule)));
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"sku\":\"商品-9\"}")));
+        Assert.assertFalse(validator.isValid(NodeFactory.parser("{\"sku\":\"商品-8\"}")));
+
+        Path next = directory.resolve("sku-next.keys");
+        KeyFileValidation.write(Arrays.asList("B"), 12, next);
+        rule.swap(next);
+        Assert.assertEquals(next, rule.getFile());
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"sku\":\"B\"}")));
+        Assert.assertFalse(validator.isValid(NodeFactory.parser("{\"sku\":\"A\"}")));
+        try {
+            KeyFileValidation.write(Arrays.asList("a-very-long-stock-key"), 12, next);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Key exceeds 12 bytes: 'a-very-long-stock-key'", e.getMessage());
+        }
+        try {
+            rule.swap(directory.resolve("missing.keys"));
+            Assert.fail();
+        } catch (IOException e) {
+            Assert.assertEquals(next, rule.getFile());
+        }
+    }
+}
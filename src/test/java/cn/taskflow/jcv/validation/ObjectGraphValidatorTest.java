@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.*;
+import cn.taskflow.jcv.encode.BeanAccessor;
+import cn.taskflow.jcv.encode.NodeFactory;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.util.*;
+
+import static cn.taskflow.jcv.validation.ValidationErrors.error;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class ObjectGraphValidatorTest {
+    public enum Level {
+        LOW, HIGH
+    }
+
+    public static class Item {
+        public Integer itemId;
+        public String  title;
+
+        public Item(Integer itemId, String title) {
+            this.itemId = itemId;
+            this.title = title;
+        }
+    }
+
+    public static class Tagged {
+        @JsonProperty("item_title")
+        public String title = "x";
+    }
+
+    public static class Order {
+        private String             orderName;
+        private BigDecimal         amount;
+        private boolean            paid;
+        private Boolean            vip;
+        private Level              level;
+        private List<Item>         items;
+        private long[]             ids;
+        private Date               createTime;
+        public Map<String, Object> extra;
+        public Tagged              tagged;
+
+        public String getOrderName() {
+            return orderName;
+        }
+
+        public BigDecimal getAmount() {
+            return amount;
+        }
+
+        public boolean isPaid() {
+            return paid;
+        }
+
+        public Boolean isVip() {
+            return vip;
+        }
+
+        public Level getLevel() {
+            return level;
+        }
+
+        public List<Item> getItems() {
+            return items;
+        }
+
+        public long[] getIds() {
+            return ids;
+        }
+
+        public Date getCreateTime() {
+            return createTime;
+        }
+    }
+
+    private static Order order() {
+        Order order = new Order();
+        order.orderName = "Tom";
+        order.amount = new BigDecimal("12.50");
+        order.paid = true;
+        order.vip = Boolean.FALSE;
+        order.level = Level.HIGH;
+        order.items = Arrays.asList(new Item(1, "a"), new Item(2, null));
+        order.ids = new long[] { 1, 2 };
+        order.createTime = new Date(1000L);
+        order.extra = new HashMap<>();
+        order.extra.put("code", "C1");
+        order.tagged = new Tagged();
+        return order;
+    }
+
+    private static Validator validator(boolean camelCase) {
+        String itemId = camelCase ? "itemId" : "item_id";
+        return Validator.fromSchema(JsonObject.required(
+            //
+            JsonString.required(camelCase ? "orderName" : "order_name").setMax(5), //
+            JsonNumber.required("amount").between(1, 100), //
+            JsonBoolean.required("paid"), //
+            JsonBoolean.required("vip"), //
+            JsonString.required("level").inEnum(Level.class), //
+            JsonArray.required("items",
+                JsonObject.required(JsonNumber.required(itemId).between(1, 9), JsonString.optional("title"))), //
+            JsonArray.required("ids", JsonNumber.ofNonNull().setMax(10)), //
+            JsonNumber.optional(camelCase ? "createTime" : "create_time").setMax(2000), //
+            JsonObject.optional("extra", JsonString.required("code")), //
+            JsonObject.optional("tagged", JsonString.required("item_title"))));
+    }
+
+    @Test
+    public void testBeanAccessor() {
+        BeanAccessor camel = BeanAccessor.of(Order.class, PropertyNamingStrategies.LOWER_CAMEL_CASE);
+        BeanAccessor snake = BeanAccessor.of(Order.class, PropertyNamingStrategies.SNAKE_CASE);
+        Assert.assertTrue(camel.isSupported());
+        Assert.assertSame(camel, BeanAccessor.of(Order.class, PropertyNamingStrategies.LOWER_CAMEL_CASE));
+        Assert.assertTrue(camel.getPropertyNames().contains("orderName"));
+        Assert.assertTrue(snake.getPropertyNames().contains("order_name"));
+        Assert.assertTrue(camel.getPropertyNames().contains("paid"));
+        // Jackson also reads an is-getter returning Boolean
+        Assert.assertTrue(camel.getPropertyNames().contains("vip"));
+        Assert.assertEquals("Tom", camel.get(order(), "orderName"));
+        Assert.assertSame(BeanAccessor.ABSENT, camel.get(order(), "none"));
+        Assert.assertFalse(BeanAccessor.of(Tagged.class, null).isSupported());
+        Assert.assertFalse(BeanAccessor.of(Date.class, null).isSupported());
+    }
+
+    @Test
+    public void testSameResultAsSerialization() {
+        List<Runnable> mutations = Arrays.asList(() -> {
+        }, () -> order.orderName = "Tom-Jerry", () -> order.orderName = null, () -> order.amount = new BigDecimal(
+            "100.5"), () -> order.vip = null, () -> order.level = null, () -> order.items = new ArrayList<>(),
+            () -> order.items = Arrays.asList(new Item(20, "a")), () -> order.items = Arrays.asList((Item) null),
+            () -> order.ids = new long[] { 11 }, () -> order.createTime = new Date(3000L),
+            () -> order.extra.remove("code"), () -> order.extra.put("code", Arrays.asList(1)),
+            () -> order.tagged.title = null);
+        for (boolean camelCase : new boolean[] { true, false }) {
+            Validator validator = validator(camelCase);
+            for (int i = 0; i < mutations.size(); i++) {
+                order = order();
+                mutations.get(i).run();
+                String expected = error(() -> validator.validate(NodeFactory.getJsonNodeConverter(camelCase)
+                    .convert(order)));
+                Assert.assertEquals(camelCase + ":" + i, expected, error(() -> validator.validate(order, camelCase)));
+            }
+        }
+    }
+
+    private Order order;
+
+    @Test
+    public void testMapAndCollectionRoots() {
+        Validator validator = Validator.fromSchema(JsonObject.required(JsonNumber.required("id").between(1, 5)));
+        validator.validate((Object) Collections.singletonMap("id", 3));
+        Assert.assertEquals("`id` between [1 ~ 5]",
+            error(() -> validator.validate((Object) Collections.singletonMap("id", 7L))));
+        Assert.assertEquals("Missing `id` parameter", error(() -> validator.validate((Object) new HashMap<>())));
+        Assert.assertEquals(error(() -> validator.validate(NodeFactory.convert(Arrays.asList(1, 2)))),
+            error(() -> validator.validate((Object) Arrays.asList(1, 2))));
+    }
+}
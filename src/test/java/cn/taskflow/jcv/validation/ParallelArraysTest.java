@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.*;
+import cn.taskflow.jcv.exception.ValidationException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static cn.taskflow.jcv.validation.ValidationErrors.error;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class ParallelArraysTest {
+    private final Set<String> threads = ConcurrentHashMap.newKeySet();
+
+    private JsonSchema schema() {
+        return JsonObject.required(JsonArray.required("items", JsonObject.required(
+        //
+            JsonNumber.required("id").withValidator((schema, node) -> {
+                threads.add(Thread.currentThread().getName());
+                if (node.asInt() % 1000 == 999) {
+                    throw new ValidationException("bad id " + node.asInt(), schema.getPath());
+                }
+                return true;
+            }), JsonArray.optional("codes", JsonNumber.ofNonNull().between(0, 9)))));
+    }
+
+    private static JsonNode doc(int size, int codes, int... invalid) {
+        ObjectNode root = JsonNodeFactory.instance.objectNode();
+        ArrayNode items = root.putArray("items");
+        for (int i = 0; i < size; i++) {
+            ObjectNode item = items.addObject();
+            item.put("id", i % 1000 == 999 ? i - 1 : i);
+            ArrayNode array = item.putArray("codes");
+            for (int j = 0; j < codes; j++) {
+                array.add(j % 10);
+            }
+        }
+        for (int index : invalid) {
+            ((ObjectNode) items.get(index)).put("id", 999 + index);
+        }
+        return root;
+    }
+
+    @Test
+    public void testFirstFailingIndexWins() {
+        Validator sequential = Validator.fromSchema(schema());
+        ExecutorService pool = Executors.newFixedThreadPool(3);
+        try {
+            Validator parallel = Validator.fromSchema(schema());
+            parallel.setParallelArrays(500, pool);
+            ValidationPlan plan = parallel.getPlan().withParallelArrays(ParallelArrays.of(500, pool, 4));
+            for (int[] invalid : new int[][] { {}, { 7000, 3000 }, { 1 }, { 9999 } }) {
+                JsonNode doc = doc(10000, 0, invalid);
+                String expected = error(() -> sequential.validate(doc));
+                Assert.assertEquals(expected, error(() -> parallel.validate(doc)));
+                Assert.assertEquals(expected, error(() -> plan.validate(DataVerifyHandler.getInstance(), doc)));
+                Assert.assertEquals(sequential.check(doc).toString(), parallel.check(doc).toString());
+                Assert.assertEquals(expected == null, parallel.isValid(doc));
+            }
+            Assert.assertEquals("bad id 3999", error(() -> parallel.validate(doc(10000, 0, 7000, 3000))));
+            Assert.assertTrue(threads.toString(), threads.size() > 1);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testNestedArraysOnSmallPool() {
+        ExecutorService pool = Executors.newFixedThreadPool(1);
+        try {
+            Validator validator = Validator.fromSchema(schema());
+            ValidationPlan plan = validator.getPlan().withParallelArrays(ParallelArrays.of(300, pool, 8));
+            plan.validate(DataVerifyHandler.getInstance(), doc(600, 600));
+            JsonNode doc = doc(600, 600);
+            ((ArrayNode) doc.get("items").get(400).get("codes")).set(500, JsonNodeFactory.instance.numberNode(10));
+            ((ArrayNode) doc.get("items").get(200).get("codes")).set(550, JsonNodeFactory.instance.numberNode(-1));
+            Assert.assertEquals("`items.codes` between [0 ~ 9]",
+                error(() -> plan.validate(DataVerifyHandler.getInstance(), doc)));
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testOptions() {
+        ParallelArrays options = ParallelArrays.of(1000);
+        Assert.assertEquals(1000, options.getThreshold());
+        Assert.assertTrue(options.getParallelism() >= 1);
+        Assert.assertNull(Validator.fromSchema(schema()).getPlan().getParallelArrays());
+        Assert.assertEquals("threshold must be greater than 1", error(() -> ParallelArrays.of(1)));
+    }
+}
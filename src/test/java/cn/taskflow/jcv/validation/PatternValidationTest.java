@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonString;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+import java.util.regex.Pattern;
+
+import static cn.taskflow.jcv.validation.ValidationErrors.error;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class PatternValidationTest {
+    private static final String[] LINEAR   = { "", "abc", "^a.c$", "a*", "(a|b)*abb", "[a-c]+x?", "[^a-c]{2,3}",
+            "\\d{3}-\\d{4}", "\\w+@\\w+\\.com", "\\s*\\S+", "(?:ab|a)(?:bc|c)", "(?<year>\\d{4})-(\\d\\d)",
+            "a{2,}b{0,1}", "x*?y+?", "[\\d_-]+", "[-a]|[a-]", "\\.\\*\\$", "(a*)*b", "(a+)+b", "[\\x41-\\u0043]+",
+            ".+", "a|", "\\t\\n", "[^\\s]\\W", "中文+", "😀.", "(a|ab)(c|bcd)(d*)", "\\\\$", "(a+b*b){2,}",
+            "(\\.+[ab]*b){2,}", "\\S*(a{2,}){2,}\\w{1,3}", "(ab){0,}\\s*([^a]+c??\\D+?-+)?", "((a*b){2,}c+){1,3}",
+            "(a{1,2}(b+){2,}){2}"         };
+    private static final String[] FALLBACK = { "(a)\\1", "(?=a)a", "(?!b)a", "\\bx", "a++", "(?i)abc", "\\p{Alpha}",
+            "[a-z&&[^b]]", "a$b", "\\Qa*\\E" };
+
+    @Test
+    public void testSameResultsAsPattern() {
+        Random random = new Random(7);
+        String alphabet = "abcdxy_-.@ 0129\t\n中文😀ABC\\$*";
+        for (String regex : LINEAR) {
+            PatternValidation validation = PatternValidation.of(regex);
+            Assert.assertTrue(regex, validation.isLinear());
+            Pattern pattern = Pattern.compile(regex);
+            for (int i = 0; i < 2000; i++) {
+                StringBuilder text = new StringBuilder();
+                for (int n = random.nextInt(8); n > 0; n--) {
+                    text.appendCodePoint(alphabet.codePointAt(alphabet.offsetByCodePoints(0,
+                        random.nextInt(alphabet.codePointCount(0, alphabet.length())))));
+                }
+                Assert.assertEquals(regex + " ~ " + text, pattern.matcher(text).matches(), validation.matches(text));
+            }
+        }
+        Assert.assertTrue(PatternValidation.of("\\d{3}-\\d{4}").matches("555-1234"));
+        Assert.assertTrue(PatternValidation.of("\\w+@\\w+\\.com").matches("tom@mail.com"));
+        Assert.assertTrue(PatternValidation.of("😀.").matches("😀😀"));
+        Assert.assertFalse(PatternValidation.of(".").matches("\n"));
+    }
+
+    @Test
+    public void testRandomPatterns() {
+        Random random = new Random(3);
+        for (int i = 0; i < 500; i++) {
+            String regex = randomRegex(random, 3);
+            PatternValidation validation = PatternValidation.of(regex);
+            Assert.assertTrue(regex, validation.isLinear());
+            Pattern pattern = Pattern.compile(regex);
+            for (int j = 0; j < 30; j++) {
+                StringBuilder text = new StringBuilder();
+                for (int n = random.nextInt(10); n > 0; n--) {
+                    text.append("abc.- ".charAt(random.nextInt(6)));
+                }
+                Boolean expected = referenceMatches(pattern, text.toString());
+                if (expected != null) {
+                    Assert.assertEquals(regex + " ~ " + text, expected, validation.matches(text));
+                }
+            }
+        }
+    }
+
+    /**
+     * Pattern result, null when backtracking takes too long to be usable as a reference
+     */
+    private static Boolean referenceMatches(Pattern pattern, String text) {
+        int[] reads = { 0 };
+        CharSequence counted = new CharSequence() {
+            @Override
+            public int length() {
+                return text.length();
+            }
+
+            @Override
+            public char charAt(int index) {
+                if (++reads[0] > 20_000) {
+                    throw new IllegalStateException();
+                }
+                return text.charAt(index);
+            }
+
+            @Override
+            public CharSequence subSequence(int start, int end) {
+                return text.subSequence(start, end);
+            }
+        };
+        try {
+            return pattern.matcher(counted).matches();
+        } catch (IllegalStateException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Random expression with nested groups and counted repeats
+     */
+    private static String randomRegex(Random random, int depth) {
+        StringBuilder regex = new StringBuilder();
+        for (int n = 1 + random.nextInt(3); n > 0; n--) {
+            int kind = random.nextInt(depth > 0 ? 6 : 4);
+            if (kind == 0) {
+                regex.append("abc".charAt(random.nextInt(3)));
+            } else if (kind == 1) {
+                regex
+                    .append(new String[] { "\\.", "[ab]", "[^a]", "\\S", "\\D", "\\s", "\\w", "-" }[random.nextInt(8)]);
+            } else if (kind == 2 || kind == 3) {
+                regex.append(kind == 2 ? "a" : ".");
+                regex.append(new String[] { "*", "+", "?", "{2}", "{1,3}", "{2,}", "{0,}", "+?", "??" }[random
+                    .nextInt(9)]);
+            } else {
+                regex.append('(').append(randomRegex(random, depth - 1));
+                if (kind == 5) {
+                    regex.append('|').append(randomRegex(random, depth - 1));
+                }
+                regex.append(')');
+                regex.append(new String[] { "", "*", "+", "?", "{2}", "{1,2}", "{2,}", "{0,}" }[random.nextInt(8)]);
+            }
+        }
+        return regex.toString();
+    }
+
+    @Test
+    public void testLargeAutomaton() {
+        // The n-th symbol from the end needs 2^n DFA states, so the NFA is simulated
+        LinearRegex regex = LinearRegex.compile("[ab]*a[ab]{12}");
+        Assert.assertFalse(regex.isDeterministic());
+        Pattern pattern = Pattern.compile("[ab]*a[ab]{12}");
+        Random random = new Random(11);
+        for (int i = 0; i < 500; i++) {
+            StringBuilder text = new StringBuilder();
+            for (int n = random.nextInt(30); n > 0; n--) {
+                text.append(random.nextBoolean() ? 'a' : 'b');
+            }
+            Assert.assertEquals(text.toString(), pattern.matcher(text).matches(), regex.matches(text));
+        }
+        Assert.assertTrue(LinearRegex.compile("[ab]*a[ab]{3}").isDeterministic());
+    }
+
+    @Test
+    public void testFallback() {
+        for (String regex : FALLBACK) {
+            Assert.assertFalse(regex, PatternValidation.of(regex).isLinear());
+        }
+        Assert.assertTrue(PatternValidation.of("(a)\\1").matches("aa"));
+        Assert.assertTrue(PatternValidation.of("(?i)abc").matches("ABC"));
+        try {
+            PatternValidation.of("(a");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // PatternSyntaxException
+        }
+    }
+
+    @Test
+    public void testNoCatastrophicBacktracking() {
+        StringBuilder attack = new StringBuilder();
+        for (int i = 0; i < 100_000; i++) {
+            attack.append('a');
+        }
+        attack.append('!');
+        PatternValidation nested = PatternValidation.of("(a+)+b");
+        Assert.assertTrue(nested.isLinear());
+        Assert.assertFalse(nested.matches(attack));
+        Assert.assertTrue(nested.matches("aaab"));
+        // Needs backtracking: the budget stops the match
+        PatternValidation budgeted = PatternValidation.of("(a+)+(?!x)b", 10_000);
+        Assert.assertFalse(budgeted.isLinear());
+        Assert.assertFalse(budgeted.matches(attack.substring(attack.length() - 40)));
+        Assert.assertTrue(budgeted.matches("aaab"));
+    }
+
+    @Test
+    public void testSchema() {
+        JsonString phone = JsonString.required("phone").pattern("1[3-9]\\d{9}");
+        Assert.assertEquals(JsonString.required("phone").pattern("1[3-9]\\d{9}"), phone);
+        Validator validator = Validator.fromSchema(JsonObject.required(phone, //
+            JsonString.optional("code").pattern("([A-Z])\\1\\d+")));
+        String[] cases = { "{'phone':'13800138000'}", "{'phone':'12800138000'}", "{'phone':'138001380001'}",
+                "{'phone':'13800138000','code':'AA12'}", "{'phone':'13800138000','code':'AB12'}",
+                "{'phone':'13800138000','code':null}", "{'phone':null}" };
+        for (String text : cases) {
+            String json = text.replace('\'', '"');
+            byte[] bytes = json.getBytes(StandardCharsets.UTF_8);
+            Assert.assertEquals(json, error(() -> validator.validate(json)), error(() -> validator.validate(bytes)));
+            Assert.assertEquals(json, validator.isValid(json), validator.isValid(bytes));
+        }
+        Assert.assertTrue(validator.isValid("{\"phone\":\"13800138000\",\"code\":\"BB7\"}"));
+        Assert.assertEquals("Invalid parameter `phone`", error(() -> validator.validate("{\"phone\":\"1380\"}")));
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.*;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static cn.taskflow.jcv.validation.ValidationErrors.error;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class StreamingValidatorTest {
+    private Validator buildValidator() {
+        return Validator.fromSchema(JsonObject.required("order", //
+            JsonString.required("name").setMax(5), //
+            JsonNumber.optional("age").between(0, 120), //
+            JsonBoolean.optional("vip"), //
+            JsonObject.optional("ext", JsonString.required("code")).withValidator(
+                (schema, node) -> node == null || node.get("code") == null || node.get("code").asText().startsWith("C")), //
+            JsonArray.required("items", //
+                JsonObject.required(JsonNumber.required("id").between(1, 10), JsonString.optional("title"))), //
+            JsonArray.optional("ids", JsonNumber.ofNonNull().setMax(100))));
+    }
+
+    @Test
+    public void testValid() {
+        Validator validator = buildValidator();
+        String json = "{'name':'Tom','age':18.5,'vip':'1','unknown':{'a':[1,{'b':2}]},'ext':{'code':'C1'},"
+                      + "'items':[{'id':2,'x':[]},{'id':'3','title':null}],'ids':[1,2]}";
+        validator.validate(bytes(json));
+        validator.validate(new ByteArrayInputStream(bytes(json)));
+        validator.validate(new StringReader(json.replace('\'', '"')));
+    }
+
+    @Test
+    public void testSameErrorsAsTree() {
+        String[] cases = { "{'name':'Tom','items':[{'id':20}]}", //
+                "{'name':'Tom-Jerry','items':[{'id':2}]}", //
+                "{'name':'Tom','age':'abc','items':[{'id':2}]}", //
+                "{'name':'Tom','age':1e3,'items':[{'id':2}]}", //
+                "{'name':'Tom','vip':'yes','items':[{'id':2}]}", //
+                "{'name':null,'items':[{'id':2}]}", //
+                "{'items':[{'id':2}]}", //
+                "{'name':'Tom','items':[]}", //
+                "{'name':'Tom','items':[null]}", //
+                "{'name':'Tom','items':[[1]]}", //
+                "{'name':'Tom','items':{}}", //
+                "{'name':{},'items':[{'id':2}]}", //
+                "{'name':'Tom','items':[{'id':2}],'ids':[101]}", //
+                "{'name':'Tom','items':[{'id':2}],'ids':['x']}", //
+                "{'name':'Tom','items':[{'id':2}],'ext':{'code':'D1'}}", //
+                "{'name':'Tom','items':[{'id':2}],'ext':{}}", //
+                "[]", //
+                "null" };
+        Validator validator = buildValidator();
+        for (String json : cases) {
+            String expected = error(() -> validator.validate(json.replace('\'', '"')));
+            Assert.assertNotNull(json, expected);
+            Assert.assertEquals(json, expected, error(() -> validator.validate(bytes(json))));
+        }
+    }
+
+    @Test
+    public void testMalformed() {
+        Validator validator = buildValidator();
+        Assert.assertNotNull(error(() -> validator.validate(bytes("{'name':'Tom','items':[{'id':2}"))));
+        Assert.assertNotNull(error(() -> validator.validate(bytes("{'name':'Tom',"))));
+        Assert.assertEquals("Missing `order` parameter", error(() -> validator.validate(new byte[0])));
+    }
+
+    @Test
+    public void testTrailingContent() {
+        Validator validator = buildValidator();
+        String json = "{'name':'Tom','items':[{'id':2}]}";
+        for (String trailing : new String[] { " garbage", " {}", "]", " 1" }) {
+            String text = json + trailing;
+            Assert.assertNotNull(text, error(() -> validator.validate(bytes(text))));
+            Assert.assertNotNull(text, error(() -> validator.validate(new ByteArrayInputStream(bytes(text)))));
+            Assert.assertNotNull(text, error(() -> validator.validate(new StringReader(text.replace('\'', '"')))));
+            Assert.assertFalse(text, validator.isValid(bytes(text)));
+            Assert.assertEquals(text, ValidationError.Code.MALFORMED_JSON, validator.check(bytes(text))
+                .getFirstError().getCode());
+        }
+        validator.validate(bytes(json + " \n"));
+        Assert.assertTrue(validator.isValid(bytes(json + "\n")));
+        Assert.assertTrue(validator.check(bytes(json + "  ")).isValid());
+    }
+
+    private static byte[] bytes(String json) {
+        return json.replace('\'', '"').getBytes(StandardCharsets.UTF_8);
+    }
+}
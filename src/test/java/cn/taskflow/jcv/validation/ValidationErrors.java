@@ -0,0 +1,44 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+/**
+ * 测试共用的异常消息提取工具，用于比较不同验证路径报告的错误
+ *
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+final class ValidationErrors {
+
+    private ValidationErrors() {
+    }
+
+    /**
+     * 运行给定操作并返回其抛出的异常消息
+     *
+     * @param runnable 验证操作
+     * @return 异常消息，没有消息时为异常类名；未抛出异常时为 null
+     */
+    static String error(Runnable runnable) {
+        try {
+            runnable.run();
+            return null;
+        } catch (RuntimeException e) {
+            return e.getMessage() == null ? e.getClass().getName() : e.getMessage();
+        }
+    }
+}
@@ -0,0 +1,281 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.*;
+import cn.taskflow.jcv.exception.ValidationException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import cn.taskflow.jcv.encode.NodeFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class ValidationPlanTest {
+    private JsonSchema buildSchema() {
+        return JsonObject.required("order", //
+            JsonString.required("name").setMax(5), //
+            JsonNumber.required("age").between(0, 120), //
+            JsonArray.required("items", //
+                JsonObject.required(JsonNumber.required("id").between(1, 10), JsonString.optional("title"))), //
+            JsonArray.required("ids", JsonNumber.ofNonNull().setMax(100)));
+    }
+
+    @Test
+    public void testCompile() {
+        ValidationPlan plan = Validator.fromSchema(buildSchema()).getPlan();
+        List<PlanNode> nodes = plan.getNodes();
+        Assert.assertEquals(9, nodes.size());
+        Assert.assertSame(plan.getRoot(), nodes.get(0));
+        Assert.assertEquals(PlanNode.Kind.OBJECT, plan.getRoot().getKind());
+        Assert.assertEquals("order.items.id", nodes.get(5).getPath());
+        Assert.assertEquals(PlanNode.Kind.NUMBER, nodes.get(8).getKind());
+        Assert.assertEquals("order.ids", nodes.get(8).getPath());
+    }
+
+    @Test
+    public void testNestedArrayFailsOnElements() {
+        // JsonArray refuses an array element, one can still be set up through a generic node
+        JsonAny row = new JsonAny(null, true, null);
+        JsonObject schema = JsonObject.required(JsonArray.optional("matrix", row));
+        row.setDataType(DataType.Array);
+        row.setChildren(new JsonBasicSchema[] { JsonNumber.ofNonNull() });
+        // Compiling succeeds, an element of the nested array is rejected once validated
+        Validator validator = Validator.fromSchema(schema);
+        validator.validate("{\"matrix\":[]}");
+        validator.validate("{}".getBytes(StandardCharsets.UTF_8));
+        Assert.assertTrue(validator.check("{\"matrix\":[]}").isValid());
+        String json = "{\"matrix\":[[1,2]]}";
+        List<Runnable> calls = Arrays.asList(() -> validator.validate(json),
+            () -> validator.validate(json.getBytes(StandardCharsets.UTF_8)),
+            () -> validator.isValid(NodeFactory.parser(json)), () -> validator.check(Collections.singletonMap(
+                "matrix", Collections.singletonList(Arrays.asList(1, 2)))));
+        for (Runnable call : calls) {
+            try {
+                call.run();
+                Assert.fail();
+            } catch (ValidationException e) {
+                Assert.assertTrue(e.getMessage(), e.getMessage().startsWith("Unsupported type: "));
+            }
+        }
+    }
+
+    @Test
+    public void testErrors() {
+        Validator validator = Validator.fromSchema(buildSchema());
+        validator.validate("{'name':'Tom','age':18,'items':[{'id':2}],'ids':[1,2]}".replace('\'', '"'));
+        assertError(validator, "{'name':'Tom','age':18,'items':[{'id':20}],'ids':[1]}",
+            "`order.items.id` between [1 ~ 10]");
+        assertError(validator, "{'name':'Tom','age':18,'items':[{'id':2}],'ids':['x']}",
+            "`order.ids[]` less than or equal to 100");
+        assertError(validator, "{'name':'Tom','age':18,'items':[],'ids':[1]}", "`order.items` parameter error");
+        assertError(validator, "{'name':'Tom','items':[{'id':2}],'ids':[1]}", "Missing `order.age` parameter");
+        assertError(validator, "{'name':'Tom-Jerry','age':18,'items':[{'id':2}],'ids':[1]}",
+            "`order.name` less than or equal to character size 5");
+    }
+
+    @Test
+    public void testNumberLanes() throws Exception {
+        Validator validator = Validator.fromSchema(JsonObject.required(JsonNumber.required("n").between(1.5, 1e5),
+            JsonNumber.optional("big")));
+        ObjectMapper decimals = new ObjectMapper().enable(DeserializationFeature.USE_BIG_DECIMAL_FOR_FLOATS);
+        String[] valid = { "2", "1e5", "1.5", "\"1e5\"", "\"99999\"", "99999.99", "1E+2" };
+        String[] outOfRange = { "1", "1.49", "100001", "1e6", "\"1e6\"", "-9223372036854775808",
+                "123456789012345678901234567890" };
+        for (String n : valid) {
+            String json = "{\"n\":" + n + ",\"big\":123456789012345678901234567890}";
+            validator.validate(json);
+            Assert.assertTrue(json, validator.isValid(decimals.readTree(json)));
+            Assert.assertTrue(json, validator.isValid(new ObjectMapper().readTree(json)));
+        }
+        for (String n : outOfRange) {
+            String json = "{\"n\":" + n + "}";
+            assertError(validator, json, "`n` between [1.5 ~ 100000.0]");
+            Assert.assertEquals(json, ValidationError.Code.OUT_OF_RANGE, validator.check(decimals.readTree(json))
+                .getFirstError().getCode());
+        }
+        Assert.assertEquals(ValidationError.Code.INVALID_FORMAT, validator.check("{\"n\":\"1e5x\"}").getFirstError()
+            .getCode());
+        Map<String, Object> data = new HashMap<>();
+        data.put("n", 100000L);
+        Assert.assertTrue(validator.isValid(data));
+        data.put("n", 1);
+        Assert.assertFalse(validator.isValid(data));
+        data.put("n", 1.5D);
+        Assert.assertTrue(validator.isValid(data));
+    }
+
+    @Test
+    public void testFieldIndex() {
+        for (int size : new int[] { 1, 5, 32, 150 }) {
+            String[] names = new String[size];
+            for (int i = 0; i < size; i++) {
+                names[i] = "field_" + i;
+            }
+            FieldIndex index = FieldIndex.of(names);
+            Assert.assertEquals(size <= 32, index.isPerfect());
+            for (int i = 0; i < size; i++) {
+                Assert.assertEquals(i, index.indexOf(names[i]));
+                Assert.assertEquals(i, index.indexOf(new String(names[i].toCharArray())));
+            }
+            Assert.assertEquals(-1, index.indexOf("field_" + size));
+            Assert.assertEquals(-1, index.indexOf(""));
+        }
+        Assert.assertEquals(0, FieldIndex.of(new String[] { "a", "b", "a" }).indexOf("a"));
+        Assert.assertEquals(-1, FieldIndex.EMPTY.indexOf("a"));
+    }
+
+    @Test
+    public void testExtractPrunesUndeclaredFields() {
+        Validator validator = Validator.fromSchema(buildSchema());
+        Map<String, Object> data = validator.extract("{'name':'Tom','age':18,'x':1,'items':[{'id':2,'y':[1]},{'id':3}],'ids':[1]}"
+            .replace('\'', '"'));
+        Assert.assertEquals(4, data.size());
+        Assert.assertEquals("[{\"id\":2},{\"id\":3}]", data.get("items").toString());
+        List<String> unknown = new ArrayList<>();
+        validator.setUnknownNodeFilter((name, parent) -> unknown.add(name));
+        validator.extract("{'name':'Tom','age':18,'x':1,'items':[{'id':2,'y':[1]}],'ids':[1]}".replace('\'', '"'));
+        Assert.assertEquals(Arrays.asList("x", "y"), unknown);
+    }
+
+    @Test
+    public void testValidateAndExtract() {
+        Validator validator = Validator.fromSchema(buildSchema()).setParallelArrays(2);
+        String json = "{'name':'Tom','age':18,'x':{'a':1},'items':[{'id':2,'y':[1]},{'id':3,'title':'t'}],'ids':[1]}"
+            .replace('\'', '"');
+        String expected = validator.validate(json).extract(json).toString();
+        Assert.assertEquals(expected, validator.validateAndExtract(json).toString());
+        Assert.assertEquals(expected, validator.validateAndExtract(json.getBytes(StandardCharsets.UTF_8)).toString());
+        Assert.assertEquals(expected,
+            validator.validateAndExtract(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))).toString());
+        JsonNode tree = NodeFactory.parser(json);
+        Assert.assertEquals(expected, validator.validateAndExtract(tree).toString());
+        Assert.assertFalse(tree.has("x"));
+        Assert.assertFalse(tree.get("items").get(0).has("y"));
+        try {
+            validator.validateAndExtract(json.replace("\"id\":3", "\"id\":30"));
+            Assert.fail();
+        } catch (ValidationException e) {
+            Assert.assertEquals("`order.items.id` between [1 ~ 10]", e.getMessage());
+        }
+        List<String> unknown = new ArrayList<>();
+        validator.setUnknownNodeFilter((name, parent) -> unknown.add(name));
+        Assert.assertEquals(5, validator.validateAndExtract(json).size());
+        Assert.assertEquals(Arrays.asList("y", "x"), unknown);
+    }
+
+    @Test
+    public void testProjectLeavesInputUntouched() {
+        Validator validator = Validator.fromSchema(buildSchema());
+        String json = "{'name':'Tom','age':18,'x':1,'items':[{'id':2},{'id':3,'y':{}},{'id':4}],'ids':[1,2]}"
+            .replace('\'', '"');
+        JsonNode tree = NodeFactory.parser(json);
+        JsonNode original = tree.deepCopy();
+        Map<String, Object> data = validator.project(tree);
+        Assert.assertEquals(original, tree);
+        Assert.assertEquals(validator.extract(json).toString(), data.toString());
+        JsonNode items = (JsonNode) data.get("items");
+        Assert.assertNotSame(tree.get("items"), items);
+        Assert.assertSame(tree.get("items").get(0), items.get(0));
+        Assert.assertNotSame(tree.get("items").get(1), items.get(1));
+        Assert.assertSame(tree.get("items").get(2), items.get(2));
+        Assert.assertSame(tree.get("ids"), data.get("ids"));
+
+        JsonNode clean = NodeFactory.parser("{'name':'Tom','age':18,'items':[{'id':2}],'ids':[1]}".replace('\'', '"'));
+        Assert.assertSame(clean.get("items"), validator.project(clean).get("items"));
+        List<String> unknown = new ArrayList<>();
+        validator.setUnknownNodeFilter((name, parent) -> unknown.add(name));
+        Assert.assertEquals(5, validator.project(tree).size());
+        Assert.assertEquals(Arrays.asList("y", "x"), unknown);
+        Assert.assertEquals(original, tree);
+    }
+
+    private void assertError(Validator validator, String json, String message) {
+        try {
+            validator.validate(json.replace('\'', '"'));
+            Assert.fail("未出现逾期结果");
+        } catch (ValidationException e) {
+            Assert.assertEquals(message, e.getMessage());
+        }
+    }
+
+    @Test
+    public void testAdaptiveOrdering() {
+        CustomValidationRule even = (schema, node) -> node.asInt() % 2 == 0;
+        CustomValidationRule small = (schema, node) -> node.asInt() < 10;
+        Validator validator = Validator.fromSchema(JsonObject.required("order", //
+            JsonString.required("name").setMax(5), //
+            JsonArray.required("items", JsonObject.required(JsonNumber.required("id").between(1, 10))), //
+            JsonNumber.required("code").withValidator(even).withValidator(small), //
+            JsonString.required("status").setMax(3)));
+        ValidationPlan declared = validator.getPlan();
+        Assert.assertSame(declared, validator.getFailFastPlan());
+        validator.setAdaptiveOrdering(1);
+        Assert.assertEquals("name", validator.getFailFastPlan().getRoot().getChildren()[0].getName());
+
+        // Invalid traffic mostly fails on `status` and on the second rule of `code`
+        String badStatus = "{'name':'Tom','items':[{'id':2}],'code':2,'status':'unknown'}".replace('\'', '"');
+        String bigCode = "{'name':'Tom','items':[{'id':2}],'code':12,'status':'ok'}".replace('\'', '"');
+        String valid = "{'name':'Tom','items':[{'id':2}],'code':2,'status':'ok'}".replace('\'', '"');
+        for (int i = 0; i < 200; i++) {
+            Assert.assertFalse(validator.isValid(NodeFactory.parser(badStatus)));
+            Assert.assertFalse(validator.isValid(NodeFactory.parser(bigCode)));
+            Assert.assertTrue(validator.isValid(NodeFactory.parser(valid)));
+        }
+        ValidationPlan adaptive = validator.getFailFastPlan();
+        Assert.assertNotSame(declared, adaptive);
+        PlanNode[] children = adaptive.getRoot().getChildren();
+        // Failing checks first, ranked by failure rate per cost; checks which never fail keep declaration order
+        Assert.assertEquals(new HashSet<>(Arrays.asList("status", "code")), new HashSet<>(Arrays.asList(children[0]
+            .getName(), children[1].getName())));
+        Assert.assertEquals(Arrays.asList("name", "items"), Arrays.asList(children[2].getName(), children[3]
+            .getName()));
+        PlanNode code = children[adaptive.getRoot().indexOf("code")];
+        Assert.assertSame(small, code.rules[0]);
+        Assert.assertSame(even, code.rules[1]);
+        Assert.assertEquals("order.items.id", adaptive.getNodes().get(6).getPath());
+
+        // Errors are still reported in declaration order
+        Assert.assertEquals(Arrays.asList("order.name", "order.status"), pathsOf(validator.check(
+            "{'name':'Thomas','items':[{'id':2}],'code':2,'status':'unknown'}".replace('\'', '"'))));
+        Assert.assertSame(declared, validator.getPlan());
+        Assert.assertTrue(validator.isValid(valid));
+        Assert.assertFalse(validator.isValid(bigCode));
+    }
+
+    private static List<String> pathsOf(ValidationResult result) {
+        List<String> paths = new ArrayList<>();
+        for (ValidationError error : result.getErrors()) {
+            paths.add(error.getPath());
+        }
+        return paths;
+    }
+}
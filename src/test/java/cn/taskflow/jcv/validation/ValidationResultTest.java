@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.*;
+import cn.taskflow.jcv.encode.NodeFactory;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static cn.taskflow.jcv.validation.ValidationErrors.error;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class ValidationResultTest {
+    private static Validator validator() {
+        return Validator.fromSchema(JsonObject.required(
+            //
+            JsonString.required("name").setMax(5), //
+            JsonNumber.required("age").between(1, 100), //
+            JsonBoolean.optional("vip"), //
+            JsonArray.required("tags", JsonString.ofNonNull()), //
+            JsonObject.optional("address", JsonString.required("city"), //
+                JsonNumber.optional("zip").withValidator((schema, node) -> node == null || node.asInt() > 0))));
+    }
+
+    private static final List<String> DOCS = Arrays
+                                               .asList(
+                                                   "{\"name\":\"Tom\",\"age\":10,\"tags\":[\"a\"]}",
+                                                   "{\"name\":\"Tom-Jerry\",\"age\":10,\"tags\":[\"a\"]}",
+                                                   "{\"age\":10,\"tags\":[\"a\"]}",
+                                                   "{\"name\":\"Tom\",\"age\":\"x\",\"tags\":[\"a\"]}",
+                                                   "{\"name\":\"Tom\",\"age\":200,\"tags\":[]}",
+                                                   "{\"name\":\"Tom\",\"age\":20,\"vip\":\"yes\",\"tags\":[\"a\"]}",
+                                                   "{\"name\":{},\"age\":20,\"tags\":[null]}",
+                                                   "{\"name\":\"Tom\",\"age\":20,\"tags\":[\"a\"],\"address\":{\"zip\":-1}}",
+                                                   "{\"name\":\"Tom\",\"age\":20,\"tags\":[\"a\"],\"address\":{\"city\":\"c\",\"zip\":-1}}",
+                                                   "[]", "null");
+
+    @Test
+    public void testFirstErrorMatchesException() {
+        Validator validator = validator();
+        for (String doc : DOCS) {
+            String expected = error(() -> validator.validate(doc));
+            String streamed = error(() -> validator.validate(doc.getBytes(StandardCharsets.UTF_8)));
+            ValidationResult tree = validator.check(NodeFactory.parser(doc));
+            ValidationResult stream = validator.check(doc);
+            Assert.assertEquals(doc, expected == null, tree.isValid());
+            Assert.assertEquals(doc, expected == null, stream.isValid());
+            Assert.assertEquals(doc, expected == null, validator.isValid(doc));
+            Assert.assertEquals(doc, expected == null, validator.isValid(NodeFactory.parser(doc)));
+            if (expected != null) {
+                Assert.assertEquals(doc, expected, tree.getFirstError().getMessage());
+                Assert.assertEquals(doc, streamed, stream.getFirstError().getMessage());
+            }
+            // The token stream reports missing members at the end of their object, the tree in schema order
+            Assert.assertEquals(doc, sorted(tree), sorted(stream));
+        }
+    }
+
+    @Test
+    public void testValueRangeRules() {
+        Validator validator = Validator.fromSchema(JsonObject.required(
+            JsonString.required("level").withinValues("a", "b"), //
+            JsonNumber.optional("code").excludeValues(0, -1)));
+        String[] docs = { "{\"level\":\"c\"}", "{\"level\":\"a\",\"code\":-1}", "{\"level\":\"b\",\"code\":2}" };
+        for (String json : docs) {
+            String expected = null;
+            try {
+                validator.validate(json);
+            } catch (RuntimeException e) {
+                expected = e.getMessage();
+            }
+            ValidationResult result = validator.check(json);
+            Assert.assertEquals(json, expected, result.isValid() ? null : result.getFirstError().getMessage());
+            Assert.assertEquals(json, expected == null, validator.isValid(json));
+            Assert.assertEquals(json, expected == null, validator.isValid(json.getBytes(StandardCharsets.UTF_8)));
+        }
+        Assert.assertEquals("level", validator.check(docs[0]).getFirstError().getPath());
+        Assert.assertEquals("ValueRangeValidation", validator.check(docs[1]).getFirstError().getRule());
+    }
+
+    @Test
+    public void testCollectAllErrors() {
+        ValidationResult result = validator().check(
+            "{\"name\":\"Tom-Jerry\",\"age\":0,\"vip\":\"yes\",\"tags\":[],\"address\":{\"zip\":-1}}");
+        Assert.assertFalse(result.isValid());
+        Assert.assertFalse(result.isTruncated());
+        List<ValidationError> errors = result.getErrors();
+        Assert.assertEquals(errors.toString(), 6, errors.size());
+        assertError(errors.get(0), "name", "length", ValidationError.Code.OUT_OF_RANGE);
+        assertError(errors.get(1), "age", "range", ValidationError.Code.OUT_OF_RANGE);
+        assertError(errors.get(2), "vip", "boolean", ValidationError.Code.INVALID_FORMAT);
+        assertError(errors.get(3), "tags", "notEmpty", ValidationError.Code.EMPTY_ARRAY);
+        assertError(errors.get(4), "address.zip", "custom", ValidationError.Code.RULE_VIOLATION);
+        assertError(errors.get(5), "address.city", "required", ValidationError.Code.MISSING);
+        Assert.assertEquals("Invalid parameter `address.zip`", errors.get(4).getMessage());
+        Assert.assertEquals("Missing `address.city` parameter", errors.get(5).getMessage());
+    }
+
+    @Test
+    public void testMaxErrors() {
+        Validator validator = validator().setMaxErrors(2);
+        ValidationResult result = validator.check("{\"tags\":[1,{},[]]}");
+        Assert.assertEquals(2, result.getErrors().size());
+        Assert.assertTrue(result.isTruncated());
+        assertError(result.getErrors().get(0), "tags", "type", ValidationError.Code.TYPE_MISMATCH);
+        result = validator.check(NodeFactory.parser("{\"tags\":[1,{},[]]}"));
+        assertError(result.getErrors().get(0), "name", "required", ValidationError.Code.MISSING);
+        assertError(result.getErrors().get(1), "age", "required", ValidationError.Code.MISSING);
+        try {
+            validator.setMaxErrors(0);
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("maxErrors must be greater than 0", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testMalformedJson() {
+        Validator validator = validator();
+        String doc = "{\"name\":\"Tom\",\"age\":";
+        Assert.assertFalse(validator.isValid(doc));
+        Assert.assertFalse(validator.isValid("{\"name\":}".getBytes(StandardCharsets.UTF_8)));
+        ValidationResult result = validator.check(new ByteArrayInputStream(doc.getBytes(StandardCharsets.UTF_8)));
+        Assert.assertEquals(1, result.getErrors().size());
+        Assert.assertEquals(ValidationError.Code.MALFORMED_JSON, result.getFirstError().getCode());
+        // Violations found before the syntax error are kept
+        result = validator.check("{\"name\":\"Tom-Jerry\",\"age\":");
+        Assert.assertEquals(ValidationError.Code.OUT_OF_RANGE, result.getErrors().get(0).getCode());
+        Assert.assertEquals(ValidationError.Code.MALFORMED_JSON, result.getErrors().get(1).getCode());
+    }
+
+    @Test
+    public void testObjectGraph() {
+        Validator validator = validator();
+        Map<String, Object> user = new HashMap<>();
+        user.put("name", "Tom");
+        user.put("age", 10);
+        user.put("tags", Collections.singletonList("a"));
+        Assert.assertTrue(validator.isValid((Object) user));
+        Assert.assertTrue(validator.check((Object) user).isValid());
+        user.put("age", 101);
+        user.put("tags", Collections.emptyList());
+        Assert.assertFalse(validator.isValid((Object) user));
+        ValidationResult result = validator.check((Object) user);
+        Assert.assertEquals(2, result.getErrors().size());
+        assertError(result.getErrors().get(0), "age", "range", ValidationError.Code.OUT_OF_RANGE);
+        assertError(result.getErrors().get(1), "tags", "notEmpty", ValidationError.Code.EMPTY_ARRAY);
+    }
+
+    private static List<String> sorted(ValidationResult result) {
+        List<String> errors = new ArrayList<>();
+        result.getErrors().forEach(error -> errors.add(error.toString()));
+        Collections.sort(errors);
+        return errors;
+    }
+
+    private static void assertError(ValidationError error, String path, String rule, ValidationError.Code code) {
+        Assert.assertEquals(path, error.getPath());
+        Assert.assertEquals(rule, error.getRule());
+        Assert.assertEquals(code, error.getCode());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package cn.taskflow.jcv.validation;
+
+import cn.taskflow.jcv.core.JsonNumber;
+import cn.taskflow.jcv.core.JsonObject;
+import cn.taskflow.jcv.core.JsonString;
+import cn.taskflow.jcv.encode.NodeFactory;
+import cn.taskflow.jcv.exception.ValidationException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+/**
+ * @author SHOUSHEN.LUAN
+ * @since 2026-10-16
+ */
+public class ValueRangeValidationTest {
+    @Test
+    public void testTypedValues() {
+        JsonNumber id = JsonNumber.required("id");
+        id.withinValues(1, 2L, 3.5f, "4");
+        JsonObject schema = JsonObject.required(id, JsonString.optional("name").withinValues("a", "b"));
+        JsonObject copy = (JsonObject) schema.clone();
+        long[] ids = new long[100_000];
+        for (int i = 0; i < ids.length; i++) {
+            ids[i] = 1_000_000_000_000L + i * 7;
+            id.withinValues(ids[i]);
+        }
+        id.withinValues(new BigDecimal("0.1"), new BigInteger("123456789012345678901234567890"));
+        id.excludeValues(2);
+        // Repeated calls merge into a single rule
+        Assert.assertEquals(1, id.getValidationRules().size());
+
+        Validator validator = Validator.fromSchema(schema);
+        for (String value : new String[] { "1", "1.0", "\"1\"", "3.5", "4", "1000000000007", "0.10",
+                "123456789012345678901234567890" }) {
+            Assert.assertTrue(value, validator.isValid(NodeFactory.parser("{\"id\":" + value + "}")));
+        }
+        for (String value : new String[] { "2", "3", "3.4", "5", "\"x\"", "true", "1000000000008" }) {
+            Assert.assertFalse(value, validator.isValid(NodeFactory.parser("{\"id\":" + value + "}")));
+        }
+        Assert.assertTrue(validator.isValid(NodeFactory.parser("{\"id\":1,\"name\":\"b\"}")));
+        Assert.assertFalse(validator.isValid(NodeFactory.parser("{\"id\":1,\"name\":\"c\"}")));
+        try {
+            validator.validate("{\"id\":2}");
+            Assert.fail();
+        } catch (ValidationException e) {
+            Assert.assertEquals("The parameter field:'id' is out of the legal range", e.getMessage());
+        }
+
+        // The clone kept the values it was copied with
+        Validator copied = Validator.fromSchema(copy);
+        Assert.assertTrue(copied.isValid(NodeFactory.parser("{\"id\":2}")));
+        Assert.assertFalse(copied.isValid(NodeFactory.parser("{\"id\":1000000000007}")));
+        try {
+            JsonNumber.required("n").withinValues("abc");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            Assert.assertEquals("Invalid number value: 'abc'", e.getMessage());
+        }
+    }
+
+    @Test
+    public void testLongBoundaries() {
+        JsonNumber n = JsonNumber.required("n");
+        n.withinValues(Long.MAX_VALUE, Long.MIN_VALUE, 15, "1E+30", "1.50", "-0.0");
+        Validator validator = Validator.fromSchema(JsonObject.required(n));
+        for (String value : new String[] { "9223372036854775807", "-9223372036854775808", "15", "1.5E1", "150E-1",
+                "1E30", "1000000000000000000000000000000", "1.5", "1.500", "0", "0.000" }) {
+            Assert.assertTrue(value, validator.isValid(NodeFactory.parser("{\"n\":" + value + "}")));
+        }
+        for (String value : new String[] { "9223372036854775808", "-9223372036854775809", "15.01", "1E31", "1E-30",
+                "1.51", "1E+2147483647" }) {
+            Assert.assertFalse(value, validator.isValid(NodeFactory.parser("{\"n\":" + value + "}")));
+        }
+    }
+
+    @Test
+    public void testCopiesChangeTheirOwnValues() {
+        JsonString name = JsonString.required("name");
+        name.withinValues("a");
+        JsonString copy = (JsonString) name.clone();
+        name.withinValues("b");
+        copy.withinValues("c");
+        JsonString second = (JsonString) copy.clone();
+        copy.withinValues("d");
+
+        Validator source = Validator.fromSchema(JsonObject.required(name));
+        Validator copied = Validator.fromSchema(JsonObject.required(copy));
+        Validator cloned = Validator.fromSchema(JsonObject.required(second));
+        String[] values = { "a", "b", "c", "d" };
+        boolean[][] expected = { { true, true, false, false }, { true, false, true, true },
+                { true, false, true, false } };
+        Validator[] validators = { source, copied, cloned };
+        for (int i = 0; i < validators.length; i++) {
+            for (int j = 0; j < values.length; j++) {
+                Assert.assertEquals(i + ":" + values[j], expected[i][j],
+                    validators[i].isValid(NodeFactory.parser("{\"name\":\"" + values[j] + "\"}")));
+            }
+        }
+    }
+}